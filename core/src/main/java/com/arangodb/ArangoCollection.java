@@ -26,6 +26,7 @@ import com.arangodb.util.RawData;
 
 import javax.annotation.concurrent.ThreadSafe;
 import java.util.Collection;
+import java.util.Iterator;
 
 /**
  * Interface for operations on ArangoDB collection level.
@@ -171,6 +172,41 @@ public interface ArangoCollection extends ArangoSerdeAccessor {
      */
     DocumentImportEntity importDocuments(Iterable<?> values, DocumentImportOptions options);
 
+    /**
+     * Inserts the documents provided by the given iterator, splitting them into batches according to the given
+     * {@link BulkWriteOptions}. Up to {@link BulkWriteOptions#getMaxInFlight()} batches are sent concurrently. The
+     * results of all the batches are aggregated in the order of the iterator. If a batch fails, no further batches
+     * are sent and the exception is rethrown; the batches already completed are not rolled back.
+     * To avoid accumulating the results of many documents, set {@link DocumentCreateOptions#silent(Boolean)}.
+     *
+     * @param values      documents to insert (POJO or {@link com.arangodb.util.RawData}), the iterator can be consumed
+     *                    from other threads, but never concurrently
+     * @param bulkOptions batching options, can be null
+     * @param options     Additional options, can be null
+     * @return aggregated results of the batches
+     * @see <a href="https://docs.arango.ai/arangodb/stable/develop/http-api/documents/#create-multiple-documents">API
+     * Documentation</a>
+     */
+    MultiDocumentEntity<DocumentCreateEntity<Void>> insertDocuments(
+            Iterator<?> values, BulkWriteOptions bulkOptions, DocumentCreateOptions options);
+
+    /**
+     * Bulk imports the documents provided by the given iterator, splitting them into batches according to the given
+     * {@link BulkWriteOptions}. Up to {@link BulkWriteOptions#getMaxInFlight()} batches are sent concurrently. If
+     * {@link DocumentImportOptions#overwrite(Boolean)} is set, only the first batch truncates the collection and the
+     * other ones are sent after it has completed. {@link DocumentImportOptions#complete(Boolean)} applies to every
+     * batch separately. If a batch fails, no further batches are sent and the exception is rethrown.
+     *
+     * @param values      documents to import (POJO or {@link com.arangodb.util.RawData}), the iterator can be consumed
+     *                    from other threads, but never concurrently
+     * @param bulkOptions batching options, can be null
+     * @param options     Additional options, can be null
+     * @return aggregated information about the import of the batches
+     * @see <a href="https://docs.arango.ai/arangodb/stable/develop/http-api/import/#import-json-data-as-documents">API
+     * Documentation</a>
+     */
+    DocumentImportEntity importDocuments(Iterator<?> values, BulkWriteOptions bulkOptions, DocumentImportOptions options);
+
     /**
      * Bulk imports the given values into the collection.
      *
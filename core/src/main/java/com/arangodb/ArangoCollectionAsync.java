@@ -26,6 +26,7 @@ import com.arangodb.util.RawData;
 
 import javax.annotation.concurrent.ThreadSafe;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -44,6 +45,24 @@ public interface ArangoCollectionAsync extends ArangoSerdeAccessor {
      */
     String name();
 
+    /**
+     * Returns a view of this collection, sending the concurrent invocations of
+     * {@link #getDocument(String, Class, DocumentReadOptions)} and
+     * {@link #insertDocument(Object, DocumentCreateOptions, Class)} (and their overloads) as multi-document requests.
+     * Operations with the same target type and options are collected in batches, within the window defined by the
+     * given options, and every operation is completed with its own result or error.
+     * <p>
+     * Reads with {@code ifMatch}, {@code ifNoneMatch} or {@code fields} and silent inserts are not coalesced. All the
+     * other operations are delegated to this collection.
+     * <p>
+     * The returned instance should be shared by all the threads accessing the collection, since operations are only
+     * coalesced within the same instance.
+     *
+     * @param options coalescing options
+     * @return coalescing view of this collection
+     */
+    ArangoCollectionAsync coalescing(DocumentCoalescingOptions options);
+
     /**
      * Asynchronous version of {@link ArangoCollection#insertDocument(Object)}
      */
@@ -97,6 +116,18 @@ public interface ArangoCollectionAsync extends ArangoSerdeAccessor {
      */
     CompletableFuture<DocumentImportEntity> importDocuments(Iterable<?> values, DocumentImportOptions options);
 
+    /**
+     * Asynchronous version of {@link ArangoCollection#insertDocuments(Iterator, BulkWriteOptions, DocumentCreateOptions)}
+     */
+    CompletableFuture<MultiDocumentEntity<DocumentCreateEntity<Void>>> insertDocuments(
+            Iterator<?> values, BulkWriteOptions bulkOptions, DocumentCreateOptions options);
+
+    /**
+     * Asynchronous version of {@link ArangoCollection#importDocuments(Iterator, BulkWriteOptions, DocumentImportOptions)}
+     */
+    CompletableFuture<DocumentImportEntity> importDocuments(
+            Iterator<?> values, BulkWriteOptions bulkOptions, DocumentImportOptions options);
+
     /**
      * Asynchronous version of {@link ArangoCollection#importDocuments(RawData)}
      */
@@ -443,7 +443,8 @@ public interface ArangoDB extends ArangoSerdeAccessor {
             return new ArangoDBImpl(
                     config,
                     protocol,
-                    hostHandler
+                    hostHandler,
+                    connectionFactory
             );
         }
 
@@ -679,9 +680,23 @@ public interface ArangoDB extends ArangoSerdeAccessor {
             return this;
         }
 
+        /**
+         * Sets the minimum number of connections the built in connection pool keeps open per host. They are opened in
+         * background when the driver instance is built. Further connections are opened on demand, up to
+         * {@link #maxConnections(Integer)}. Defaults to {@code 0}.
+         *
+         * @param minConnections min number of connections
+         * @return {@link ArangoDB.Builder}
+         */
+        public Builder minConnections(final Integer minConnections) {
+            config.setMinConnections(minConnections);
+            return this;
+        }
+
         /**
          * Set the time to live of an inactive connection. After this time of inactivity the connection will be
-         * closed automatically.
+         * closed automatically and removed from the connection pool, unless needed to keep
+         * {@link #minConnections(Integer)} open.
          *
          * @param connectionTtl the time to live of a connection in milliseconds
          * @return {@link ArangoDB.Builder}
@@ -756,6 +771,23 @@ public interface ArangoDB extends ArangoSerdeAccessor {
             return this;
         }
 
+        /**
+         * Enables the client-side admission control: the number of concurrent requests to each host is limited
+         * adaptively, in order to keep the server queue time, reported by the {@code X-Arango-Queue-Time-Seconds}
+         * response header, below the given target. The limit is decreased multiplicatively when the queue time exceeds
+         * the target or the host replies with {@code 503 Service Unavailable}, and increased additively otherwise.
+         * Requests exceeding the limit are queued. Disabled by default.
+         *
+         * @param targetQueueTime target server queue time, in seconds
+         * @return {@link ArangoDB.Builder}
+         * @see ArangoMetrics#getConcurrencyLimits()
+         * @since ArangoDB 3.9
+         */
+        public Builder targetQueueTime(final Double targetQueueTime) {
+            config.setTargetQueueTime(targetQueueTime);
+            return this;
+        }
+
         /**
          * Sets the serde for the user data.
          * This is used to serialize and deserialize all the data payload such as:
@@ -852,6 +884,18 @@ public interface ArangoDB extends ArangoSerdeAccessor {
             return this;
         }
 
+        /**
+         * Sets the collector receiving the request metrics: latency, payload sizes, connection pool wait time,
+         * redirects, failovers and server queue time. (default: {@link MetricsCollector#NOOP})
+         *
+         * @param metricsCollector metrics collector
+         * @return {@link ArangoDB.Builder}
+         */
+        public Builder metricsCollector(final MetricsCollector metricsCollector) {
+            config.setMetricsCollector(metricsCollector);
+            return this;
+        }
+
         @UnstableApi
         protected ProtocolProvider protocolProvider(Protocol protocol) {
             ServiceLoader<ProtocolProvider> loader = ServiceLoader.load(ProtocolProvider.class);
@@ -886,6 +930,9 @@ public interface ArangoDB extends ArangoSerdeAccessor {
                     case ROUND_ROBIN:
                         hostHandler = new RoundRobinHostHandler(hostResolver);
                         break;
+                    case LEAST_LOADED:
+                        hostHandler = new LeastLoadedHostHandler(hostResolver);
+                        break;
                     case NONE:
                     default:
                         hostHandler = new FallbackHostHandler(hostResolver);
@@ -154,6 +154,27 @@ public interface ArangoDatabaseAsync extends ArangoSerdeAccessor {
 
     <T> CompletableFuture<ArangoCursorAsync<T>> query(String query, Class<T> type);
 
+    /**
+     * Returns a publisher of the results of the query. The query is executed for each subscriber upon its first
+     * request, and the following batches are fetched from the server only as the subscriber demand requires them.
+     * Cancelling the subscription closes the cursor on the server.
+     *
+     * @param query    An AQL query string
+     * @param type     The type of the result (POJO or {@link com.arangodb.util.RawData})
+     * @param bindVars key/value pairs defining the variables to bind the query to
+     * @param options  Additional options that will be passed to the query API, can be null
+     * @return publisher of the query results
+     * @see <a href="https://docs.arango.ai/arangodb/stable/develop/http-api/queries/aql-queries/#create-a-cursor">API
+     * Documentation</a>
+     */
+    <T> ArangoPublisher<T> queryPublisher(String query, Class<T> type, Map<String, ?> bindVars, AqlQueryOptions options);
+
+    <T> ArangoPublisher<T> queryPublisher(String query, Class<T> type, AqlQueryOptions options);
+
+    <T> ArangoPublisher<T> queryPublisher(String query, Class<T> type, Map<String, ?> bindVars);
+
+    <T> ArangoPublisher<T> queryPublisher(String query, Class<T> type);
+
     <T> CompletableFuture<ArangoCursorAsync<T>> cursor(String cursorId, Class<T> type);
 
     <T> CompletableFuture<ArangoCursorAsync<T>> cursor(String cursorId, Class<T> type, AqlQueryOptions options);
@@ -34,4 +34,14 @@ public interface ArangoMetrics {
      * @return queue time metrics
      */
     QueueTimeMetrics getQueueTime();
+
+    /**
+     * @return connection slots metrics
+     */
+    ConnectionSlotMetrics getConnectionSlots();
+
+    /**
+     * @return client-side admission control metrics
+     */
+    ConcurrencyLimitMetrics getConcurrencyLimits();
 }
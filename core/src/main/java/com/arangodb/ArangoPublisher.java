@@ -0,0 +1,92 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+/**
+ * Publisher of a potentially unbounded number of elements, delivered according to the demand received from its
+ * subscribers. It follows the <a href="https://www.reactive-streams.org">Reactive Streams</a> specification and has
+ * the same contract of {@code java.util.concurrent.Flow.Publisher}, which is not available in Java 8. It can therefore
+ * be adapted to reactive libraries by delegating {@link Subscriber} and {@link Subscription} to their equivalents.
+ *
+ * @param <T> type of the published elements
+ */
+public interface ArangoPublisher<T> {
+
+    /**
+     * Adds the given subscriber. Every subscription is independent of the others.
+     *
+     * @param subscriber subscriber to be notified
+     */
+    void subscribe(Subscriber<? super T> subscriber);
+
+    /**
+     * Receiver of the elements of an {@link ArangoPublisher}.
+     *
+     * @param <T> type of the received elements
+     */
+    interface Subscriber<T> {
+
+        /**
+         * Invoked before any other method, no elements are delivered until {@link Subscription#request(long)} is
+         * invoked.
+         *
+         * @param subscription the subscription
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Invoked with the next element.
+         *
+         * @param item the element
+         */
+        void onNext(T item);
+
+        /**
+         * Invoked upon an unrecoverable error, no other methods are invoked afterward.
+         *
+         * @param throwable the error
+         */
+        void onError(Throwable throwable);
+
+        /**
+         * Invoked when all the elements have been delivered, no other methods are invoked afterward.
+         */
+        void onComplete();
+    }
+
+    /**
+     * Link between an {@link ArangoPublisher} and a {@link Subscriber}.
+     */
+    interface Subscription {
+
+        /**
+         * Adds {@code n} elements to the demand of the subscriber.
+         *
+         * @param n number of elements, must be greater than {@code 0}
+         */
+        void request(long n);
+
+        /**
+         * Stops the delivery of the elements and releases the related resources.
+         */
+        void cancel();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import com.arangodb.config.HostDescription;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Map;
+
+/**
+ * Gauges of the client-side admission control, enabled by {@link ArangoDB.Builder#targetQueueTime(Double)}.
+ */
+@ThreadSafe
+public interface ConcurrencyLimitMetrics {
+
+    /**
+     * @return the current limit of concurrent requests for each host contacted so far, empty if the admission
+     * control is disabled
+     */
+    Map<HostDescription, Integer> getLimits();
+
+    /**
+     * @return number of requests sent and not yet completed, over all hosts
+     */
+    int getInFlight();
+
+    /**
+     * @return number of requests waiting to be admitted, over all hosts
+     */
+    int getQueued();
+
+}
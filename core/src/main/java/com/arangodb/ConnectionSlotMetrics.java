@@ -0,0 +1,49 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Gauges of the connection slots, i.e. the requests that can be sent concurrently over the open connections: 1 per
+ * connection for HTTP/1.1 (or the pipelining limit), the allowed concurrent streams for HTTP/2 and VST. For HTTP/2,
+ * the slots of each connection are sized according to the settings advertised by the server and to the observed
+ * response sizes.
+ */
+@ThreadSafe
+public interface ConnectionSlotMetrics {
+
+    /**
+     * @return number of open connections
+     */
+    int getConnections();
+
+    /**
+     * @return number of slots of the open connections
+     */
+    int getSlots();
+
+    /**
+     * @return number of slots in use by pending requests
+     */
+    int getSlotsInUse();
+
+}
@@ -0,0 +1,106 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import com.arangodb.config.HostDescription;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Receives the measurements taken by the driver while executing requests, to export them to a metrics library (e.g.
+ * Micrometer or OpenTelemetry). All methods have empty default implementations, so that implementations can override
+ * only the ones they are interested in.
+ * <p>
+ * The methods are invoked on the request path, possibly from I/O threads, therefore implementations must be
+ * thread-safe and must not block. When no collector is configured, {@link #NOOP} is used and no measurement is
+ * taken at all.
+ *
+ * @see ArangoDB.Builder#metricsCollector(MetricsCollector)
+ */
+@ThreadSafe
+public interface MetricsCollector {
+
+    /**
+     * Collector discarding all the measurements.
+     */
+    MetricsCollector NOOP = new MetricsCollector() {
+    };
+
+    /**
+     * Invoked when a request is sent to a host, once for each attempt.
+     *
+     * @param host target host
+     */
+    default void requestStarted(HostDescription host) {
+    }
+
+    /**
+     * Invoked when a request attempt is completed, either with a response or with a failure.
+     *
+     * @param host          target host
+     * @param method        request method, e.g. {@code GET}
+     * @param endpoint      first two segments of the request path, e.g. {@code /_api/document}
+     * @param status        response status code, or {@code 0} if no response was received
+     * @param durationNanos time elapsed from sending the request to receiving the response, in nanoseconds
+     * @param requestBytes  size of the request body
+     * @param responseBytes size of the response body
+     */
+    default void requestCompleted(HostDescription host, String method, String endpoint, int status,
+                                  long durationNanos, long requestBytes, long responseBytes) {
+    }
+
+    /**
+     * Invoked when a connection slot is acquired from the connection pool.
+     *
+     * @param host      host of the connection pool
+     * @param waitNanos time spent waiting for a free slot, in nanoseconds
+     */
+    default void connectionAcquired(HostDescription host, long waitNanos) {
+    }
+
+    /**
+     * Invoked when a request is redirected to another host, e.g. to the leader in an Active Failover deployment.
+     *
+     * @param from host that replied with the redirect
+     * @param to   redirect target
+     */
+    default void redirected(HostDescription from, HostDescription to) {
+    }
+
+    /**
+     * Invoked when a request attempt failed and the request is retried on the next host.
+     *
+     * @param from  host of the failed attempt
+     * @param cause failure
+     */
+    default void failedOver(HostDescription from, Throwable cause) {
+    }
+
+    /**
+     * Invoked for each response carrying the server queue time.
+     *
+     * @param seconds value of the {@code X-Arango-Queue-Time-Seconds} response header
+     * @see QueueTimeMetrics
+     */
+    default void queueTime(double seconds) {
+    }
+
+}
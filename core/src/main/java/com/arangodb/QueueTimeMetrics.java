@@ -45,4 +45,27 @@ public interface QueueTimeMetrics {
      * prior to 3.9).
      */
     double getAvg();
+
+    /**
+     * @return the exponentially time-decayed average of the observed values, in which a value observed 10 seconds
+     * ago weighs about 37% of a value observed now, 0.0 if no value has been observed
+     */
+    double getDecayedAvg();
+
+    /**
+     * @param p percentile, between 0.0 and 1.0 (e.g. 0.99)
+     * @return the given percentile of the values observed in the last 10 to 20 seconds, with a relative error below
+     * 12.5%, 0.0 if no value has been observed
+     */
+    double getPercentile(double p);
+
+    /**
+     * Suggests the fraction of the requests that the client should send, in order to bring the server queue time
+     * back to the given target. Clients can poll this value and delay or reject requests accordingly.
+     *
+     * @param target target queue time, in seconds
+     * @return 1.0 if the {@linkplain #getDecayedAvg() decayed average} is not above {@code target}, otherwise the ratio
+     * between {@code target} and the decayed average
+     */
+    double getThrottle(double target);
 }
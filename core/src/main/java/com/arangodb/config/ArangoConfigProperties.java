@@ -31,12 +31,14 @@ public interface ArangoConfigProperties {
     String KEY_CONNECTION_WINDOW_SIZE = "connectionWindowSize";
     String KEY_INITIAL_WINDOW_SIZE = "initialWindowSize";
     String KEY_MAX_CONNECTIONS = "maxConnections";
+    String KEY_MIN_CONNECTIONS = "minConnections";
     String KEY_CONNECTION_TTL = "connectionTtl";
     String KEY_KEEP_ALIVE_INTERVAL = "keepAliveInterval";
     String KEY_ACQUIRE_HOST_LIST = "acquireHostList";
     String KEY_ACQUIRE_HOST_LIST_INTERVAL = "acquireHostListInterval";
     String KEY_LOAD_BALANCING_STRATEGY = "loadBalancingStrategy";
     String KEY_RESPONSE_QUEUE_TIME_SAMPLES = "responseQueueTimeSamples";
+    String KEY_TARGET_QUEUE_TIME = "targetQueueTime";
     String KEY_COMPRESSION = "compression";
     String KEY_COMPRESSION_THRESHOLD = "compressionThreshold";
     String KEY_COMPRESSION_LEVEL = "compressionLevel";
@@ -159,6 +161,10 @@ public interface ArangoConfigProperties {
         return Optional.empty();
     }
 
+    default Optional<Integer> getMinConnections() {
+        return Optional.empty();
+    }
+
     default Optional<Long> getConnectionTtl() {
         return Optional.empty();
     }
@@ -183,6 +189,10 @@ public interface ArangoConfigProperties {
         return Optional.empty();
     }
 
+    default Optional<Double> getTargetQueueTime() {
+        return Optional.empty();
+    }
+
     default Optional<Compression> getCompression() {
         return Optional.empty();
     }
@@ -24,5 +24,11 @@ package com.arangodb.entity;
  * @author Mark Vollmary
  */
 public enum LoadBalancingStrategy {
-    NONE, ROUND_ROBIN, ONE_RANDOM
+    NONE, ROUND_ROBIN, ONE_RANDOM,
+
+    /**
+     * Sends every request to the least loaded of two randomly chosen hosts, according to their outstanding requests
+     * and their recent response times.
+     */
+    LEAST_LOADED
 }
@@ -25,12 +25,18 @@ import com.arangodb.ArangoDBException;
 import com.arangodb.ArangoDatabaseAsync;
 import com.arangodb.entity.*;
 import com.arangodb.model.*;
+import com.arangodb.internal.util.DocumentUtil;
 import com.arangodb.util.RawData;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
 
 import static com.arangodb.internal.ArangoErrors.*;
 import static com.arangodb.internal.serde.SerdeUtils.constructParametricType;
@@ -42,10 +48,22 @@ import static com.arangodb.internal.serde.SerdeUtils.constructParametricType;
 public class ArangoCollectionAsyncImpl extends InternalArangoCollection implements ArangoCollectionAsync {
 
     private final ArangoDatabaseAsync db;
+    private final DocumentCoalescer readCoalescer;
+    private final DocumentCoalescer insertCoalescer;
 
     protected ArangoCollectionAsyncImpl(final ArangoDatabaseAsyncImpl db, final String name) {
         super(db, db.name(), name);
         this.db = db;
+        readCoalescer = null;
+        insertCoalescer = null;
+    }
+
+    private ArangoCollectionAsyncImpl(final ArangoCollectionAsyncImpl collection,
+                                      final DocumentCoalescingOptions options) {
+        super(collection, collection.dbName, collection.name);
+        db = collection.db;
+        readCoalescer = new DocumentCoalescer(options, true, executorAsync().continuationExecutor());
+        insertCoalescer = new DocumentCoalescer(options, false, executorAsync().continuationExecutor());
     }
 
     @Override
@@ -53,8 +71,16 @@ public class ArangoCollectionAsyncImpl extends InternalArangoCollection implemen
         return db;
     }
 
+    @Override
+    public ArangoCollectionAsync coalescing(final DocumentCoalescingOptions options) {
+        return new ArangoCollectionAsyncImpl(this, options != null ? options : new DocumentCoalescingOptions());
+    }
+
     @Override
     public CompletableFuture<DocumentCreateEntity<Void>> insertDocument(final Object value) {
+        if (insertCoalescer != null) {
+            return coalescedInsertDocument(value, new DocumentCreateOptions(), Void.class);
+        }
         return executorAsync().execute(() -> insertDocumentRequest(value, new DocumentCreateOptions()),
                 constructParametricType(DocumentCreateEntity.class, Void.class));
     }
@@ -68,10 +94,24 @@ public class ArangoCollectionAsyncImpl extends InternalArangoCollection implemen
     @Override
     public <T> CompletableFuture<DocumentCreateEntity<T>> insertDocument(final T value, final DocumentCreateOptions options,
                                                                          final Class<T> type) {
+        if (insertCoalescer != null && (options == null || !Boolean.TRUE.equals(options.getSilent()))) {
+            return coalescedInsertDocument(value, options != null ? options : new DocumentCreateOptions(), type);
+        }
         return executorAsync().execute(() -> insertDocumentRequest(value, options),
                 constructParametricType(DocumentCreateEntity.class, type));
     }
 
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<DocumentCreateEntity<T>> coalescedInsertDocument(
+            final Object value, final DocumentCreateOptions options, final Class<T> type) {
+        final List<Object> group = Arrays.asList(type, options.getWaitForSync(), options.getReturnNew(),
+                options.getReturnOld(), options.getOverwriteMode(), options.getMergeObjects(), options.getKeepNull(),
+                options.getRefillIndexCaches(), options.getVersionAttribute(), options.getStreamTransactionId());
+        return insertCoalescer.add(group, value, values -> executorAsync()
+                        .execute(() -> insertDocumentsRequest(values, options), insertDocumentsResponseDeserializer(type)))
+                .thenApply(r -> (DocumentCreateEntity<T>) r);
+    }
+
     @Override
     public CompletableFuture<MultiDocumentEntity<DocumentCreateEntity<Void>>> insertDocuments(RawData values) {
         return executorAsync()
@@ -119,6 +159,18 @@ public class ArangoCollectionAsyncImpl extends InternalArangoCollection implemen
         return executorAsync().execute(() -> importDocumentsRequest(values, options), DocumentImportEntity.class);
     }
 
+    @Override
+    public CompletableFuture<MultiDocumentEntity<DocumentCreateEntity<Void>>> insertDocuments(
+            final Iterator<?> values, final BulkWriteOptions bulkOptions, final DocumentCreateOptions options) {
+        return insertDocumentsAsync(values, bulkOptions, options);
+    }
+
+    @Override
+    public CompletableFuture<DocumentImportEntity> importDocuments(
+            final Iterator<?> values, final BulkWriteOptions bulkOptions, final DocumentImportOptions options) {
+        return importDocumentsAsync(values, bulkOptions, options);
+    }
+
     @Override
     public CompletableFuture<DocumentImportEntity> importDocuments(RawData values) {
         return importDocuments(values, new DocumentImportOptions());
@@ -136,6 +188,21 @@ public class ArangoCollectionAsyncImpl extends InternalArangoCollection implemen
 
     @Override
     public <T> CompletableFuture<T> getDocument(final String key, final Class<T> type, final DocumentReadOptions options) {
+        if (readCoalescer != null && (options == null || (options.getIfMatch() == null
+                && options.getIfNoneMatch() == null && options.getFields() == null))) {
+            return coalescedGetDocument(key, type, options != null ? options : new DocumentReadOptions());
+        }
+        if (isProjection(options)) {
+            try {
+                DocumentUtil.validateDocumentKey(key);
+            } catch (ArangoDBException e) {
+                CompletableFuture<T> failed = new CompletableFuture<>();
+                failed.completeExceptionally(e);
+                return failed;
+            }
+            return getDocumentsProjectionAsync(Collections.singletonList(key), type, options)
+                    .thenApply(InternalArangoCollection::projectedDocument);
+        }
         return executorAsync().execute(() -> getDocumentRequest(key, options), getDocumentResponseDeserializer(type))
                 .exceptionally(err -> {
                     Throwable e = err instanceof CompletionException ? err.getCause() : err;
@@ -152,6 +219,22 @@ public class ArangoCollectionAsyncImpl extends InternalArangoCollection implemen
                 });
     }
 
+    private <T> CompletableFuture<T> coalescedGetDocument(final String key, final Class<T> type,
+                                                          final DocumentReadOptions options) {
+        try {
+            DocumentUtil.validateDocumentKey(key);
+        } catch (ArangoDBException e) {
+            CompletableFuture<T> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+        final List<Object> group = Arrays.asList(type, options.getAllowDirtyRead(), options.getStreamTransactionId());
+        return readCoalescer.add(group, key, keys -> executorAsync()
+                        .execute(() -> getDocumentsRequest(keys.stream().map(String.class::cast)
+                                .collect(Collectors.toList()), options), getDocumentsResponseDeserializer(type)))
+                .thenApply(type::cast);
+    }
+
     @Override
     public <T> CompletableFuture<MultiDocumentEntity<T>> getDocuments(final Iterable<String> keys, final Class<T> type) {
         return getDocuments(keys, type, new DocumentReadOptions());
@@ -160,6 +243,9 @@ public class ArangoCollectionAsyncImpl extends InternalArangoCollection implemen
     @Override
     public <T> CompletableFuture<MultiDocumentEntity<T>> getDocuments(
             final Iterable<String> keys, final Class<T> type, final DocumentReadOptions options) {
+        if (isProjection(options)) {
+            return getDocumentsProjectionAsync(keys, type, options);
+        }
         return executorAsync().execute(() -> getDocumentsRequest(keys, options), getDocumentsResponseDeserializer(type));
     }
 
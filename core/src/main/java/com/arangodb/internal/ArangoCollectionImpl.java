@@ -24,10 +24,15 @@ import com.arangodb.ArangoCollection;
 import com.arangodb.ArangoDBException;
 import com.arangodb.ArangoDatabase;
 import com.arangodb.entity.*;
+import com.arangodb.internal.util.DocumentUtil;
 import com.arangodb.model.*;
 import com.arangodb.util.RawData;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static com.arangodb.internal.ArangoErrors.*;
 import static com.arangodb.internal.serde.SerdeUtils.constructParametricType;
@@ -116,6 +121,29 @@ public class ArangoCollectionImpl extends InternalArangoCollection implements Ar
         return executorSync().execute(importDocumentsRequest(values, options), DocumentImportEntity.class);
     }
 
+    @Override
+    public MultiDocumentEntity<DocumentCreateEntity<Void>> insertDocuments(
+            final Iterator<?> values, final BulkWriteOptions bulkOptions, final DocumentCreateOptions options) {
+        return join(insertDocumentsAsync(values, bulkOptions, options));
+    }
+
+    @Override
+    public DocumentImportEntity importDocuments(
+            final Iterator<?> values, final BulkWriteOptions bulkOptions, final DocumentImportOptions options) {
+        return join(importDocumentsAsync(values, bulkOptions, options));
+    }
+
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ArangoDBException.of(e);
+        } catch (ExecutionException e) {
+            throw ArangoDBException.of(e.getCause());
+        }
+    }
+
     @Override
     public DocumentImportEntity importDocuments(RawData values) {
         return importDocuments(values, new DocumentImportOptions());
@@ -133,6 +161,10 @@ public class ArangoCollectionImpl extends InternalArangoCollection implements Ar
 
     @Override
     public <T> T getDocument(final String key, final Class<T> type, final DocumentReadOptions options) {
+        if (isProjection(options)) {
+            DocumentUtil.validateDocumentKey(key);
+            return projectedDocument(getDocumentsProjection(Collections.singletonList(key), type, options));
+        }
         try {
             return executorSync().execute(getDocumentRequest(key, options), getDocumentResponseDeserializer(type));
         } catch (final ArangoDBException e) {
@@ -154,6 +186,9 @@ public class ArangoCollectionImpl extends InternalArangoCollection implements Ar
     @Override
     public <T> MultiDocumentEntity<T> getDocuments(
             final Iterable<String> keys, final Class<T> type, final DocumentReadOptions options) {
+        if (isProjection(options)) {
+            return getDocumentsProjection(keys, type, options);
+        }
         return executorSync().execute(getDocumentsRequest(keys, options), getDocumentsResponseDeserializer(type));
     }
 
@@ -22,6 +22,7 @@ package com.arangodb.internal;
 
 import com.arangodb.entity.CursorEntity;
 
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Mark Vollmary
@@ -30,6 +31,8 @@ public interface ArangoCursorExecute<T> {
 
     CursorEntity<T> next(String id, String nextBatchId);
 
+    CompletableFuture<CursorEntity<T>> nextAsync(String id, String nextBatchId);
+
     void close(String id);
 
 }
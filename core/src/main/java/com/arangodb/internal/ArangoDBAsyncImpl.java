@@ -64,7 +64,8 @@ public class ArangoDBAsyncImpl extends InternalArangoDB implements ArangoDBAsync
 
     @Override
     public ArangoMetrics metrics() {
-        return new ArangoMetricsImpl(executorAsync().getQueueTimeMetrics());
+        return new ArangoMetricsImpl(executorAsync().getQueueTimeMetrics(), executorAsync().getConnectionSlotMetrics(),
+                executorAsync().getConcurrencyLimitMetrics());
     }
 
     @Override
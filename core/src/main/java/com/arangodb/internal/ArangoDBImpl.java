@@ -24,6 +24,7 @@ import com.arangodb.*;
 import com.arangodb.entity.*;
 import com.arangodb.internal.config.ArangoConfig;
 import com.arangodb.internal.net.CommunicationProtocol;
+import com.arangodb.internal.net.ConnectionFactory;
 import com.arangodb.internal.net.HostHandler;
 import com.arangodb.internal.serde.SerdeUtils;
 import com.arangodb.model.*;
@@ -41,12 +42,21 @@ public class ArangoDBImpl extends InternalArangoDB implements ArangoDB {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ArangoDBImpl.class);
     private final HostHandler hostHandler;
+    private final ConnectionFactory connectionFactory;
 
     public ArangoDBImpl(final ArangoConfig config,
                         final CommunicationProtocol protocol,
                         final HostHandler hostHandler) {
+        this(config, protocol, hostHandler, null);
+    }
+
+    public ArangoDBImpl(final ArangoConfig config,
+                        final CommunicationProtocol protocol,
+                        final HostHandler hostHandler,
+                        final ConnectionFactory connectionFactory) {
         super(protocol, config);
         this.hostHandler = hostHandler;
+        this.connectionFactory = connectionFactory;
         LOGGER.debug("ArangoDB Client is ready to use");
     }
 
@@ -57,7 +67,13 @@ public class ArangoDBImpl extends InternalArangoDB implements ArangoDB {
 
     @Override
     public void shutdown() {
-        executorSync().disconnect();
+        try {
+            executorSync().disconnect();
+        } finally {
+            if (connectionFactory != null) {
+                connectionFactory.close();
+            }
+        }
     }
 
     @Override
@@ -78,7 +94,8 @@ public class ArangoDBImpl extends InternalArangoDB implements ArangoDB {
 
     @Override
     public ArangoMetrics metrics() {
-        return new ArangoMetricsImpl(executorSync().getQueueTimeMetrics());
+        return new ArangoMetricsImpl(executorSync().getQueueTimeMetrics(), executorSync().getConnectionSlotMetrics(),
+                executorSync().getConcurrencyLimitMetrics());
     }
 
     @Override
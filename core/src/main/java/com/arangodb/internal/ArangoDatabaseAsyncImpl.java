@@ -24,6 +24,7 @@ import com.arangodb.*;
 import com.arangodb.entity.*;
 import com.arangodb.entity.arangosearch.analyzer.SearchAnalyzer;
 import com.arangodb.internal.cursor.ArangoCursorAsyncImpl;
+import com.arangodb.internal.cursor.ArangoCursorPublisher;
 import com.arangodb.internal.net.HostHandle;
 import com.arangodb.model.*;
 import com.arangodb.model.arangosearch.AnalyzerDeleteOptions;
@@ -172,8 +173,8 @@ public class ArangoDatabaseAsyncImpl extends InternalArangoDatabase implements A
             final String query, final Class<T> type, final Map<String, ?> bindVars, final AqlQueryOptions options) {
         final InternalRequest request = queryRequest(query, bindVars, options);
         final HostHandle hostHandle = new HostHandle();
-        return executorAsync().execute(() -> request, cursorEntityDeserializer(type), hostHandle)
-                .thenApply(res -> new ArangoCursorAsyncImpl<>(this, res, type, hostHandle, options.getAllowRetry()));
+        return executorAsync().execute(() -> request, cursorEntityDeserializer(type, options), hostHandle)
+                .thenApply(res -> new ArangoCursorAsyncImpl<>(this, res, type, hostHandle, options));
     }
 
     @Override
@@ -191,6 +192,28 @@ public class ArangoDatabaseAsyncImpl extends InternalArangoDatabase implements A
         return query(query, type, null, new AqlQueryOptions());
     }
 
+    @Override
+    public <T> ArangoPublisher<T> queryPublisher(
+            final String query, final Class<T> type, final Map<String, ?> bindVars, final AqlQueryOptions options) {
+        final AqlQueryOptions opt = options != null ? options : new AqlQueryOptions();
+        return new ArangoCursorPublisher<>(() -> query(query, type, bindVars, opt));
+    }
+
+    @Override
+    public <T> ArangoPublisher<T> queryPublisher(String query, Class<T> type, AqlQueryOptions options) {
+        return queryPublisher(query, type, null, options);
+    }
+
+    @Override
+    public <T> ArangoPublisher<T> queryPublisher(String query, Class<T> type, Map<String, ?> bindVars) {
+        return queryPublisher(query, type, bindVars, new AqlQueryOptions());
+    }
+
+    @Override
+    public <T> ArangoPublisher<T> queryPublisher(String query, Class<T> type) {
+        return queryPublisher(query, type, null, new AqlQueryOptions());
+    }
+
     @Override
     public <T> CompletableFuture<ArangoCursorAsync<T>> cursor(final String cursorId, final Class<T> type) {
         return cursor(cursorId, type, null, new AqlQueryOptions());
@@ -212,9 +235,9 @@ public class ArangoDatabaseAsyncImpl extends InternalArangoDatabase implements A
         HostHandle hostHandle = new HostHandle();
         return executorAsync()
                 .execute(() -> queryNextRequest(cursorId, options, nextBatchId),
-                        cursorEntityDeserializer(type),
+                        cursorEntityDeserializer(type, options),
                         hostHandle)
-                .thenApply(res -> new ArangoCursorAsyncImpl<>(this, res, type, hostHandle, nextBatchId != null));
+                .thenApply(res -> new ArangoCursorAsyncImpl<>(this, res, type, hostHandle, options));
     }
 
     @Override
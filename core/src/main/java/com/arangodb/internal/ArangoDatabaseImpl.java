@@ -32,6 +32,7 @@ import com.arangodb.model.arangosearch.SearchAliasCreateOptions;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static com.arangodb.internal.ArangoErrors.*;
 import static com.arangodb.internal.serde.SerdeUtils.constructListType;
@@ -165,7 +166,7 @@ public class ArangoDatabaseImpl extends InternalArangoDatabase implements Arango
             final String query, final Class<T> type, final Map<String, ?> bindVars, final AqlQueryOptions options) {
         final InternalRequest request = queryRequest(query, bindVars, options);
         final HostHandle hostHandle = new HostHandle();
-        final CursorEntity<T> result = executorSync().execute(request, cursorEntityDeserializer(type), hostHandle);
+        final CursorEntity<T> result = executorSync().execute(request, cursorEntityDeserializer(type, options), hostHandle);
         return createCursor(result, type, options, hostHandle);
     }
 
@@ -205,7 +206,7 @@ public class ArangoDatabaseImpl extends InternalArangoDatabase implements Arango
         HostHandle hostHandle = new HostHandle();
         CursorEntity<T> result = executorSync().execute(
                 queryNextRequest(cursorId, options, nextBatchId),
-                cursorEntityDeserializer(type),
+                cursorEntityDeserializer(type, options),
                 hostHandle);
         return createCursor(result, type, options, hostHandle);
     }
@@ -220,7 +221,13 @@ public class ArangoDatabaseImpl extends InternalArangoDatabase implements Arango
         final ArangoCursorExecute<T> execute = new ArangoCursorExecute<T>() {
             @Override
             public CursorEntity<T> next(final String id, final String nextBatchId) {
-                return executorSync().execute(queryNextRequest(id, options, nextBatchId), cursorEntityDeserializer(type), hostHandle);
+                return executorSync().execute(queryNextRequest(id, options, nextBatchId), cursorEntityDeserializer(type, options), hostHandle);
+            }
+
+            @Override
+            public CompletableFuture<CursorEntity<T>> nextAsync(final String id, final String nextBatchId) {
+                return executorAsync().execute(() -> queryNextRequest(id, options, nextBatchId),
+                        cursorEntityDeserializer(type, options), hostHandle);
             }
 
             @Override
@@ -235,7 +242,7 @@ public class ArangoDatabaseImpl extends InternalArangoDatabase implements Arango
                 }
             }
         };
-        return new ArangoCursorImpl<>(execute, type, result, options.getAllowRetry());
+        return new ArangoCursorImpl<>(execute, type, result, options);
     }
 
     @Override
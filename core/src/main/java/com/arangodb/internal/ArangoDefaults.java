@@ -50,6 +50,7 @@ public final class ArangoDefaults {
     public static final String DEFAULT_USER = "root";
     public static final Integer DEFAULT_TIMEOUT = 0;
     public static final Long DEFAULT_CONNECTION_TTL_HTTP = 30_000L;
+    public static final Integer DEFAULT_MIN_CONNECTIONS = 0;
     public static final Boolean DEFAULT_USE_SSL = false;
     public static final String DEFAULT_SSL_PROTOCOL = "TLS";
     public static final String DEFAULT_SSL_TRUST_STORE_TYPE = "PKCS12";
@@ -21,6 +21,9 @@
 package com.arangodb.internal;
 
 import com.arangodb.ArangoDBException;
+import com.arangodb.ConcurrencyLimitMetrics;
+import com.arangodb.ConnectionSlotMetrics;
+import com.arangodb.MetricsCollector;
 import com.arangodb.QueueTimeMetrics;
 import com.arangodb.internal.config.ArangoConfig;
 import com.arangodb.internal.net.CommunicationProtocol;
@@ -36,12 +39,18 @@ public abstract class ArangoExecutor {
 
     protected final CommunicationProtocol protocol;
     private final QueueTimeMetricsImpl qtMetrics;
+    private final ConnectionSlotMetrics connectionSlotMetrics;
+    private final ConcurrencyLimitMetrics concurrencyLimitMetrics;
+    private final MetricsCollector metricsCollector;
     private final InternalSerde serde;
     private final String timeoutS;
 
     protected ArangoExecutor(final CommunicationProtocol protocol, final ArangoConfig config ) {
         this.protocol = protocol;
         qtMetrics = new QueueTimeMetricsImpl(config.getResponseQueueTimeSamples());
+        connectionSlotMetrics = config.getConnectionSlotMetrics();
+        concurrencyLimitMetrics = config.getConcurrencyLimitMetrics();
+        metricsCollector = config.getMetricsCollector();
         serde = config.getInternalSerde();
         timeoutS = config.getTimeout() >= 1000 ? Integer.toString(config.getTimeout() / 1000) : null;
     }
@@ -65,7 +74,9 @@ public abstract class ArangoExecutor {
     protected final void interceptResponse(InternalResponse response) {
         String queueTime = response.getMeta("X-Arango-Queue-Time-Seconds");
         if (queueTime != null) {
-            qtMetrics.add(Double.parseDouble(queueTime));
+            double value = QueueTimeMetricsImpl.parseSeconds(queueTime);
+            qtMetrics.add(value);
+            metricsCollector.queueTime(value);
         }
     }
 
@@ -78,6 +89,14 @@ public abstract class ArangoExecutor {
         return qtMetrics;
     }
 
+    public ConnectionSlotMetrics getConnectionSlotMetrics() {
+        return connectionSlotMetrics;
+    }
+
+    public ConcurrencyLimitMetrics getConcurrencyLimitMetrics() {
+        return concurrencyLimitMetrics;
+    }
+
     public interface ResponseDeserializer<T> {
         T deserialize(InternalResponse response);
     }
@@ -29,6 +29,7 @@ import com.arangodb.RequestContext;
 import java.lang.reflect.Type;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -44,6 +45,14 @@ public class ArangoExecutorAsync extends ArangoExecutor {
         downstreamExecutor = config.getAsyncExecutor();
     }
 
+    /**
+     * @return the configured async executor, or else the common pool, to run driver continuations which must not
+     * block the I/O threads
+     */
+    Executor continuationExecutor() {
+        return downstreamExecutor != null ? downstreamExecutor : ForkJoinPool.commonPool();
+    }
+
     public <T> CompletableFuture<T> execute(final Supplier<InternalRequest> requestSupplier, final Type type) {
         return execute(requestSupplier, type, null);
     }
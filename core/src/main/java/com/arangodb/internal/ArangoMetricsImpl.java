@@ -21,6 +21,8 @@
 package com.arangodb.internal;
 
 import com.arangodb.ArangoMetrics;
+import com.arangodb.ConcurrencyLimitMetrics;
+import com.arangodb.ConnectionSlotMetrics;
 import com.arangodb.QueueTimeMetrics;
 
 /**
@@ -29,9 +31,14 @@ import com.arangodb.QueueTimeMetrics;
 public class ArangoMetricsImpl implements ArangoMetrics {
 
     private final QueueTimeMetrics queueTimeMetrics;
+    private final ConnectionSlotMetrics connectionSlotMetrics;
+    private final ConcurrencyLimitMetrics concurrencyLimitMetrics;
 
-    public ArangoMetricsImpl(QueueTimeMetrics queueTimeMetrics) {
+    public ArangoMetricsImpl(QueueTimeMetrics queueTimeMetrics, ConnectionSlotMetrics connectionSlotMetrics,
+                             ConcurrencyLimitMetrics concurrencyLimitMetrics) {
         this.queueTimeMetrics = queueTimeMetrics;
+        this.connectionSlotMetrics = connectionSlotMetrics;
+        this.concurrencyLimitMetrics = concurrencyLimitMetrics;
     }
 
     @Override
@@ -39,4 +46,14 @@ public class ArangoMetricsImpl implements ArangoMetrics {
         return queueTimeMetrics;
     }
 
+    @Override
+    public ConnectionSlotMetrics getConnectionSlots() {
+        return connectionSlotMetrics;
+    }
+
+    @Override
+    public ConcurrencyLimitMetrics getConcurrencyLimits() {
+        return concurrencyLimitMetrics;
+    }
+
 }
@@ -0,0 +1,165 @@
+package com.arangodb.internal;
+
+import com.arangodb.internal.serde.InternalSerde;
+import com.arangodb.model.BulkWriteOptions;
+import com.arangodb.util.RawBytes;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+/**
+ * Splits the documents provided by an iterator into batches and sends them, keeping up to
+ * {@link BulkWriteOptions#getMaxInFlight()} batches in flight.
+ * Every document is serialized as it is pulled from the iterator, so that batches can be cut by serialized size.
+ * Batch results are merged into the aggregated result in batch order, as soon as all the previous ones are merged.
+ * The first failure stops pulling further documents and fails the returned future.
+ * <p>
+ * The iterator is only accessed by one thread at a time and never while holding the lock of the writer. After the
+ * first batches, which are filled by the caller thread, completed batches are refilled on the given executor, so
+ * that pulling and serializing documents does not happen on the I/O threads completing the requests.
+ *
+ * @param <R> result type
+ */
+final class BulkWriter<R> {
+
+    private final InternalSerde serde;
+    private final Iterator<?> values;
+    private final int batchSize;
+    private final long batchBytes;
+    private final int maxInFlight;
+    private final Executor executor;
+    private final BiFunction<Integer, List<RawBytes>, CompletableFuture<R>> sender;
+    private final BiConsumer<R, R> merger;
+    private final R result;
+    private final CompletableFuture<R> future = new CompletableFuture<>();
+    private final Map<Integer, R> pending = new HashMap<>();
+
+    private int sent;
+    private int merged;
+    private int inFlight;
+    private boolean filling;
+    private boolean exhausted;
+    private boolean exclusiveFirst;
+
+    /**
+     * @param executor executor refilling the batches as they complete
+     * @param sender   sends the batch with the given index
+     * @param merger   merges the result of a batch into the aggregated result
+     * @param result   initial aggregated result
+     */
+    BulkWriter(final InternalSerde serde,
+               final Iterator<?> values,
+               final BulkWriteOptions options,
+               final Executor executor,
+               final BiFunction<Integer, List<RawBytes>, CompletableFuture<R>> sender,
+               final BiConsumer<R, R> merger,
+               final R result) {
+        this.serde = serde;
+        this.values = values;
+        batchSize = Math.max(1, options.getBatchSize());
+        batchBytes = Math.max(1, options.getBatchBytes());
+        maxInFlight = Math.max(1, options.getMaxInFlight());
+        this.executor = executor;
+        this.sender = sender;
+        this.merger = merger;
+        this.result = result;
+    }
+
+    /**
+     * Sends the first batch alone and the following ones only after it has completed, e.g. when the first batch
+     * truncates the collection.
+     */
+    BulkWriter<R> exclusiveFirst() {
+        exclusiveFirst = true;
+        return this;
+    }
+
+    CompletableFuture<R> execute() {
+        fill();
+        return future;
+    }
+
+    private void fill() {
+        while (true) {
+            synchronized (this) {
+                if (filling || future.isDone()) {
+                    return;
+                }
+                if (exhausted) {
+                    if (inFlight > 0) {
+                        return;
+                    }
+                    break;
+                }
+                if (inFlight >= maxInFlight || (exclusiveFirst && merged == 0 && sent == 1)) {
+                    return;
+                }
+                filling = true;
+            }
+            final List<RawBytes> batch;
+            try {
+                batch = nextBatch();
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+                return;
+            }
+            final int idx;
+            synchronized (this) {
+                filling = false;
+                if (batch.isEmpty()) {
+                    exhausted = true;
+                    continue;
+                }
+                idx = sent++;
+                inFlight++;
+            }
+            final CompletableFuture<R> batchFuture;
+            try {
+                batchFuture = sender.apply(idx, batch);
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+                return;
+            }
+            batchFuture.whenCompleteAsync((r, e) -> onBatch(idx, r, e), executor);
+        }
+        future.complete(result);
+    }
+
+    private List<RawBytes> nextBatch() {
+        List<RawBytes> batch = new ArrayList<>();
+        long bytes = 0;
+        while (batch.size() < batchSize && bytes < batchBytes && values.hasNext()) {
+            byte[] doc = serde.serializeUserData(values.next());
+            bytes += doc.length;
+            batch.add(RawBytes.of(doc));
+        }
+        return batch;
+    }
+
+    private void onBatch(final int idx, final R batchResult, final Throwable e) {
+        if (e != null) {
+            future.completeExceptionally(e);
+            return;
+        }
+        synchronized (this) {
+            inFlight--;
+            pending.put(idx, batchResult);
+            while (pending.containsKey(merged)) {
+                R next = pending.remove(merged);
+                if (next != null) {
+                    merger.accept(result, next);
+                }
+                merged++;
+            }
+        }
+        fill();
+    }
+
+}
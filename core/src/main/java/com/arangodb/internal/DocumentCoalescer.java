@@ -0,0 +1,173 @@
+package com.arangodb.internal;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.internal.util.SharedScheduler;
+import com.arangodb.model.DocumentCoalescingOptions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static com.arangodb.internal.ArangoErrors.ERROR_ARANGO_DOCUMENT_NOT_FOUND;
+
+/**
+ * Collects concurrent single-document operations into batches, which are sent as multi-document requests.
+ * <p>
+ * Operations are grouped by a key identifying the request they are compatible with, e.g. the same target type and
+ * options. A batch is sent when it reaches {@link DocumentCoalescingOptions#getMaxBatchSize()} operations, or
+ * {@link DocumentCoalescingOptions#getMaxDelayMicros()} after its first operation was added, by the sender of its
+ * first operation. Full batches are sent by the thread adding their last operation, timed out batches are handed over
+ * by the timer thread to the given executor, since sending serializes the batch. Timeouts run on the
+ * {@link SharedScheduler}, held while a batch is pending.
+ * <p>
+ * The i-th entry of {@link MultiDocumentEntity#getDocumentsAndErrors()} completes the future of the i-th operation,
+ * errors complete it exceptionally and a failed request fails the futures of all the operations.
+ */
+final class DocumentCoalescer {
+
+    private final int maxBatchSize;
+    private final long maxDelayMicros;
+    private final boolean nullIfNotFound;
+    private final Executor executor;
+    private final Map<Object, Batch> batches = new HashMap<>();
+
+    /**
+     * @param nullIfNotFound whether not found documents complete the operation futures with {@code null}, instead of
+     *                       completing them exceptionally
+     * @param executor       executor sending the timed out batches
+     */
+    DocumentCoalescer(final DocumentCoalescingOptions options, final boolean nullIfNotFound, final Executor executor) {
+        maxBatchSize = Math.max(1, options.getMaxBatchSize());
+        maxDelayMicros = Math.max(0, options.getMaxDelayMicros());
+        this.nullIfNotFound = nullIfNotFound;
+        this.executor = executor;
+    }
+
+    /**
+     * @param group  key of the batch to join
+     * @param value  document key or document of the operation
+     * @param sender sends the values of a batch, used if the operation starts a new batch
+     * @return future completed with the result of the operation
+     */
+    CompletableFuture<Object> add(final Object group, final Object value,
+                                  final Function<List<Object>, CompletableFuture<? extends MultiDocumentEntity<?>>> sender) {
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+        Batch full = null;
+        synchronized (this) {
+            Batch batch = batches.get(group);
+            if (batch == null) {
+                batch = new Batch(group, sender);
+                batches.put(group, batch);
+                if (maxBatchSize > 1) {
+                    final Batch b = batch;
+                    ScheduledExecutorService timer = SharedScheduler.acquire();
+                    batch.timeout = timer.schedule(() -> {
+                        try {
+                            flush(b);
+                        } finally {
+                            SharedScheduler.release();
+                        }
+                    }, maxDelayMicros, TimeUnit.MICROSECONDS);
+                }
+            }
+            batch.values.add(value);
+            batch.futures.add(future);
+            if (batch.values.size() >= maxBatchSize) {
+                batches.remove(group);
+                full = batch;
+            }
+        }
+        if (full != null) {
+            // otherwise released by the timeout task
+            if (full.timeout != null && full.timeout.cancel(false)) {
+                SharedScheduler.release();
+            }
+            send(full);
+        }
+        return future;
+    }
+
+    private void flush(final Batch batch) {
+        synchronized (this) {
+            // already sent, if it has been filled up in the meantime
+            if (batches.get(batch.group) != batch) {
+                return;
+            }
+            batches.remove(batch.group);
+        }
+        try {
+            executor.execute(() -> send(batch));
+        } catch (RejectedExecutionException e) {
+            fail(batch.futures, ArangoDBException.of(e));
+        }
+    }
+
+    private void send(final Batch batch) {
+        final CompletableFuture<? extends MultiDocumentEntity<?>> result;
+        try {
+            result = batch.sender.apply(batch.values);
+        } catch (Exception e) {
+            fail(batch.futures, ArangoDBException.of(e));
+            return;
+        }
+        result.whenComplete((r, e) -> {
+            if (e != null) {
+                fail(batch.futures, ArangoDBException.of(e instanceof CompletionException ? e.getCause() : e));
+            } else {
+                complete(batch.futures, r.getDocumentsAndErrors());
+            }
+        });
+    }
+
+    private void complete(final List<CompletableFuture<Object>> futures, final List<Object> results) {
+        if (results.size() != futures.size()) {
+            fail(futures, new ArangoDBException("Expected " + futures.size() + " results, got " + results.size()));
+            return;
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            final Object r = results.get(i);
+            if (r instanceof ErrorEntity) {
+                final ErrorEntity error = (ErrorEntity) r;
+                if (nullIfNotFound && error.getErrorNum() == ERROR_ARANGO_DOCUMENT_NOT_FOUND) {
+                    futures.get(i).complete(null);
+                } else {
+                    futures.get(i).completeExceptionally(new ArangoDBException(error));
+                }
+            } else {
+                futures.get(i).complete(r);
+            }
+        }
+    }
+
+    private static void fail(final List<CompletableFuture<Object>> futures, final Throwable t) {
+        for (CompletableFuture<Object> f : futures) {
+            f.completeExceptionally(t);
+        }
+    }
+
+    private static final class Batch {
+        private final Object group;
+        private final Function<List<Object>, CompletableFuture<? extends MultiDocumentEntity<?>>> sender;
+        private final List<Object> values = new ArrayList<>();
+        private final List<CompletableFuture<Object>> futures = new ArrayList<>();
+        private ScheduledFuture<?> timeout;
+
+        private Batch(final Object group,
+                      final Function<List<Object>, CompletableFuture<? extends MultiDocumentEntity<?>>> sender) {
+            this.group = group;
+            this.sender = sender;
+        }
+    }
+
+}
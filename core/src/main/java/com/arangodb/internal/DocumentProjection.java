@@ -0,0 +1,145 @@
+package com.arangodb.internal;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.internal.util.BoundedCache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AQL query reading selected attributes of documents by key, used for {@link com.arangodb.model.DocumentReadOptions}
+ * with fields.
+ * <p>
+ * The projection of each list of fields is compiled once into an AQL expression, e.g. for the fields {@code a} and
+ * {@code b.c}:
+ * <pre>
+ * MERGE(KEEP(d, @attr2), {[@attr0]: KEEP(d[@attr0], @attr1)})
+ * </pre>
+ * where the attribute names are bind parameters, so that they need no escaping. The system attributes {@code _key},
+ * {@code _id} and {@code _rev} are always kept, so that projections are told apart from errors like the documents
+ * returned by the multi-document API.
+ */
+final class DocumentProjection {
+    private static final int MAX_CACHED_PROJECTIONS = 256;
+    private static final List<String> SYSTEM_ATTRIBUTES = Arrays.asList("_key", "_id", "_rev");
+    private static final String NOT_FOUND =
+            "{error: true, code: 404, errorNum: 1202, errorMessage: \"document not found\"}";
+    private static final String CONFLICT =
+            "{error: true, code: 412, errorNum: 1200, errorMessage: \"conflict, _rev values do not match\"}";
+    private static final BoundedCache<List<String>, DocumentProjection> CACHE =
+            new BoundedCache<>(MAX_CACHED_PROJECTIONS, DocumentProjection::new);
+
+    private final String expression;
+    private final Map<String, Object> bindVars = new HashMap<>();
+
+    private DocumentProjection(final List<String> fields) {
+        Node root = new Node();
+        for (String s : SYSTEM_ATTRIBUTES) {
+            root.add(new String[]{s}, 0);
+        }
+        for (String field : fields) {
+            String[] path = field.split("\\.", -1);
+            for (String segment : path) {
+                if (segment.isEmpty()) {
+                    throw new ArangoDBException("Invalid field path: " + field);
+                }
+            }
+            root.add(path, 0);
+        }
+        expression = compile("d", root);
+    }
+
+    static DocumentProjection of(final List<String> fields) {
+        return CACHE.get(fields);
+    }
+
+    /**
+     * @param ifMatch     whether the query has the bind parameter {@code @ifMatch}, matched against the document
+     *                    revision
+     * @param ifNoneMatch whether the query has the bind parameter {@code @ifNoneMatch}, not matched against the
+     *                    document revision
+     * @return query returning, for each key in {@code @keys} and in the same order, the projection of the document in
+     * the collection {@code @collection}, or else an error object like the ones returned by the multi-document API
+     */
+    String query(final boolean ifMatch, final boolean ifNoneMatch) {
+        StringBuilder sb = new StringBuilder("FOR key IN @keys LET d = DOCUMENT(@collection, key) RETURN d == null ? ")
+                .append(NOT_FOUND).append(" : ");
+        if (ifMatch || ifNoneMatch) {
+            sb.append('(');
+            if (ifMatch) {
+                sb.append("d._rev == @ifMatch");
+            }
+            if (ifNoneMatch) {
+                sb.append(ifMatch ? " && " : "").append("d._rev != @ifNoneMatch");
+            }
+            return sb.append(" ? ").append(expression).append(" : ").append(CONFLICT).append(')').toString();
+        }
+        return sb.append(expression).toString();
+    }
+
+    /**
+     * @return bind parameters of the attribute names
+     */
+    Map<String, Object> bindVars() {
+        return Collections.unmodifiableMap(bindVars);
+    }
+
+    private String compile(final String var, final Node node) {
+        List<String> leaves = new ArrayList<>();
+        StringBuilder children = new StringBuilder();
+        for (Map.Entry<String, Node> e : node.children.entrySet()) {
+            if (e.getValue() == null) {
+                leaves.add(e.getKey());
+            } else {
+                String param = bind(e.getKey());
+                String child = var + "[" + param + "]";
+                children.append(children.length() == 0 ? "{" : ", ")
+                        .append("[").append(param).append("]: ")
+                        .append(compile(child, e.getValue()));
+            }
+        }
+        if (children.length() > 0) {
+            children.append("}");
+        }
+        if (leaves.isEmpty()) {
+            return children.toString();
+        }
+        String keep = "KEEP(" + var + ", " + bind(leaves) + ")";
+        return children.length() == 0 ? keep : "MERGE(" + keep + ", " + children + ")";
+    }
+
+    private String bind(final Object value) {
+        String name = "attr" + bindVars.size();
+        bindVars.put(name, value);
+        return "@" + name;
+    }
+
+    /**
+     * Node of the tree of the field paths, where {@code null} children are kept as a whole.
+     */
+    private static final class Node {
+        private final Map<String, Node> children = new LinkedHashMap<>();
+
+        void add(final String[] path, final int i) {
+            String name = path[i];
+            if (i == path.length - 1) {
+                children.put(name, null);
+            } else if (!children.containsKey(name)) {
+                Node child = new Node();
+                children.put(name, child);
+                child.add(path, i + 1);
+            } else {
+                Node child = children.get(name);
+                if (child != null) {
+                    child.add(path, i + 1);
+                }
+            }
+        }
+    }
+
+}
@@ -23,15 +23,23 @@ package com.arangodb.internal;
 import com.arangodb.ArangoDBException;
 import com.arangodb.entity.*;
 import com.arangodb.internal.ArangoExecutor.ResponseDeserializer;
+import com.arangodb.internal.cursor.entity.ProjectionCursorEntity;
 import com.arangodb.internal.util.DocumentUtil;
 import com.arangodb.internal.util.RequestUtils;
 import com.arangodb.model.*;
 import com.arangodb.util.RawData;
 import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static com.arangodb.internal.serde.SerdeUtils.constructParametricType;
 
@@ -41,12 +49,15 @@ import static com.arangodb.internal.serde.SerdeUtils.constructParametricType;
  */
 public abstract class InternalArangoCollection extends ArangoExecuteable {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(InternalArangoCollection.class);
     protected static final String PATH_API_COLLECTION = "/_api/collection";
     private static final String COLLECTION = "collection";
     private static final String PATH_API_DOCUMENT = "/_api/document";
     private static final String PATH_API_INDEX = "/_api/index";
     private static final String PATH_API_IMPORT = "/_api/import";
     private static final String PATH_API_USER = "/_api/user";
+    private static final String PATH_API_CURSOR = "/_api/cursor";
+    private static final int MAX_PROJECTION_BATCH_SIZE = 1000;
     private static final String MERGE_OBJECTS = "mergeObjects";
     private static final String KEEP_NULL = "keepNull";
     private static final String REFILL_INDEX_CACHES = "refillIndexCaches";
@@ -87,7 +98,7 @@ public abstract class InternalArangoCollection extends ArangoExecuteable {
 
     protected <T> InternalRequest insertDocumentsRequest(final Iterable<T> values, final DocumentCreateOptions options) {
         InternalRequest request = createInsertDocumentRequest(options);
-        request.setBody(getSerde().serializeCollectionUserData(values));
+        request.setBodyChunks(getSerde().serializeCollectionUserDataChunks(values));
         return request;
     }
 
@@ -122,7 +133,7 @@ public abstract class InternalArangoCollection extends ArangoExecuteable {
 
     protected InternalRequest importDocumentsRequest(final Iterable<?> values, final DocumentImportOptions options) {
         return importDocumentsRequest(options).putQueryParam("type", ImportType.list)
-                .setBody(getSerde().serializeCollectionUserData(values));
+                .setBodyChunks(getSerde().serializeCollectionUserDataChunks(values));
     }
 
     protected InternalRequest importDocumentsRequest(final DocumentImportOptions options) {
@@ -134,10 +145,62 @@ public abstract class InternalArangoCollection extends ArangoExecuteable {
                 .putQueryParam("complete", params.getComplete()).putQueryParam("details", params.getDetails());
     }
 
+    protected CompletableFuture<MultiDocumentEntity<DocumentCreateEntity<Void>>> insertDocumentsAsync(
+            final Iterator<?> values, final BulkWriteOptions bulkOptions, final DocumentCreateOptions options) {
+        return new BulkWriter<>(getSerde(), values, bulkOptions != null ? bulkOptions : new BulkWriteOptions(),
+                executorAsync().continuationExecutor(),
+                (idx, batch) -> executorAsync().execute(() -> insertDocumentsRequest(batch, options),
+                        insertDocumentsResponseDeserializer(Void.class)),
+                InternalArangoCollection::mergeMultiDocument,
+                new MultiDocumentEntity<>()
+        ).execute();
+    }
+
+    protected CompletableFuture<DocumentImportEntity> importDocumentsAsync(
+            final Iterator<?> values, final BulkWriteOptions bulkOptions, final DocumentImportOptions options) {
+        // only the first batch may truncate the collection
+        final boolean overwrite = options != null && Boolean.TRUE.equals(options.getOverwrite());
+        BulkWriter<DocumentImportEntity> writer = new BulkWriter<>(getSerde(), values,
+                bulkOptions != null ? bulkOptions : new BulkWriteOptions(),
+                executorAsync().continuationExecutor(),
+                (idx, batch) -> executorAsync().execute(() -> {
+                    InternalRequest request = importDocumentsRequest(batch, options);
+                    return overwrite && idx > 0 ? request.putQueryParam(OVERWRITE, false) : request;
+                }, DocumentImportEntity.class),
+                InternalArangoCollection::mergeImport,
+                new DocumentImportEntity()
+        );
+        return overwrite ? writer.exclusiveFirst().execute() : writer.execute();
+    }
+
+    private static <E> void mergeMultiDocument(final MultiDocumentEntity<E> result, final MultiDocumentEntity<E> batch) {
+        result.getDocuments().addAll(batch.getDocuments());
+        result.getErrors().addAll(batch.getErrors());
+        result.getDocumentsAndErrors().addAll(batch.getDocumentsAndErrors());
+    }
+
+    private static void mergeImport(final DocumentImportEntity result, final DocumentImportEntity batch) {
+        result.setCreated(sum(result.getCreated(), batch.getCreated()));
+        result.setErrors(sum(result.getErrors(), batch.getErrors()));
+        result.setEmpty(sum(result.getEmpty(), batch.getEmpty()));
+        result.setUpdated(sum(result.getUpdated(), batch.getUpdated()));
+        result.setIgnored(sum(result.getIgnored(), batch.getIgnored()));
+        if (batch.getDetails() != null) {
+            result.getDetails().addAll(batch.getDetails());
+        }
+    }
+
+    private static Integer sum(final Integer a, final Integer b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null ? a : a + b;
+    }
+
     protected InternalRequest getDocumentRequest(final String key, final DocumentReadOptions options) {
+        final DocumentReadOptions params = (options != null ? options : new DocumentReadOptions());
         final InternalRequest request = request(dbName, RequestType.GET, PATH_API_DOCUMENT,
                 DocumentUtil.createDocumentHandle(name, key));
-        final DocumentReadOptions params = (options != null ? options : new DocumentReadOptions());
         request.putHeaderParam(ArangoRequestParam.IF_NONE_MATCH, params.getIfNoneMatch());
         request.putHeaderParam(ArangoRequestParam.IF_MATCH, params.getIfMatch());
         request.putHeaderParam(TRANSACTION_ID, params.getStreamTransactionId());
@@ -174,6 +237,144 @@ public abstract class InternalArangoCollection extends ArangoExecuteable {
         };
     }
 
+    protected static boolean isProjection(final DocumentReadOptions options) {
+        return options != null && options.getFields() != null;
+    }
+
+    /**
+     * @return the document of a single key projection, or {@code null} if the result is an error
+     */
+    protected static <T> T projectedDocument(final MultiDocumentEntity<T> result) {
+        return result.getDocuments().isEmpty() ? null : result.getDocuments().get(0);
+    }
+
+    /**
+     * Reads the selected fields of the documents with an AQL query, following the cursor until exhausted.
+     */
+    protected <T> MultiDocumentEntity<T> getDocumentsProjection(final Iterable<String> keys, final Class<T> type,
+                                                                final DocumentReadOptions options) {
+        ProjectionCursorEntity<T> batch = executorSync().execute(getDocumentsProjectionRequest(keys, options),
+                getDocumentsProjectionDeserializer(type));
+        final MultiDocumentEntity<T> result = batch.getResult();
+        while (batch.hasMore()) {
+            try {
+                batch = executorSync().execute(getDocumentsProjectionNextRequest(batch, options),
+                        getDocumentsProjectionDeserializer(type));
+            } catch (final ArangoDBException e) {
+                closeDocumentsProjection(batch, options);
+                throw e;
+            }
+            mergeProjectionBatch(result, batch.getResult());
+        }
+        return result;
+    }
+
+    /**
+     * Asynchronous version of {@link #getDocumentsProjection(Iterable, Class, DocumentReadOptions)}.
+     */
+    protected <T> CompletableFuture<MultiDocumentEntity<T>> getDocumentsProjectionAsync(
+            final Iterable<String> keys, final Class<T> type, final DocumentReadOptions options) {
+        return executorAsync().execute(() -> getDocumentsProjectionRequest(keys, options),
+                        getDocumentsProjectionDeserializer(type))
+                .thenCompose(batch -> nextDocumentsProjectionAsync(batch.getResult(), batch, type, options));
+    }
+
+    private <T> CompletableFuture<MultiDocumentEntity<T>> nextDocumentsProjectionAsync(
+            final MultiDocumentEntity<T> result, final ProjectionCursorEntity<T> batch, final Class<T> type,
+            final DocumentReadOptions options) {
+        if (!batch.hasMore()) {
+            return CompletableFuture.completedFuture(result);
+        }
+        return executorAsync().execute(() -> getDocumentsProjectionNextRequest(batch, options),
+                        getDocumentsProjectionDeserializer(type))
+                .whenComplete((next, e) -> {
+                    if (e != null) {
+                        closeDocumentsProjectionAsync(batch, options);
+                    }
+                })
+                .thenCompose(next -> {
+                    mergeProjectionBatch(result, next.getResult());
+                    return nextDocumentsProjectionAsync(result, next, type, options);
+                });
+    }
+
+    private InternalRequest getDocumentsProjectionRequest(final Iterable<String> keys,
+                                                          final DocumentReadOptions options) {
+        final List<String> keyList = new ArrayList<>();
+        keys.forEach(keyList::add);
+        final DocumentProjection projection = DocumentProjection.of(options.getFields());
+        final Map<String, Object> bindVars = new HashMap<>(projection.bindVars());
+        bindVars.put("collection", name);
+        bindVars.put("keys", keyList);
+        if (options.getIfMatch() != null) {
+            bindVars.put("ifMatch", options.getIfMatch());
+        }
+        if (options.getIfNoneMatch() != null) {
+            bindVars.put("ifNoneMatch", options.getIfNoneMatch());
+        }
+        final String query = projection.query(options.getIfMatch() != null, options.getIfNoneMatch() != null);
+        final AqlQueryOptions aqlOptions = new AqlQueryOptions()
+                .batchSize(Math.max(1, Math.min(keyList.size(), MAX_PROJECTION_BATCH_SIZE)));
+        return projectionRequest(request(dbName, RequestType.POST, PATH_API_CURSOR), options)
+                .setBody(getSerde().serialize(OptionsBuilder.build(aqlOptions, query, bindVars)));
+    }
+
+    private InternalRequest getDocumentsProjectionNextRequest(final ProjectionCursorEntity<?> batch,
+                                                              final DocumentReadOptions options) {
+        return projectionRequest(
+                request(dbName, RequestType.POST, PATH_API_CURSOR, batch.getId(), batch.getNextBatchId()), options);
+    }
+
+    private void closeDocumentsProjection(final ProjectionCursorEntity<?> batch, final DocumentReadOptions options) {
+        try {
+            executorSync().execute(closeDocumentsProjectionRequest(batch, options), Void.class);
+        } catch (final ArangoDBException e) {
+            LOGGER.debug("Error closing projection cursor {}:", batch.getId(), e);
+        }
+    }
+
+    private void closeDocumentsProjectionAsync(final ProjectionCursorEntity<?> batch,
+                                               final DocumentReadOptions options) {
+        executorAsync().execute(() -> closeDocumentsProjectionRequest(batch, options), Void.class)
+                .exceptionally(e -> {
+                    LOGGER.debug("Error closing projection cursor {}:", batch.getId(), e);
+                    return null;
+                });
+    }
+
+    private InternalRequest closeDocumentsProjectionRequest(final ProjectionCursorEntity<?> batch,
+                                                            final DocumentReadOptions options) {
+        return projectionRequest(request(dbName, RequestType.DELETE, PATH_API_CURSOR, batch.getId()), options);
+    }
+
+    private static InternalRequest projectionRequest(final InternalRequest request,
+                                                     final DocumentReadOptions options) {
+        request.putHeaderParam(TRANSACTION_ID, options.getStreamTransactionId());
+        if (Boolean.TRUE.equals(options.getAllowDirtyRead())) {
+            RequestUtils.allowDirtyRead(request);
+        }
+        return request;
+    }
+
+    private <T> ResponseDeserializer<ProjectionCursorEntity<T>> getDocumentsProjectionDeserializer(
+            final Class<T> type) {
+        return (response) -> {
+            final ProjectionCursorEntity<T> batch = getSerde().deserialize(response.getBody(),
+                    constructParametricType(ProjectionCursorEntity.class, type));
+            batch.getResult().setPotentialDirtyRead(
+                    Boolean.parseBoolean(response.getMeta("X-Arango-Potential-Dirty-Read")));
+            return batch;
+        };
+    }
+
+    private static <T> void mergeProjectionBatch(final MultiDocumentEntity<T> result,
+                                                 final MultiDocumentEntity<T> batch) {
+        mergeMultiDocument(result, batch);
+        if (Boolean.TRUE.equals(batch.isPotentialDirtyRead())) {
+            result.setPotentialDirtyRead(true);
+        }
+    }
+
     protected <T> InternalRequest replaceDocumentRequest(
             final String key, final T value, final DocumentReplaceOptions options) {
         final InternalRequest request = createReplaceDocumentRequest(options, DocumentUtil.createDocumentHandle(name, key));
@@ -183,7 +384,7 @@ public abstract class InternalArangoCollection extends ArangoExecuteable {
 
     protected <T> InternalRequest replaceDocumentsRequest(final Iterable<T> values, final DocumentReplaceOptions options) {
         final InternalRequest request = createReplaceDocumentRequest(options, name);
-        request.setBody(getSerde().serializeCollectionUserData(values));
+        request.setBodyChunks(getSerde().serializeCollectionUserDataChunks(values));
         return request;
     }
 
@@ -225,7 +426,7 @@ public abstract class InternalArangoCollection extends ArangoExecuteable {
 
     protected <T> InternalRequest updateDocumentsRequest(final Iterable<T> values, final DocumentUpdateOptions options) {
         final InternalRequest request = createUpdateDocumentRequest(options, name);
-        request.setBody(getSerde().serializeCollectionUserData(values));
+        request.setBodyChunks(getSerde().serializeCollectionUserDataChunks(values));
         return request;
     }
 
@@ -267,7 +468,7 @@ public abstract class InternalArangoCollection extends ArangoExecuteable {
 
     protected <T> InternalRequest deleteDocumentsRequest(final Iterable<T> docs, final DocumentDeleteOptions options) {
         final InternalRequest request = createDeleteDocumentRequest(options, name);
-        request.setBody(getSerde().serializeCollectionUserData(docs));
+        request.setBodyChunks(getSerde().serializeCollectionUserDataChunks(docs));
         return request;
     }
 
@@ -101,7 +101,11 @@ public abstract class InternalArangoCursor<T> extends ArangoExecuteable implemen
     }
 
     protected InternalRequest queryNextRequest() {
-        return request(dbName, RequestType.POST, PATH_API_CURSOR, entity.getId(), entity.getNextBatchId());
+        return queryNextRequest(entity.getNextBatchId());
+    }
+
+    protected InternalRequest queryNextRequest(final String nextBatchId) {
+        return request(dbName, RequestType.POST, PATH_API_CURSOR, entity.getId(), nextBatchId);
     }
 
     protected InternalRequest queryCloseRequest() {
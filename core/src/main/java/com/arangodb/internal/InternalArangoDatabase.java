@@ -27,6 +27,7 @@ import com.arangodb.internal.util.RequestUtils;
 import com.arangodb.model.*;
 import com.arangodb.model.arangosearch.*;
 
+import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.Map;
 
@@ -239,8 +240,17 @@ public abstract class InternalArangoDatabase extends ArangoExecuteable {
     }
 
     public <T> ResponseDeserializer<CursorEntity<T>> cursorEntityDeserializer(final Class<T> type) {
+        return cursorEntityDeserializer(type, null);
+    }
+
+    public <T> ResponseDeserializer<CursorEntity<T>> cursorEntityDeserializer(final Class<T> type,
+                                                                             final AqlQueryOptions options) {
+        final boolean lazy = options != null && Boolean.TRUE.equals(options.getLazyDeserialization());
         return (response) -> {
-            CursorEntity<T> e = getSerde().deserialize(response.getBody(), constructParametricType(CursorEntity.class, type));
+            Type entityType = constructParametricType(CursorEntity.class, type);
+            CursorEntity<T> e = lazy
+                    ? getSerde().deserializeWithLazyUserData(response.getBody(), entityType)
+                    : getSerde().deserialize(response.getBody(), entityType);
             boolean potentialDirtyRead = Boolean.parseBoolean(response.getMeta("X-Arango-Potential-Dirty-Read"));
             e.setPotentialDirtyRead(potentialDirtyRead);
             return e;
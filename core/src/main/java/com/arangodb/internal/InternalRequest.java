@@ -21,9 +21,11 @@
 package com.arangodb.internal;
 
 import com.arangodb.arch.UsedInApi;
+import com.arangodb.internal.util.ChunkedOutputStream;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
@@ -41,6 +43,7 @@ public class InternalRequest {
     private int version = 1;
     private int type = 1;
     private byte[] body;
+    private List<byte[]> bodyChunks;
 
     public InternalRequest(final String dbName, final RequestType requestType, final String path) {
         super();
@@ -126,12 +129,37 @@ public class InternalRequest {
         return this;
     }
 
+    /**
+     * @return the body as a single array, concatenating the body chunks if the body has been set as chunks
+     */
     public byte[] getBody() {
+        if (body == null && bodyChunks != null) {
+            // replaces the chunks, so that the body is not held twice, see getBodyChunks()
+            body = ChunkedOutputStream.concat(bodyChunks);
+            bodyChunks = null;
+        }
         return body;
     }
 
     public InternalRequest setBody(final byte[] body) {
         this.body = body;
+        bodyChunks = null;
+        return this;
+    }
+
+    /**
+     * @return the body split in chunks, or {@code null} if the request has no body
+     */
+    public List<byte[]> getBodyChunks() {
+        if (bodyChunks == null && body != null) {
+            return Collections.singletonList(body);
+        }
+        return bodyChunks;
+    }
+
+    public InternalRequest setBodyChunks(final List<byte[]> bodyChunks) {
+        this.bodyChunks = bodyChunks;
+        body = null;
         return this;
     }
 
@@ -18,21 +18,46 @@
  * Copyright holder is ArangoDB GmbH, Cologne, Germany
  */
 
+
 package com.arangodb.internal;
 
 import com.arangodb.QueueTimeMetrics;
 import com.arangodb.model.QueueTimeSample;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
+ * Lock-free and, on the recording path, allocation-free queue time metrics:
+ * <ul>
+ *     <li>the last n samples, in a ring buffer</li>
+ *     <li>a log-linear histogram of the samples of the last {@link #WINDOW_NANOS} to {@code 2 * WINDOW_NANOS},
+ *     with {@link LongAdder} buckets and a relative error below 12.5%</li>
+ *     <li>an exponentially time-decayed average, with time constant {@link #WINDOW_NANOS}, computed with forward
+ *     decay: each sample is weighted by {@code exp((t - start) / WINDOW_NANOS)}, relative to the start of the current
+ *     window, so that the weighted sums can be accumulated in {@link DoubleAdder}s. They are carried over, decayed,
+ *     when the window is rotated.</li>
+ * </ul>
+ *
  * @author Michele Rastelli
  */
 public class QueueTimeMetricsImpl implements QueueTimeMetrics {
-    private final CircularFifoQueue samples;
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final double[] POW10 = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13,
+            1e14, 1e15};
+
+    private final SampleRing samples;
+    private final AtomicReference<Histogram> current = new AtomicReference<>(new Histogram(System.nanoTime()));
+    private volatile Histogram previous;
 
     public QueueTimeMetricsImpl(int queueSize) {
-        samples = new CircularFifoQueue(queueSize);
+        samples = new SampleRing(queueSize);
     }
 
     @Override
@@ -45,90 +70,243 @@ public class QueueTimeMetricsImpl implements QueueTimeMetrics {
         return samples.getAvg();
     }
 
+    @Override
+    public double getDecayedAvg() {
+        Histogram h = current.get();
+        double weight = h.weight.sum();
+        return weight > 0.0 ? h.weightedSum.sum() / weight : 0.0;
+    }
+
+    @Override
+    public double getPercentile(final double p) {
+        long now = System.nanoTime();
+        Histogram cur = current.get();
+        Histogram prev = previous;
+        long[] counts = new long[Histogram.BUCKETS];
+        long total = 0;
+        for (Histogram h : new Histogram[]{cur, prev}) {
+            if (h != null && now - h.start < 2 * WINDOW_NANOS) {
+                for (int i = 0; i < counts.length; i++) {
+                    long c = h.counts[i].sum();
+                    counts[i] += c;
+                    total += c;
+                }
+            }
+        }
+        if (total == 0) {
+            return 0.0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(1.0, Math.max(0.0, p)) * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Histogram.valueOf(i) / 1e6;
+            }
+        }
+        return Histogram.valueOf(counts.length - 1) / 1e6;
+    }
+
+    @Override
+    public double getThrottle(final double target) {
+        double avg = getDecayedAvg();
+        return avg <= target ? 1.0 : target / avg;
+    }
+
     void add(double value) {
-        add(new QueueTimeSample(System.currentTimeMillis(), value));
+        samples.add(System.currentTimeMillis(), value);
+        record(value);
     }
 
     void add(QueueTimeSample value) {
-        samples.add(value);
+        samples.add(value.timestamp, value.value);
+        record(value.value);
+    }
+
+    private void record(final double value) {
+        long now = System.nanoTime();
+        Histogram h = current.get();
+        if (now - h.start >= WINDOW_NANOS) {
+            Histogram next = new Histogram(now);
+            double decay = Math.exp(-(double) (now - h.start) / WINDOW_NANOS);
+            next.weight.add(h.weight.sum() * decay);
+            next.weightedSum.add(h.weightedSum.sum() * decay);
+            if (current.compareAndSet(h, next)) {
+                previous = h;
+            }
+            h = current.get();
+        }
+        h.record(value, now);
     }
 
     void clear() {
         samples.clear();
+        current.set(new Histogram(System.nanoTime()));
+        previous = null;
     }
 
-    private static class CircularFifoQueue {
-        private final QueueTimeSample[] elements;
-        /**
-         * Capacity of the queue.
-         */
+    /**
+     * Parses the value of the {@code X-Arango-Queue-Time-Seconds} header, which is usually a plain decimal number,
+     * without the overhead of {@link Double#parseDouble(String)}. The result is the same, since both the digits and
+     * the power of ten are exactly representable and their quotient is correctly rounded.
+     */
+    public static double parseSeconds(final String s) {
+        long mantissa = 0;
+        int scale = -1;
+        int digits = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > 15) {
+                    return Double.parseDouble(s);
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                return Double.parseDouble(s);
+            }
+        }
+        if (digits == 0) {
+            return Double.parseDouble(s);
+        }
+        return scale <= 0 ? mantissa : mantissa / POW10[scale];
+    }
+
+    /**
+     * Ring buffer of the last samples. Each slot is guarded by a sequence number: odd while being written, and
+     * {@code 2 * i + 2} once holding the i-th sample. Readers skip the slots that are being written or that have been
+     * overwritten meanwhile, writers drop their sample if the slot is still being written by a lapped writer.
+     */
+    private static final class SampleRing {
         private final int size;
-        /**
-         * Array index of the oldest queue element.
-         */
-        private int start;
-        /**
-         * Amount of elements in the queue.
-         */
-        private int count;
+        private final AtomicLong head = new AtomicLong();
+        private final AtomicLongArray seqs;
+        private final AtomicLongArray timestamps;
+        private final AtomicLongArray values;
 
-        /**
-         * Sum of the values in the queue.
-         */
-        private double sum;
+        SampleRing(final int size) {
+            this.size = size;
+            seqs = new AtomicLongArray(size);
+            timestamps = new AtomicLongArray(size);
+            values = new AtomicLongArray(size);
+        }
 
-        CircularFifoQueue(final int size) {
-            elements = new QueueTimeSample[size];
-            this.size = elements.length;
-            clear();
+        void add(final long timestamp, final double value) {
+            if (size == 0) {
+                return;
+            }
+            long i = head.getAndIncrement();
+            int slot = (int) (i % size);
+            long writing = 2 * i + 1;
+            long s = seqs.get(slot);
+            if ((s & 1) != 0 || s > writing || !seqs.compareAndSet(slot, s, writing)) {
+                return;
+            }
+            timestamps.set(slot, timestamp);
+            values.set(slot, Double.doubleToRawLongBits(value));
+            seqs.set(slot, writing + 1);
         }
 
         /**
-         * @return the average of the values in the queue, 0.0 if the queue is empty.
+         * @return the average of the samples in the buffer, 0.0 if the buffer is empty.
          */
-        synchronized double getAvg() {
-            if (count == 0) return 0.0;
-            return sum / count;
+        double getAvg() {
+            long h = head.get();
+            int count = 0;
+            double sum = 0.0;
+            for (long i = Math.max(0, h - size); i < h; i++) {
+                int slot = (int) (i % size);
+                long seq = 2 * i + 2;
+                if (seqs.get(slot) == seq) {
+                    double v = Double.longBitsToDouble(values.get(slot));
+                    if (seqs.get(slot) == seq) {
+                        sum += v;
+                        count++;
+                    }
+                }
+            }
+            return count == 0 ? 0.0 : sum / count;
         }
 
-        synchronized void clear() {
-            start = 0;
-            count = 0;
-            sum = 0.0;
-            Arrays.fill(elements, null);
+        QueueTimeSample[] getElements() {
+            long h = head.get();
+            List<QueueTimeSample> out = new ArrayList<>();
+            for (long i = Math.max(0, h - size); i < h; i++) {
+                int slot = (int) (i % size);
+                long seq = 2 * i + 2;
+                if (seqs.get(slot) == seq) {
+                    long ts = timestamps.get(slot);
+                    double v = Double.longBitsToDouble(values.get(slot));
+                    if (seqs.get(slot) == seq) {
+                        out.add(new QueueTimeSample(ts, v));
+                    }
+                }
+            }
+            return out.toArray(new QueueTimeSample[0]);
         }
 
-        /**
-         * Adds the given element to this queue. If the queue is full, the least recently added
-         * element is replaced with the given one.
-         *
-         * @param element the element to add
-         */
-        synchronized void add(final QueueTimeSample element) {
-            if (count < size) {
-                count++;
+        void clear() {
+            head.set(0);
+            for (int i = 0; i < size; i++) {
+                seqs.set(i, 0);
             }
-            QueueTimeSample overridden = elements[start];
-            if (overridden != null) {
-                sum -= overridden.value;
-            }
-            elements[start++] = element;
-            if (start >= size) {
-                start = 0;
+        }
+    }
+
+    /**
+     * Log-linear histogram of values in microseconds: exact below 8, then 8 buckets for each power of 2. It also
+     * accumulates the forward-decay weighted sums of the values, in seconds.
+     */
+    private static final class Histogram {
+        private static final int SUB_BITS = 3;
+        private static final int SUB_BUCKETS = 1 << SUB_BITS;
+        private static final int MAX_EXP = 39;
+        static final int BUCKETS = (MAX_EXP - SUB_BITS + 2) * SUB_BUCKETS;
+
+        final long start;
+        final LongAdder[] counts = new LongAdder[BUCKETS];
+        final DoubleAdder weight = new DoubleAdder();
+        final DoubleAdder weightedSum = new DoubleAdder();
+
+        Histogram(final long start) {
+            this.start = start;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = new LongAdder();
             }
-            sum += element.value;
         }
 
-        synchronized QueueTimeSample[] getElements() {
-            QueueTimeSample[] out = new QueueTimeSample[count];
-            if (count < size) {
-                System.arraycopy(elements, 0, out, 0, count);
-            } else {
-                System.arraycopy(elements, start, out, 0, size - start);
-                System.arraycopy(elements, 0, out, size - start, start);
+        void record(final double seconds, final long now) {
+            double w = Math.exp((double) (now - start) / WINDOW_NANOS);
+            weight.add(w);
+            weightedSum.add(w * seconds);
+            long micros = Math.min((long) (Math.max(0.0, seconds) * 1e6), (1L << (MAX_EXP + 1)) - 1);
+            counts[indexOf(micros)].increment();
+        }
+
+        static int indexOf(final long micros) {
+            if (micros < SUB_BUCKETS) {
+                return (int) micros;
             }
-            return out;
+            int exp = 63 - Long.numberOfLeadingZeros(micros);
+            int sub = (int) (micros >>> (exp - SUB_BITS)) & (SUB_BUCKETS - 1);
+            return (exp - SUB_BITS + 1) * SUB_BUCKETS + sub;
         }
 
+        /**
+         * @return the midpoint of the given bucket, in microseconds
+         */
+        static double valueOf(final int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+            int exp = index / SUB_BUCKETS + SUB_BITS - 1;
+            int sub = index % SUB_BUCKETS;
+            long width = 1L << (exp - SUB_BITS);
+            return ((long) (SUB_BUCKETS + sub) << (exp - SUB_BITS)) + width / 2.0;
+        }
     }
 }
@@ -1,6 +1,7 @@
 package com.arangodb.internal.config;
 
 import com.arangodb.Compression;
+import com.arangodb.MetricsCollector;
 import com.arangodb.Protocol;
 import com.arangodb.arch.UsedInApi;
 import com.arangodb.config.ArangoConfigProperties;
@@ -8,6 +9,8 @@ import com.arangodb.config.HostDescription;
 import com.arangodb.config.ProtocolConfig;
 import com.arangodb.entity.LoadBalancingStrategy;
 import com.arangodb.internal.ArangoDefaults;
+import com.arangodb.internal.net.ConcurrencyLimitMetricsImpl;
+import com.arangodb.internal.net.ConnectionSlotMetricsImpl;
 import com.arangodb.internal.serde.ContentTypeFactory;
 import com.arangodb.internal.serde.InternalSerde;
 import com.arangodb.internal.serde.InternalSerdeProvider;
@@ -51,6 +54,7 @@ public class ArangoConfig {
     private Integer connectionWindowSize;
     private Integer initialWindowSize;
     private Integer maxConnections;
+    private Integer minConnections;
     private Long connectionTtl;
     private Integer keepAliveInterval;
     private Boolean acquireHostList;
@@ -60,12 +64,16 @@ public class ArangoConfig {
     private ArangoSerde userDataSerde;
     private Class<? extends ArangoSerdeProvider> serdeProviderClass;
     private Integer responseQueueTimeSamples;
+    private Double targetQueueTime;
     private Module protocolModule;
     private Executor asyncExecutor;
     private Compression compression;
     private Integer compressionThreshold;
     private Integer compressionLevel;
     private ProtocolConfig protocolConfig;
+    private MetricsCollector metricsCollector = MetricsCollector.NOOP;
+    private final ConnectionSlotMetricsImpl connectionSlotMetrics = new ConnectionSlotMetricsImpl();
+    private final ConcurrencyLimitMetricsImpl concurrencyLimitMetrics = new ConcurrencyLimitMetricsImpl();
 
     public ArangoConfig() {
         // load default properties
@@ -98,6 +106,7 @@ public class ArangoConfig {
         initialWindowSize = properties.getInitialWindowSize().orElse(ArangoDefaults.DEFAULT_INITIAL_WINDOW_SIZE);
         // FIXME: make maxConnections field Optional
         maxConnections = properties.getMaxConnections().orElse(null);
+        minConnections = properties.getMinConnections().orElse(ArangoDefaults.DEFAULT_MIN_CONNECTIONS);
         // FIXME: make connectionTtl field Optional
         connectionTtl = properties.getConnectionTtl().orElse(null);
         // FIXME: make keepAliveInterval field Optional
@@ -106,6 +115,7 @@ public class ArangoConfig {
         acquireHostListInterval = properties.getAcquireHostListInterval().orElse(ArangoDefaults.DEFAULT_ACQUIRE_HOST_LIST_INTERVAL);
         loadBalancingStrategy = properties.getLoadBalancingStrategy().orElse(ArangoDefaults.DEFAULT_LOAD_BALANCING_STRATEGY);
         responseQueueTimeSamples = properties.getResponseQueueTimeSamples().orElse(ArangoDefaults.DEFAULT_RESPONSE_QUEUE_TIME_SAMPLES);
+        targetQueueTime = properties.getTargetQueueTime().orElse(null);
         compression = properties.getCompression().orElse(ArangoDefaults.DEFAULT_COMPRESSION);
         compressionThreshold = properties.getCompressionThreshold().orElse(ArangoDefaults.DEFAULT_COMPRESSION_THRESHOLD);
         compressionLevel = properties.getCompressionLevel().orElse(ArangoDefaults.DEFAULT_COMPRESSION_LEVEL);
@@ -281,6 +291,14 @@ public class ArangoConfig {
         this.maxConnections = maxConnections;
     }
 
+    public Integer getMinConnections() {
+        return minConnections;
+    }
+
+    public void setMinConnections(Integer minConnections) {
+        this.minConnections = minConnections;
+    }
+
     public Long getConnectionTtl() {
         if (connectionTtl == null && getProtocol() != Protocol.VST) {
             connectionTtl = ArangoDefaults.DEFAULT_CONNECTION_TTL_HTTP;
@@ -350,6 +368,14 @@ public class ArangoConfig {
         return internalSerde;
     }
 
+    public ConnectionSlotMetricsImpl getConnectionSlotMetrics() {
+        return connectionSlotMetrics;
+    }
+
+    public ConcurrencyLimitMetricsImpl getConcurrencyLimitMetrics() {
+        return concurrencyLimitMetrics;
+    }
+
     public void setUserDataSerde(ArangoSerde userDataSerde) {
         this.userDataSerde = userDataSerde;
     }
@@ -366,6 +392,14 @@ public class ArangoConfig {
         this.responseQueueTimeSamples = responseQueueTimeSamples;
     }
 
+    public Double getTargetQueueTime() {
+        return targetQueueTime;
+    }
+
+    public void setTargetQueueTime(Double targetQueueTime) {
+        this.targetQueueTime = targetQueueTime;
+    }
+
     public void setProtocolModule(Module m) {
         protocolModule = m;
     }
@@ -410,6 +444,14 @@ public class ArangoConfig {
         this.protocolConfig = protocolConfig;
     }
 
+    public MetricsCollector getMetricsCollector() {
+        return metricsCollector;
+    }
+
+    public void setMetricsCollector(MetricsCollector metricsCollector) {
+        this.metricsCollector = metricsCollector != null ? metricsCollector : MetricsCollector.NOOP;
+    }
+
     private SSLContext createSslContext() {
         try {
             if (sslCertValue.isPresent()) {
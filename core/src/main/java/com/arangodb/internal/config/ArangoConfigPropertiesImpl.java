@@ -169,6 +169,11 @@ public final class ArangoConfigPropertiesImpl implements ArangoConfigProperties
         return Optional.ofNullable(getProperty(KEY_MAX_CONNECTIONS)).map(Integer::valueOf);
     }
 
+    @Override
+    public Optional<Integer> getMinConnections() {
+        return Optional.ofNullable(getProperty(KEY_MIN_CONNECTIONS)).map(Integer::valueOf);
+    }
+
     @Override
     public Optional<Long> getConnectionTtl() {
         return Optional.ofNullable(getProperty(KEY_CONNECTION_TTL)).map(Long::valueOf);
@@ -199,6 +204,11 @@ public final class ArangoConfigPropertiesImpl implements ArangoConfigProperties
         return Optional.ofNullable(getProperty(KEY_RESPONSE_QUEUE_TIME_SAMPLES)).map(Integer::valueOf);
     }
 
+    @Override
+    public Optional<Double> getTargetQueueTime() {
+        return Optional.ofNullable(getProperty(KEY_TARGET_QUEUE_TIME)).map(Double::valueOf);
+    }
+
     @Override
     public Optional<Compression> getCompression() {
         return Optional.ofNullable(getProperty(KEY_COMPRESSION)).map(Compression::valueOf);
@@ -6,6 +6,7 @@ import com.arangodb.entity.CursorEntity;
 import com.arangodb.internal.ArangoDatabaseAsyncImpl;
 import com.arangodb.internal.InternalArangoCursor;
 import com.arangodb.internal.net.HostHandle;
+import com.arangodb.model.AqlQueryOptions;
 
 import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
@@ -18,29 +19,65 @@ public class ArangoCursorAsyncImpl<T> extends InternalArangoCursor<T> implements
     private final ArangoDatabaseAsyncImpl db;
     private final HostHandle hostHandle;
     private final CursorEntity<T> entity;
+    private final AqlQueryOptions options;
+    private final BatchPrefetcher<T> prefetcher;
 
     public ArangoCursorAsyncImpl(
             final ArangoDatabaseAsyncImpl db,
             final CursorEntity<T> entity,
             final Class<T> type,
             final HostHandle hostHandle,
-            final Boolean allowRetry
+            final AqlQueryOptions options
     ) {
-        super(db, db.name(), entity, type, allowRetry);
+        super(db, db.name(), entity, type, options.getAllowRetry());
         this.db = db;
         this.hostHandle = hostHandle;
         this.entity = entity;
+        this.options = options;
+        Integer prefetchBatches = options.getPrefetchBatches();
+        if (prefetchBatches != null && prefetchBatches > 0) {
+            prefetcher = new BatchPrefetcher<>(e -> fetchNextBatch(e.getNextBatchId()), prefetchBatches, entity);
+            prefetcher.prefetch();
+        } else {
+            prefetcher = null;
+        }
+    }
+
+    private ArangoCursorAsyncImpl(
+            final ArangoDatabaseAsyncImpl db,
+            final CursorEntity<T> entity,
+            final Class<T> type,
+            final HostHandle hostHandle,
+            final AqlQueryOptions options,
+            final BatchPrefetcher<T> prefetcher
+    ) {
+        super(db, db.name(), entity, type, options.getAllowRetry());
+        this.db = db;
+        this.hostHandle = hostHandle;
+        this.entity = entity;
+        this.options = options;
+        this.prefetcher = prefetcher;
+        prefetcher.prefetch();
+    }
+
+    private CompletableFuture<CursorEntity<T>> fetchNextBatch(final String nextBatchId) {
+        return executorAsync().execute(() -> queryNextRequest(nextBatchId), db.cursorEntityDeserializer(getType(), options), hostHandle)
+                .thenApply(r -> {
+                    // needed because the latest batch does not return the cursor id
+                    r.setId(entity.getId());
+                    return r;
+                });
     }
 
     @Override
     public CompletableFuture<ArangoCursorAsync<T>> nextBatch() {
         if (Boolean.TRUE.equals(hasMore())) {
-            return executorAsync().execute(this::queryNextRequest, db.cursorEntityDeserializer(getType()), hostHandle)
-                    .thenApply(r -> {
-                        // needed because the latest batch does not return the cursor id
-                        r.setId(entity.getId());
-                        return new ArangoCursorAsyncImpl<>(db, r, getType(), hostHandle, allowRetry());
-                    });
+            if (prefetcher != null) {
+                return prefetcher.next()
+                        .thenApply(r -> new ArangoCursorAsyncImpl<>(db, r, getType(), hostHandle, options, prefetcher));
+            }
+            return fetchNextBatch(getNextBatchId())
+                    .thenApply(r -> new ArangoCursorAsyncImpl<>(db, r, getType(), hostHandle, options));
         } else {
             CompletableFuture<ArangoCursorAsync<T>> cf = new CompletableFuture<>();
             cf.completeExceptionally(new NoSuchElementException());
@@ -50,6 +87,9 @@ public class ArangoCursorAsyncImpl<T> extends InternalArangoCursor<T> implements
 
     @Override
     public CompletableFuture<Void> close() {
+        if (prefetcher != null) {
+            prefetcher.close();
+        }
         if (getId() != null && (allowRetry() || Boolean.TRUE.equals(hasMore()))) {
             return executorAsync().execute(this::queryCloseRequest, Void.class, hostHandle)
                     .exceptionally(err -> {
@@ -21,15 +21,18 @@
 package com.arangodb.internal.cursor;
 
 import com.arangodb.ArangoCursor;
+import com.arangodb.ArangoDBException;
 import com.arangodb.ArangoIterator;
 import com.arangodb.entity.CursorEntity;
 import com.arangodb.entity.CursorStats;
 import com.arangodb.entity.CursorWarning;
 import com.arangodb.internal.ArangoCursorExecute;
+import com.arangodb.model.AqlQueryOptions;
 
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
 
 /**
  * @author Mark Vollmary
@@ -45,17 +48,23 @@ public class ArangoCursorImpl<T> implements ArangoCursor<T> {
 
     public ArangoCursorImpl(final ArangoCursorExecute<T> execute,
                             final Class<T> type, final CursorEntity<T> result, final Boolean allowRetry) {
+        this(execute, type, result, new AqlQueryOptions().allowRetry(allowRetry));
+    }
+
+    public ArangoCursorImpl(final ArangoCursorExecute<T> execute,
+                            final Class<T> type, final CursorEntity<T> result, final AqlQueryOptions options) {
         super();
         this.execute = execute;
         this.type = type;
         id = result.getId();
         pontentialDirtyRead = result.isPotentialDirtyRead();
-        iterator = new ArangoCursorIterator<>(id, execute, result);
-        this.allowRetry = Boolean.TRUE.equals(allowRetry);
+        iterator = new ArangoCursorIterator<>(id, execute, result, options);
+        this.allowRetry = Boolean.TRUE.equals(options.getAllowRetry());
     }
 
     @Override
     public void close() {
+        iterator.closePrefetcher();
         if (getId() != null && (allowRetry || iterator.result.getHasMore())) {
             getExecute().close(getId());
         }
@@ -124,17 +133,68 @@ public class ArangoCursorImpl<T> implements ArangoCursor<T> {
     }
 
     protected static class ArangoCursorIterator<T> implements ArangoIterator<T> {
+        private static final double DEFAULT_PREFETCH_THRESHOLD = 0.5;
+
         private final String cursorId;
         private final ArangoCursorExecute<T> execute;
+        private final BatchPrefetcher<T> prefetcher;
+        private final double prefetchThreshold;
         private CursorEntity<T> result;
         private Iterator<T> arrayIterator;
+        private int consumed;
+        private int prefetchAt;
 
         protected ArangoCursorIterator(final String cursorId, final ArangoCursorExecute<T> execute,
                                        final CursorEntity<T> result) {
+            this(cursorId, execute, result, new AqlQueryOptions());
+        }
+
+        protected ArangoCursorIterator(final String cursorId, final ArangoCursorExecute<T> execute,
+                                       final CursorEntity<T> result, final AqlQueryOptions options) {
             this.cursorId = cursorId;
             this.execute = execute;
+            Integer prefetchBatches = options.getPrefetchBatches();
+            if (prefetchBatches != null && prefetchBatches > 0) {
+                prefetcher = new BatchPrefetcher<>(e -> execute.nextAsync(cursorId, e.getNextBatchId()),
+                        prefetchBatches, result);
+            } else {
+                prefetcher = null;
+            }
+            Double threshold = options.getPrefetchThreshold();
+            prefetchThreshold = threshold != null ? threshold : DEFAULT_PREFETCH_THRESHOLD;
+            setResult(result);
+        }
+
+        private void setResult(final CursorEntity<T> result) {
             this.result = result;
             arrayIterator = result.getResult().iterator();
+            if (prefetcher != null) {
+                consumed = 0;
+                prefetchAt = (int) Math.ceil(prefetchThreshold * result.getResult().size());
+                if (prefetchAt <= 0) {
+                    prefetcher.prefetch();
+                }
+            }
+        }
+
+        private CursorEntity<T> fetchNext() {
+            if (prefetcher == null) {
+                return execute.next(cursorId, result.getNextBatchId());
+            }
+            try {
+                return prefetcher.next().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw ArangoDBException.of(e);
+            } catch (ExecutionException e) {
+                throw ArangoDBException.of(e.getCause());
+            }
+        }
+
+        private void closePrefetcher() {
+            if (prefetcher != null) {
+                prefetcher.close();
+            }
         }
 
         @Override
@@ -145,15 +205,17 @@ public class ArangoCursorImpl<T> implements ArangoCursor<T> {
         @Override
         public T next() {
             if (!arrayIterator.hasNext() && Boolean.TRUE.equals(result.getHasMore())) {
-                result = execute.next(cursorId, result.getNextBatchId());
-                arrayIterator = result.getResult().iterator();
+                setResult(fetchNext());
             }
             if (!hasNext()) {
                 throw new NoSuchElementException();
             }
-            return arrayIterator.next();
+            T next = arrayIterator.next();
+            if (prefetcher != null && ++consumed == prefetchAt) {
+                prefetcher.prefetch();
+            }
+            return next;
         }
     }
 
 }
-
@@ -0,0 +1,167 @@
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoCursorAsync;
+import com.arangodb.ArangoPublisher;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * {@link ArangoPublisher} of the results of an AQL query. The query is executed for every subscriber, upon its first
+ * request. Batches are fetched from the server only when the current batch has been delivered and there is pending
+ * demand, so that at most one batch is held in memory for each subscriber.
+ */
+public final class ArangoCursorPublisher<T> implements ArangoPublisher<T> {
+    private final Supplier<CompletableFuture<ArangoCursorAsync<T>>> query;
+
+    public ArangoCursorPublisher(final Supplier<CompletableFuture<ArangoCursorAsync<T>>> query) {
+        this.query = query;
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber");
+        }
+        CursorSubscription<T> subscription = new CursorSubscription<>(query, subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private static final class CursorSubscription<T> implements Subscription {
+        private final Supplier<CompletableFuture<ArangoCursorAsync<T>>> query;
+        private final Subscriber<? super T> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        // serializes the signals to the subscriber, see drain()
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile ArangoCursorAsync<T> cursor;
+        private volatile Iterator<T> batch;
+        private volatile Throwable error;
+        private volatile boolean fetching;
+        private volatile boolean cancelled;
+        private boolean done;
+
+        CursorSubscription(final Supplier<CompletableFuture<ArangoCursorAsync<T>>> query,
+                           final Subscriber<? super T> subscriber) {
+            this.query = query;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Requested elements must be greater than 0, got: " + n);
+            } else {
+                long r;
+                long u;
+                do {
+                    r = requested.get();
+                    u = r + n < 0 ? Long.MAX_VALUE : r + n;
+                } while (!requested.compareAndSet(r, u));
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            if (!fetching) {
+                closeCursor();
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (!done && !cancelled) {
+                    emit();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            Throwable e = error;
+            if (e != null) {
+                done = true;
+                cancelled = true;
+                closeCursor();
+                subscriber.onError(e);
+                return;
+            }
+
+            Iterator<T> it = batch;
+            long r = requested.get();
+            long emitted = 0;
+            while (emitted != r && it != null && it.hasNext()) {
+                if (cancelled) {
+                    return;
+                }
+                subscriber.onNext(it.next());
+                emitted++;
+            }
+            if (emitted != 0 && r != Long.MAX_VALUE) {
+                requested.addAndGet(-emitted);
+            }
+
+            if ((it == null || !it.hasNext()) && !fetching && !cancelled) {
+                ArangoCursorAsync<T> c = cursor;
+                if (c != null && !Boolean.TRUE.equals(c.hasMore())) {
+                    done = true;
+                    closeCursor();
+                    subscriber.onComplete();
+                } else if (requested.get() > 0) {
+                    fetch(c);
+                }
+            }
+        }
+
+        private void fetch(final ArangoCursorAsync<T> current) {
+            fetching = true;
+            batch = null;
+            CompletableFuture<ArangoCursorAsync<T>> next;
+            try {
+                next = current == null ? query.get() : current.nextBatch();
+            } catch (Exception e) {
+                next = new CompletableFuture<>();
+                next.completeExceptionally(e);
+            }
+            next.whenComplete((c, t) -> {
+                try {
+                    if (t != null) {
+                        error = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+                    } else {
+                        cursor = c;
+                        batch = c.getResult().iterator();
+                    }
+                } catch (Exception e) {
+                    error = e;
+                } finally {
+                    fetching = false;
+                    if (cancelled) {
+                        closeCursor();
+                    }
+                    drain();
+                }
+            });
+        }
+
+        private void closeCursor() {
+            ArangoCursorAsync<T> c = cursor;
+            batch = null;
+            if (c != null && closed.compareAndSet(false, true)) {
+                // errors cannot be signaled after cancellation
+                c.close().exceptionally(t -> null);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.arangodb.internal.cursor;
+
+import com.arangodb.entity.CursorEntity;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Fetches the next batches of a cursor ahead of their consumption.
+ * <p>
+ * At most {@code maxBatches} batches are fetched or in flight ahead of the batch being consumed. Batches are requested
+ * one after the other, each one with the {@code nextBatchId} of the previous one, so that requests can be retried
+ * when the cursor was created with {@code allowRetry}.
+ */
+class BatchPrefetcher<T> {
+    private final Function<CursorEntity<T>, CompletableFuture<CursorEntity<T>>> fetcher;
+    private final int maxBatches;
+    private final Deque<CompletableFuture<CursorEntity<T>>> batches = new ArrayDeque<>();
+    // latest received batch, whose following batch has not been requested yet
+    private CursorEntity<T> tail;
+    // completed once the latest requested batch has been received and its following batch has been requested
+    private CompletableFuture<Void> queued;
+    private boolean closed;
+
+    /**
+     * @param fetcher    function requesting the batch following the given one
+     * @param maxBatches max number of batches fetched ahead
+     * @param current    batch currently being consumed
+     */
+    BatchPrefetcher(
+            final Function<CursorEntity<T>, CompletableFuture<CursorEntity<T>>> fetcher,
+            final int maxBatches,
+            final CursorEntity<T> current
+    ) {
+        this.fetcher = fetcher;
+        this.maxBatches = maxBatches;
+        tail = current;
+    }
+
+    /**
+     * Requests the next batch, unless a request is already in flight or {@code maxBatches} batches have already been
+     * fetched ahead.
+     */
+    synchronized void prefetch() {
+        if (tail != null) {
+            CursorEntity<T> e = tail;
+            tail = null;
+            fetchAfter(e);
+        }
+    }
+
+    /**
+     * @return the batch following the last one returned, requesting it if needed
+     */
+    synchronized CompletableFuture<CursorEntity<T>> next() {
+        if (batches.isEmpty()) {
+            prefetch();
+        }
+        CompletableFuture<CursorEntity<T>> next = batches.poll();
+        if (next == null && queued != null && !queued.isDone()) {
+            // the latest requested batch has been returned, but the following one has not been requested yet
+            return queued.thenCompose(v -> next());
+        }
+        if (next == null) {
+            next = new CompletableFuture<>();
+            next.completeExceptionally(new NoSuchElementException());
+        }
+        return next;
+    }
+
+    /**
+     * Stops requesting further batches. Responses of requests already in flight are discarded.
+     */
+    synchronized void close() {
+        closed = true;
+        tail = null;
+        queued = null;
+        batches.clear();
+    }
+
+    private synchronized void onFetched(final CursorEntity<T> e) {
+        fetchAfter(e);
+    }
+
+    private void fetchAfter(final CursorEntity<T> e) {
+        if (closed || !Boolean.TRUE.equals(e.getHasMore())) {
+            return;
+        }
+        if (batches.size() >= maxBatches) {
+            tail = e;
+            return;
+        }
+        CompletableFuture<CursorEntity<T>> next = fetcher.apply(e);
+        batches.add(next);
+        queued = next.thenAccept(this::onFetched);
+    }
+
+}
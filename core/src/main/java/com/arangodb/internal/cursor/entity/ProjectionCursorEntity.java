@@ -0,0 +1,46 @@
+package com.arangodb.internal.cursor.entity;
+
+import com.arangodb.entity.MultiDocumentEntity;
+
+/**
+ * Batch of the cursor reading document projections, whose result holds, for each key, either the projection of the
+ * document or an error object, as the response of the multi-document API.
+ */
+public final class ProjectionCursorEntity<T> {
+    private String id;
+    private Boolean hasMore;
+    private String nextBatchId;
+    private MultiDocumentEntity<T> result;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public boolean hasMore() {
+        return Boolean.TRUE.equals(hasMore);
+    }
+
+    public void setHasMore(Boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public String getNextBatchId() {
+        return nextBatchId;
+    }
+
+    public void setNextBatchId(String nextBatchId) {
+        this.nextBatchId = nextBatchId;
+    }
+
+    public MultiDocumentEntity<T> getResult() {
+        return result;
+    }
+
+    public void setResult(MultiDocumentEntity<T> result) {
+        this.result = result;
+    }
+}
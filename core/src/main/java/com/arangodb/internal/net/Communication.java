@@ -1,16 +1,19 @@
 package com.arangodb.internal.net;
 
 import com.arangodb.ArangoDBException;
+import com.arangodb.MetricsCollector;
 import com.arangodb.arch.UsedInApi;
 import com.arangodb.config.HostDescription;
 import com.arangodb.internal.InternalRequest;
 import com.arangodb.internal.InternalResponse;
+import com.arangodb.internal.QueueTimeMetricsImpl;
 import com.arangodb.internal.RequestType;
 import com.arangodb.internal.config.ArangoConfig;
 import com.arangodb.internal.serde.InternalSerde;
 import com.arangodb.internal.util.HostUtils;
 import com.arangodb.internal.util.RequestUtils;
 import com.arangodb.internal.util.ResponseUtils;
+import com.arangodb.internal.util.SharedScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,9 +21,12 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.net.ConnectException;
 import java.net.SocketTimeoutException;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
 @UsedInApi
@@ -29,49 +35,155 @@ public abstract class Communication implements Closeable {
     protected final HostHandler hostHandler;
     protected final InternalSerde serde;
     private final AtomicLong reqCount;
-
+    private final MetricsCollector metrics;
+    private final boolean collectMetrics;
+    private final Double targetQueueTime;
+    private final int maxConcurrency;
+    private final ConcurrencyLimitMetricsImpl concurrencyLimits;
+    private final int timeout;
+    // fails the requests not admitted by the limiter within the timeout, null if none
+    private final ScheduledExecutorService admissionTimer;
+    private final AtomicBoolean closed = new AtomicBoolean();
 
     protected Communication(final ArangoConfig config, final HostHandler hostHandler) {
         this.hostHandler = hostHandler;
         serde = config.getInternalSerde();
         reqCount = new AtomicLong();
+        metrics = config.getMetricsCollector();
+        collectMetrics = metrics != MetricsCollector.NOOP;
+        targetQueueTime = config.getTargetQueueTime();
+        concurrencyLimits = config.getConcurrencyLimitMetrics();
+        int slots;
+        switch (config.getProtocol()) {
+            case HTTP_JSON:
+            case HTTP_VPACK:
+                slots = config.getPipelining() ? ConnectionPoolImpl.HTTP1_SLOTS_PIPELINING : ConnectionPoolImpl.HTTP1_SLOTS;
+                break;
+            default:
+                slots = ConnectionPoolImpl.HTTP2_MAX_SLOTS;
+        }
+        maxConcurrency = config.getMaxConnections() * slots;
+        timeout = config.getTimeout();
+        admissionTimer = targetQueueTime != null && timeout > 0 ? SharedScheduler.acquire() : null;
     }
 
     protected abstract void connect(final Connection conn) throws IOException;
 
+    /**
+     * Connects the given connection, if needed, by invoking {@link #connect(Connection)} on the calling thread. To be
+     * overridden by protocols whose connect blocks, since the calling thread can be an I/O thread completing the
+     * release of another connection.
+     *
+     * @return future completed once connected
+     */
+    protected CompletableFuture<Void> connectAsync(final Connection conn) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        try {
+            connect(conn);
+            future.complete(null);
+        } catch (IOException | RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
     @Override
     public void close() throws IOException {
+        if (admissionTimer != null && closed.compareAndSet(false, true)) {
+            SharedScheduler.release();
+        }
         hostHandler.close();
     }
 
     public CompletableFuture<InternalResponse> executeAsync(final InternalRequest request, final HostHandle hostHandle) {
-        return executeAsync(request, hostHandle, hostHandler.get(hostHandle, RequestUtils.determineAccessType(request)), 0);
+        final HostSelection selection = hostHandler.select(RequestUtils.determineAccessType(request));
+        return executeAsync(request, selection, hostHandle, selection.get(hostHandle), 0);
     }
 
-    private CompletableFuture<InternalResponse> executeAsync(final InternalRequest request, final HostHandle hostHandle, final Host host, final int attemptCount) {
+    private CompletableFuture<InternalResponse> executeAsync(final InternalRequest request, final HostSelection selection,
+                                                             final HostHandle hostHandle, final Host host, final int attemptCount) {
         long reqId = reqCount.getAndIncrement();
-        return host.connection().thenCompose(c ->
-                doExecuteAsync(request, hostHandle, host, attemptCount, c, reqId));
+        if (targetQueueTime == null) {
+            return host.connection().thenCompose(c ->
+                    doExecuteAsync(request, selection, hostHandle, host, attemptCount, c, reqId, null));
+        }
+        ConcurrencyLimiter limiter = concurrencyLimits.limiter(host.getDescription(), targetQueueTime, maxConcurrency);
+        return limiter.acquire(admissionTimer, timeout)
+                .thenCompose(v -> connection(host, limiter))
+                .thenCompose(c -> doExecuteAsync(request, selection, hostHandle, host, attemptCount, c, reqId, limiter));
+    }
+
+    private static CompletableFuture<Connection> connection(final Host host, final ConcurrencyLimiter limiter) {
+        try {
+            return host.connection().whenComplete((c, e) -> {
+                if (e != null) {
+                    limiter.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            limiter.release();
+            throw e;
+        }
     }
 
     private CompletableFuture<InternalResponse> doExecuteAsync(
-            final InternalRequest request, final HostHandle hostHandle, final Host host, final int attemptCount, Connection connection, long reqId
+            final InternalRequest request, final HostSelection selection, final HostHandle hostHandle, final Host host,
+            final int attemptCount, Connection connection, long reqId, final ConcurrencyLimiter limiter
     ) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Send Request [id={}]: {} {}", reqId, request, serde.toJsonString(request.getBody()));
         }
         final CompletableFuture<InternalResponse> rfuture = new CompletableFuture<>();
-        try {
-            connect(connection);
-        } catch (IOException e) {
-            connection.release();
-            handleException(true, e, hostHandle, request, host, reqId, attemptCount, rfuture);
-            return rfuture;
+        final long start = System.nanoTime();
+        hostHandler.requestStarted(host);
+        if (collectMetrics) {
+            metrics.requestStarted(host.getDescription());
         }
+        connectAsync(connection).whenComplete((v, t) -> {
+            if (t == null) {
+                send(request, selection, hostHandle, host, attemptCount, connection, reqId, limiter, start, rfuture);
+                return;
+            }
+            Throwable e = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+            connection.release();
+            long duration = System.nanoTime() - start;
+            hostHandler.requestCompleted(host, duration, true);
+            if (limiter != null) {
+                limiter.release();
+            }
+            if (collectMetrics) {
+                requestCompleted(request, host, null, duration);
+            }
+            try {
+                if (e instanceof IOException) {
+                    handleException(true, e, selection, hostHandle, request, host, reqId, attemptCount, rfuture);
+                } else {
+                    rfuture.completeExceptionally(e);
+                }
+            } catch (Exception ex) {
+                // e.g. no other host to fail over to
+                rfuture.completeExceptionally(ex);
+            }
+        });
+        return rfuture;
+    }
 
+    private void send(
+            final InternalRequest request, final HostSelection selection, final HostHandle hostHandle, final Host host,
+            final int attemptCount, final Connection connection, final long reqId, final ConcurrencyLimiter limiter,
+            final long start, final CompletableFuture<InternalResponse> rfuture
+    ) {
         connection.executeAsync(request)
                 .whenComplete((response, e) -> {
                     connection.release();
+                    long duration = System.nanoTime() - start;
+                    hostHandler.requestCompleted(host, duration, e != null);
+                    if (limiter != null) {
+                        release(limiter, response, e, duration);
+                    }
+                    if (collectMetrics) {
+                        requestCompleted(request, host, response, duration);
+                    }
                     try {
                         if (e instanceof SocketTimeoutException) {
                             // SocketTimeoutException exceptions are wrapped and rethrown.
@@ -81,9 +193,9 @@ public abstract class Communication implements Closeable {
                         } else if (e instanceof TimeoutException) {
                             rfuture.completeExceptionally(ArangoDBException.of(e, reqId));
                         } else if (e instanceof ConnectException) {
-                            handleException(true, e, hostHandle, request, host, reqId, attemptCount, rfuture);
+                            handleException(true, e, selection, hostHandle, request, host, reqId, attemptCount, rfuture);
                         } else if (e != null) {
-                            handleException(isSafe(request), e, hostHandle, request, host, reqId, attemptCount, rfuture);
+                            handleException(isSafe(request), e, selection, hostHandle, request, host, reqId, attemptCount, rfuture);
                         } else {
                             if (LOGGER.isDebugEnabled()) {
                                 LOGGER.debug("Received Response [id={}]: {} {}", reqId, response, serde.toJsonString(response.getBody()));
@@ -95,18 +207,21 @@ public abstract class Communication implements Closeable {
                                 } else {
                                     final String location = ((ArangoDBRedirectException) errorEntityEx).getLocation();
                                     final HostDescription redirectHost = HostUtils.createFromLocation(location);
-                                    hostHandler.failIfNotMatch(redirectHost, errorEntityEx);
+                                    selection.failIfNotMatch(redirectHost, errorEntityEx);
+                                    if (collectMetrics) {
+                                        metrics.redirected(host.getDescription(), redirectHost);
+                                    }
                                     mirror(
-                                            executeAsync(request, new HostHandle().setHost(redirectHost), hostHandler.get(hostHandle, RequestUtils.determineAccessType(request)), attemptCount + 1),
+                                            executeAsync(request, selection, new HostHandle().setHost(redirectHost), selection.get(hostHandle), attemptCount + 1),
                                             rfuture
                                     );
                                 }
                             } else if (errorEntityEx instanceof ArangoDBUnavailableException) {
-                                handleException(true, errorEntityEx, hostHandle, request, host, reqId, attemptCount, rfuture);
+                                handleException(true, errorEntityEx, selection, hostHandle, request, host, reqId, attemptCount, rfuture);
                             } else if (errorEntityEx != null) {
                                 rfuture.completeExceptionally(errorEntityEx);
                             } else {
-                                hostHandler.success();
+                                selection.success();
                                 rfuture.complete(response);
                             }
                         }
@@ -114,24 +229,27 @@ public abstract class Communication implements Closeable {
                         rfuture.completeExceptionally(ArangoDBException.of(ex, reqId));
                     }
                 });
-        return rfuture;
     }
 
-    private void handleException(boolean isSafe, Throwable e, HostHandle hostHandle, InternalRequest request, Host host,
-                                 long reqId, int attemptCount, CompletableFuture<InternalResponse> rfuture) {
+    private void handleException(boolean isSafe, Throwable e, HostSelection selection, HostHandle hostHandle,
+                                 InternalRequest request, Host host, long reqId, int attemptCount,
+                                 CompletableFuture<InternalResponse> rfuture) {
         IOException ioEx = wrapIOEx(e);
-        hostHandler.fail(ioEx);
+        selection.fail(ioEx);
         if (hostHandle != null && hostHandle.getHost() != null) {
             hostHandle.setHost(null);
         }
-        hostHandler.checkNext(hostHandle, RequestUtils.determineAccessType(request));
+        selection.checkNext(hostHandle);
         if (isSafe) {
-            Host nextHost = hostHandler.get(hostHandle, RequestUtils.determineAccessType(request));
+            Host nextHost = selection.get(hostHandle);
             LOGGER.warn("Could not connect to {} while executing request [id={}]",
                     host.getDescription(), reqId, ioEx);
             LOGGER.debug("Try connecting to {}", nextHost.getDescription());
+            if (collectMetrics) {
+                metrics.failedOver(host.getDescription(), ioEx);
+            }
             mirror(
-                    executeAsync(request, hostHandle, nextHost, attemptCount),
+                    executeAsync(request, selection, hostHandle, nextHost, attemptCount),
                     rfuture
             );
         } else {
@@ -140,6 +258,55 @@ public abstract class Communication implements Closeable {
         }
     }
 
+    /**
+     * Releases the admission of a request, feeding its outcome into the limiter: timeouts and {@code 503} responses
+     * signal overload, as well as a server queue time above the target.
+     */
+    private static void release(final ConcurrencyLimiter limiter, final InternalResponse response, final Throwable e,
+                                final long durationNanos) {
+        if (response != null) {
+            String queueTime = response.getMeta("X-Arango-Queue-Time-Seconds");
+            limiter.release(durationNanos, queueTime != null ? QueueTimeMetricsImpl.parseSeconds(queueTime) : 0.0,
+                    response.getResponseCode() == 503);
+        } else if (e instanceof TimeoutException || e instanceof SocketTimeoutException) {
+            limiter.release(durationNanos, 0.0, true);
+        } else {
+            limiter.release();
+        }
+    }
+
+    private void requestCompleted(final InternalRequest request, final Host host, final InternalResponse response,
+                                  final long durationNanos) {
+        long requestBytes = 0;
+        List<byte[]> chunks = request.getBodyChunks();
+        if (chunks != null) {
+            for (byte[] chunk : chunks) {
+                requestBytes += chunk.length;
+            }
+        }
+        int status = 0;
+        long responseBytes = 0;
+        if (response != null) {
+            status = response.getResponseCode();
+            responseBytes = response.getBody() != null ? response.getBody().length : 0;
+        }
+        metrics.requestCompleted(host.getDescription(), request.getRequestType().name(), endpoint(request.getPath()),
+                status, durationNanos, requestBytes, responseBytes);
+    }
+
+    /**
+     * @return the first two segments of the given path, e.g. {@code /_api/document} for
+     * {@code /_api/document/coll/key}, to keep the cardinality of the metrics tags bounded
+     */
+    static String endpoint(final String path) {
+        int i = path.indexOf('/', 1);
+        if (i < 0) {
+            return path;
+        }
+        int j = path.indexOf('/', i + 1);
+        return j < 0 ? path : path.substring(0, j);
+    }
+
     private void mirror(CompletableFuture<InternalResponse> up, CompletableFuture<InternalResponse> down) {
         up.whenComplete((v, err) -> {
             if (err != null) {
@@ -0,0 +1,50 @@
+package com.arangodb.internal.net;
+
+import com.arangodb.ConcurrencyLimitMetrics;
+import com.arangodb.config.HostDescription;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the {@link ConcurrencyLimiter} of each host, created on first use, and aggregates their gauges.
+ */
+public class ConcurrencyLimitMetricsImpl implements ConcurrencyLimitMetrics {
+
+    private final Map<HostDescription, ConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    ConcurrencyLimiter limiter(final HostDescription host, final double targetQueueTime, final int maxLimit) {
+        ConcurrencyLimiter limiter = limiters.get(host);
+        if (limiter == null) {
+            limiter = limiters.computeIfAbsent(host, h -> new ConcurrencyLimiter(targetQueueTime, maxLimit));
+        }
+        return limiter;
+    }
+
+    @Override
+    public Map<HostDescription, Integer> getLimits() {
+        Map<HostDescription, Integer> res = new HashMap<>();
+        limiters.forEach((host, limiter) -> res.put(host, limiter.getLimit()));
+        return res;
+    }
+
+    @Override
+    public int getInFlight() {
+        int res = 0;
+        for (ConcurrencyLimiter limiter : limiters.values()) {
+            res += limiter.getInFlight();
+        }
+        return res;
+    }
+
+    @Override
+    public int getQueued() {
+        int res = 0;
+        for (ConcurrencyLimiter limiter : limiters.values()) {
+            res += limiter.getQueued();
+        }
+        return res;
+    }
+
+}
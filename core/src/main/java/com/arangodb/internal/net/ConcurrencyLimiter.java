@@ -0,0 +1,172 @@
+package com.arangodb.internal.net;
+
+import com.arangodb.ArangoDBException;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * AIMD limiter of the concurrent requests to a host.
+ * <p>
+ * The limit starts at {@code maxLimit}, i.e. at the capacity of the connection pool, so that nothing is limited until
+ * the host reports overload. Each request completed with overload (server queue time above the target, or
+ * {@code 503}) multiplies the limit by {@link #DECREASE_FACTOR}, at most once per round trip, so that a burst of
+ * responses to requests sent with the old limit counts as a single congestion signal. Each other completed request
+ * increases the limit by {@code 1 / limit}, i.e. by about 1 per round trip, as long as the limit is being used.
+ * <p>
+ * Requests exceeding the limit wait in a FIFO queue and are admitted as in-flight requests complete, or fail once the
+ * request timeout has elapsed.
+ */
+final class ConcurrencyLimiter {
+    static final double DECREASE_FACTOR = 0.8;
+    private static final CompletableFuture<Void> ADMITTED = CompletableFuture.completedFuture(null);
+
+    private final double targetQueueTime;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong limit;
+    private final AtomicLong lastDecrease = new AtomicLong(System.nanoTime());
+    private final Queue<CompletableFuture<Void>> waiting = new ConcurrentLinkedQueue<>();
+    // pending admit() invocations, see admit()
+    private final AtomicInteger wip = new AtomicInteger();
+
+    ConcurrencyLimiter(final double targetQueueTime, final int maxLimit) {
+        this.targetQueueTime = targetQueueTime;
+        this.maxLimit = Math.max(1, maxLimit);
+        limit = new AtomicLong(Double.doubleToRawLongBits(this.maxLimit));
+    }
+
+    /**
+     * @return a future completed when the request is admitted
+     */
+    CompletableFuture<Void> acquire() {
+        return acquire(null, 0);
+    }
+
+    /**
+     * @param timer         timer to fail the request, if not admitted within the timeout
+     * @param timeoutMillis request timeout, {@code 0} to wait until admitted
+     * @return a future completed when the request is admitted, or failed with {@link ArangoDBException} caused by a
+     * {@link TimeoutException} when not admitted within the timeout
+     */
+    CompletableFuture<Void> acquire(final ScheduledExecutorService timer, final long timeoutMillis) {
+        if (waiting.isEmpty() && tryAcquire()) {
+            return ADMITTED;
+        }
+        CompletableFuture<Void> f = new CompletableFuture<>();
+        waiting.add(f);
+        if (timeoutMillis > 0) {
+            try {
+                ScheduledFuture<?> t = timer.schedule(() -> expire(f, timeoutMillis), timeoutMillis, TimeUnit.MILLISECONDS);
+                f.whenComplete((v, e) -> t.cancel(false));
+            } catch (RejectedExecutionException e) {
+                // closing
+                expire(f, timeoutMillis);
+            }
+        }
+        // a concurrent release could have missed the new waiter
+        admit();
+        return f;
+    }
+
+    private void expire(final CompletableFuture<Void> f, final long timeoutMillis) {
+        // not admitted meanwhile
+        if (waiting.remove(f)) {
+            TimeoutException e = new TimeoutException("Request not admitted within " + timeoutMillis
+                    + " ms, due to the overload of the host");
+            f.completeExceptionally(ArangoDBException.of(e));
+        }
+    }
+
+    /**
+     * Releases an admitted request which has not been sent.
+     */
+    void release() {
+        inFlight.decrementAndGet();
+        admit();
+    }
+
+    /**
+     * Releases an admitted request and updates the limit.
+     *
+     * @param rttNanos   round trip time of the request
+     * @param queueTime  server queue time reported in the response, in seconds
+     * @param overloaded whether the host could not handle the request due to overload
+     */
+    void release(final long rttNanos, final double queueTime, final boolean overloaded) {
+        if (overloaded || queueTime > targetQueueTime) {
+            decrease(rttNanos);
+        } else if (inFlight.get() >= getLimit() / 2) {
+            update(l -> Math.min(maxLimit, l + 1.0 / l));
+        }
+        release();
+    }
+
+    private void decrease(final long rttNanos) {
+        long now = System.nanoTime();
+        long last = lastDecrease.get();
+        if (now - last >= rttNanos && lastDecrease.compareAndSet(last, now)) {
+            update(l -> Math.max(1.0, l * DECREASE_FACTOR));
+        }
+    }
+
+    private void update(final DoubleUnaryOperator f) {
+        long bits;
+        do {
+            bits = limit.get();
+        } while (!limit.compareAndSet(bits, Double.doubleToRawLongBits(f.applyAsDouble(Double.longBitsToDouble(bits)))));
+    }
+
+    private boolean tryAcquire() {
+        int max = getLimit();
+        int n;
+        do {
+            n = inFlight.get();
+            if (n >= max) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(n, n + 1));
+        return true;
+    }
+
+    /**
+     * Admits the waiting requests while the limit allows. Only one thread at a time drains the queue, on behalf of
+     * the concurrent invocations, which avoids unbounded recursion when an admitted request completes synchronously.
+     */
+    private void admit() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            while (!waiting.isEmpty() && tryAcquire()) {
+                CompletableFuture<Void> f = waiting.poll();
+                if (f == null) {
+                    inFlight.decrementAndGet();
+                } else {
+                    f.complete(null);
+                }
+            }
+        } while (wip.decrementAndGet() != 0);
+    }
+
+    int getLimit() {
+        return (int) Double.longBitsToDouble(limit.get());
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    int getQueued() {
+        return waiting.size();
+    }
+}
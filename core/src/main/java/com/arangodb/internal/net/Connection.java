@@ -37,4 +37,13 @@ public interface Connection extends Closeable {
     CompletableFuture<InternalResponse> executeAsync(InternalRequest request);
 
     void release();
+
+    /**
+     * Establishes the underlying network connection ahead of the first request, if applicable.
+     *
+     * @return a future completed when the connection is ready or the attempt has failed
+     */
+    default CompletableFuture<Void> warmUp() {
+        return CompletableFuture.completedFuture(null);
+    }
 }
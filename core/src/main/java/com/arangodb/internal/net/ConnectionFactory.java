@@ -30,4 +30,11 @@ import com.arangodb.internal.config.ArangoConfig;
 @UsedInApi
 public interface ConnectionFactory {
     Connection create(ArangoConfig config, HostDescription host, ConnectionPool pool);
+
+    /**
+     * Releases the resources shared by the created connections. Invoked on driver shutdown, after all the connections
+     * have been closed.
+     */
+    default void close() {
+    }
 }
@@ -37,6 +37,13 @@ public interface ConnectionPool extends Closeable {
 
     void release(final Connection connection);
 
+    /**
+     * Sets the number of requests that can be sent concurrently over the given connection. Slots in excess are
+     * removed as they are released.
+     */
+    default void setSlots(final Connection connection, final int slots) {
+    }
+
     void setJwt(String jwt);
 
 }
@@ -21,26 +21,60 @@
 package com.arangodb.internal.net;
 
 import com.arangodb.ArangoDBException;
+import com.arangodb.MetricsCollector;
 import com.arangodb.config.HostDescription;
 import com.arangodb.internal.config.ArangoConfig;
 import com.arangodb.internal.util.AsyncQueue;
+import com.arangodb.internal.util.SharedScheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Connection pool growing on demand from {@code minConnections} up to {@code maxConnections}.
+ * <p>
+ * A new connection is created only when a request finds no free slot, in background, while the request waits in the
+ * slots queue. The initial {@code minConnections} are created and warmed up in background when the pool is created.
+ * Connections not used for {@code connectionTtl} are retired, down to {@code minConnections}: they do not get new
+ * requests and are closed as soon as their pending requests are completed.
+ */
 public class ConnectionPoolImpl implements ConnectionPool {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConnectionPoolImpl.class);
+
     public static final int HTTP1_SLOTS = 1;                // HTTP/1: max 1 pending request
     public static final int HTTP1_SLOTS_PIPELINING = 10;    // HTTP/1: max pipelining
-    public static final int HTTP2_SLOTS = 32;               // HTTP/2: max streams, hard-coded see BTS-2049
+    public static final int HTTP2_SLOTS = 32;               // HTTP/2: initial streams, until the server settings are received
+    public static final int HTTP2_MAX_SLOTS = 256;          // HTTP/2: max streams, whatever the server settings
 
     private final AsyncQueue<Connection> slots = new AsyncQueue<>();
     private final HostDescription host;
     private final ArangoConfig config;
+    private final int minConnections;
     private final int maxConnections;
+    private final long idleTimeoutNanos;
     private final List<Connection> connections;
+    private final Map<Connection, Slots> slotsByConnection = new ConcurrentHashMap<>();
+    // connections open or being created, excluding the retired ones
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger creating = new AtomicInteger();
+    // shared with the other pools, see SharedScheduler
+    private final ScheduledExecutorService executor;
+    private final ScheduledFuture<?> evictTask;
+    private final ConnectionSlotMetricsImpl metrics;
+    private final MetricsCollector metricsCollector;
+    private final boolean collectMetrics;
     private final ConnectionFactory factory;
     private final int maxSlots;
     private volatile String jwt = null;
@@ -51,8 +85,14 @@ public class ConnectionPoolImpl implements ConnectionPool {
         this.host = host;
         this.config = config;
         this.maxConnections = config.getMaxConnections();
+        this.minConnections = Math.min(config.getMinConnections(), maxConnections);
+        Long ttl = config.getConnectionTtl();
+        idleTimeoutNanos = ttl != null && ttl > 0 ? TimeUnit.MILLISECONDS.toNanos(ttl) : 0;
         this.factory = factory;
         connections = new CopyOnWriteArrayList<>();
+        metrics = config.getConnectionSlotMetrics();
+        metricsCollector = config.getMetricsCollector();
+        collectMetrics = metricsCollector != MetricsCollector.NOOP;
         switch (config.getProtocol()) {
             case HTTP_JSON:
             case HTTP_VPACK:
@@ -61,6 +101,17 @@ public class ConnectionPoolImpl implements ConnectionPool {
             default:
                 maxSlots = HTTP2_SLOTS;
         }
+        executor = SharedScheduler.acquire();
+        metrics.register(this);
+        for (int i = 0; i < minConnections; i++) {
+            grow(true);
+        }
+        if (idleTimeoutNanos > 0) {
+            long period = Math.max(1, TimeUnit.NANOSECONDS.toMillis(idleTimeoutNanos) / 2);
+            evictTask = executor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+        } else {
+            evictTask = null;
+        }
     }
 
     @Override
@@ -76,20 +127,163 @@ public class ConnectionPoolImpl implements ConnectionPool {
             throw new ArangoDBException("Connection pool already closed!");
         }
 
-        if (connections.size() < maxConnections) {
-            Connection connection = createConnection();
-            connections.add(connection);
-            for (int i = 0; i < maxSlots; i++) {
-                slots.offer((connection));
+        while (true) {
+            CompletableFuture<Connection> c = slots.poll();
+            if (!c.isDone()) {
+                if (creating.get() * maxSlots < slots.waiting()) {
+                    grow(false);
+                }
+                if (collectMetrics) {
+                    long start = System.nanoTime();
+                    c.thenRun(() -> metricsCollector.connectionAcquired(host, System.nanoTime() - start));
+                }
+                return c;
+            }
+            Slots s = slotsByConnection.get(c.getNow(null));
+            if (s == null || !s.retired) {
+                if (collectMetrics) {
+                    metricsCollector.connectionAcquired(host, 0);
+                }
+                return c;
             }
+            // slot of a retired connection
+            s.release();
         }
-
-        return slots.poll();
     }
 
     @Override
     public void release(Connection connection) {
-        slots.offer(connection);
+        Slots s = slotsByConnection.get(connection);
+        if (s == null) {
+            slots.offer(connection);
+            return;
+        }
+        s.lastUsed = System.nanoTime();
+        if (s.release()) {
+            slots.offer(connection);
+        }
+    }
+
+    @Override
+    public void setSlots(final Connection connection, final int count) {
+        Slots s = slotsByConnection.get(connection);
+        if (s == null) {
+            return;
+        }
+        for (int i = s.resize(Math.max(1, count)); i > 0; i--) {
+            slots.offer(connection);
+        }
+    }
+
+    private void grow(final boolean warmUp) {
+        int n;
+        do {
+            n = size.get();
+            if (n >= maxConnections) {
+                return;
+            }
+        } while (!size.compareAndSet(n, n + 1));
+        creating.incrementAndGet();
+        try {
+            executor.execute(() -> addConnection(warmUp));
+        } catch (RejectedExecutionException e) {
+            // pool closed
+            creating.decrementAndGet();
+            size.decrementAndGet();
+        }
+    }
+
+    private void addConnection(final boolean warmUp) {
+        final Connection connection;
+        try {
+            connection = createConnection();
+        } catch (Exception e) {
+            creating.decrementAndGet();
+            LOGGER.error("Could not create connection to {}", host, e);
+            if (size.decrementAndGet() == 0) {
+                slots.failWaiting(e);
+            }
+            return;
+        }
+        slotsByConnection.put(connection, new Slots(connection, maxSlots));
+        connections.add(connection);
+        if (closed) {
+            closeConnection(connection);
+            return;
+        }
+        CompletableFuture<Void> ready = warmUp ? connection.warmUp() : CompletableFuture.completedFuture(null);
+        ready.whenComplete((v, e) -> {
+            if (e != null) {
+                LOGGER.debug("Could not warm up connection to {}", host, e);
+            }
+            for (int i = 0; i < maxSlots; i++) {
+                slots.offer(connection);
+            }
+            creating.decrementAndGet();
+            // requests queued meanwhile did not grow the pool, since this connection was still being created
+            if (!closed && creating.get() * maxSlots < slots.waiting()) {
+                grow(false);
+            }
+        });
+    }
+
+    /**
+     * Retires the connections not used for {@link #idleTimeoutNanos}, down to {@link #minConnections}, and removes
+     * their idle slots from the queue, in place, so that requests do not find the queue temporarily empty. Their slots
+     * in use are dropped on release.
+     */
+    private void evictIdle() {
+        long now = System.nanoTime();
+        for (Slots s : slotsByConnection.values()) {
+            if (!s.retired && now - s.lastUsed > idleTimeoutNanos && retire(s)) {
+                LOGGER.debug("Retiring idle connection to {}", host);
+                while (slots.remove(s.connection)) {
+                    s.release();
+                }
+            }
+        }
+    }
+
+    private boolean retire(final Slots s) {
+        int n;
+        do {
+            n = size.get();
+            if (n <= minConnections) {
+                return false;
+            }
+        } while (!size.compareAndSet(n, n - 1));
+        s.retire();
+        return true;
+    }
+
+    private void closeConnection(final Connection connection) {
+        slotsByConnection.remove(connection);
+        connections.remove(connection);
+        try {
+            connection.close();
+        } catch (IOException e) {
+            LOGGER.debug("Could not close connection to {}", host, e);
+        }
+    }
+
+    int connectionCount() {
+        return connections.size();
+    }
+
+    int slotCount() {
+        int res = 0;
+        for (Slots s : slotsByConnection.values()) {
+            res += s.limit;
+        }
+        return res;
+    }
+
+    int slotsInUse() {
+        int res = 0;
+        for (Slots s : slotsByConnection.values()) {
+            res += s.issued.get();
+        }
+        return Math.max(0, res - slots.available());
     }
 
     @Override
@@ -104,16 +298,89 @@ public class ConnectionPoolImpl implements ConnectionPool {
 
     @Override
     public void close() throws IOException {
-        closed = true;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        if (evictTask != null) {
+            evictTask.cancel(false);
+        }
+        SharedScheduler.release();
+        metrics.unregister(this);
         for (final Connection connection : connections) {
             connection.close();
         }
     }
 
+    /**
+     * Slots of a connection: {@link #issued} counts the slots in the queue or in use, which converges to
+     * {@link #limit} as slots are added or, when shrinking, dropped on release. Once retired, the limit is 0 and the
+     * connection is closed when its last slot is dropped.
+     */
+    private final class Slots {
+        private final Connection connection;
+        private final AtomicInteger issued;
+        private volatile int limit;
+        private volatile boolean retired;
+        private volatile long lastUsed = System.nanoTime();
+
+        Slots(final Connection connection, final int limit) {
+            this.connection = connection;
+            this.limit = limit;
+            issued = new AtomicInteger(limit);
+        }
+
+        /**
+         * @return the number of slots to add
+         */
+        int resize(final int newLimit) {
+            if (retired) {
+                return 0;
+            }
+            limit = newLimit;
+            if (retired) {
+                limit = 0;
+                return 0;
+            }
+            int added = 0;
+            int i;
+            while ((i = issued.get()) < limit) {
+                if (issued.compareAndSet(i, i + 1)) {
+                    added++;
+                }
+            }
+            return added;
+        }
+
+        void retire() {
+            retired = true;
+            limit = 0;
+        }
+
+        /**
+         * @return whether the released slot should be kept
+         */
+        boolean release() {
+            int i;
+            while ((i = issued.get()) > limit) {
+                if (issued.compareAndSet(i, i - 1)) {
+                    if (i == 1) {
+                        closeConnection(connection);
+                    }
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     @Override
     public String toString() {
-        return "ConnectionPoolImpl [host=" + host + ", maxConnections=" + maxConnections + ", connections="
-                + connections.size() + ", factory=" + factory.getClass().getSimpleName() + "]";
+        return "ConnectionPoolImpl [host=" + host + ", minConnections=" + minConnections + ", maxConnections="
+                + maxConnections + ", connections=" + connections.size() + ", factory="
+                + factory.getClass().getSimpleName() + "]";
     }
 
 }
@@ -0,0 +1,50 @@
+package com.arangodb.internal.net;
+
+import com.arangodb.ConnectionSlotMetrics;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Aggregates the connection slot gauges of the open connection pools, which are read on demand.
+ */
+public class ConnectionSlotMetricsImpl implements ConnectionSlotMetrics {
+
+    private final List<ConnectionPoolImpl> pools = new CopyOnWriteArrayList<>();
+
+    void register(final ConnectionPoolImpl pool) {
+        pools.add(pool);
+    }
+
+    void unregister(final ConnectionPoolImpl pool) {
+        pools.remove(pool);
+    }
+
+    @Override
+    public int getConnections() {
+        int res = 0;
+        for (ConnectionPoolImpl pool : pools) {
+            res += pool.connectionCount();
+        }
+        return res;
+    }
+
+    @Override
+    public int getSlots() {
+        int res = 0;
+        for (ConnectionPoolImpl pool : pools) {
+            res += pool.slotCount();
+        }
+        return res;
+    }
+
+    @Override
+    public int getSlotsInUse() {
+        int res = 0;
+        for (ConnectionPoolImpl pool : pools) {
+            res += pool.slotsInUse();
+        }
+        return res;
+    }
+
+}
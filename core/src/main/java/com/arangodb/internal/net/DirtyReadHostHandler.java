@@ -27,11 +27,11 @@ import java.io.IOException;
 /**
  * @author Mark Vollmary
  */
+@SuppressWarnings("deprecation")
 public class DirtyReadHostHandler implements HostHandler {
 
     private final HostHandler master;
     private final HostHandler follower;
-    private AccessType currentAccessType;
 
     public DirtyReadHostHandler(final HostHandler master, final HostHandler follower) {
         super();
@@ -39,43 +39,68 @@ public class DirtyReadHostHandler implements HostHandler {
         this.follower = follower;
     }
 
-    private HostHandler determineHostHandler() {
-        if (currentAccessType == AccessType.DIRTY_READ) {
+    private HostHandler determineHostHandler(final AccessType accessType) {
+        if (accessType == AccessType.DIRTY_READ) {
             return follower;
         }
         return master;
     }
 
+    @Override
+    public HostSelection select(final AccessType accessType) {
+        return determineHostHandler(accessType).select(accessType);
+    }
+
     @Override
     public Host get(final HostHandle hostHandle, final AccessType accessType) {
-        this.currentAccessType = accessType;
-        return determineHostHandler().get(hostHandle, accessType);
+        return determineHostHandler(accessType).get(hostHandle, accessType);
     }
 
     @Override
     public void checkNext(HostHandle hostHandle, AccessType accessType) {
-        this.currentAccessType = accessType;
-        determineHostHandler().checkNext(hostHandle, accessType);
+        determineHostHandler(accessType).checkNext(hostHandle, accessType);
+    }
+
+    @Override
+    public void requestStarted(final Host host) {
+        master.requestStarted(host);
+        follower.requestStarted(host);
+    }
+
+    @Override
+    public void requestCompleted(final Host host, final long durationNanos, final boolean failed) {
+        master.requestCompleted(host, durationNanos, failed);
+        follower.requestCompleted(host, durationNanos, failed);
     }
 
+    /**
+     * Since the access type of the request is not known here, the outcome is reported to the master host handler.
+     */
     @Override
     public void success() {
-        determineHostHandler().success();
+        master.success();
     }
 
+    /**
+     * @see #success()
+     */
     @Override
     public void fail(Exception exception) {
-        determineHostHandler().fail(exception);
+        master.fail(exception);
     }
 
+    /**
+     * @see #success()
+     */
     @Override
     public void failIfNotMatch(HostDescription host, Exception exception) {
-        determineHostHandler().failIfNotMatch(host, exception);
+        master.failIfNotMatch(host, exception);
     }
 
     @Override
     public void reset() {
-        determineHostHandler().reset();
+        master.reset();
+        follower.reset();
     }
 
     @Override
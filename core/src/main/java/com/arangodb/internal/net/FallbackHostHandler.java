@@ -26,77 +26,61 @@ import com.arangodb.config.HostDescription;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * @author Mark Vollmary
  */
+@SuppressWarnings("deprecation")
 public class FallbackHostHandler implements HostHandler {
 
+    private static final int MAX_ITERATIONS = 3;
+
     private final HostResolver resolver;
-    private final List<Throwable> lastFailExceptions;
-    private Host current;
-    private Host lastSuccess;
-    private int iterations;
-    private HostSet hosts;
+    private final AtomicReference<Host> current;
+    private final Selection shared;
+    private volatile HostSet hosts;
 
     public FallbackHostHandler(final HostResolver resolver) {
         this.resolver = resolver;
-        lastFailExceptions = new CopyOnWriteArrayList<>();
-        reset();
         hosts = resolver.getHosts();
-        current = lastSuccess = hosts.getHostsList().get(0);
+        current = new AtomicReference<>(hosts.getHostsList().get(0));
+        shared = new Selection();
     }
 
     @Override
-    public Host get(final HostHandle hostHandle, AccessType accessType) {
-        checkNext(hostHandle, accessType);
-        if (current.isMarkforDeletion()) {
-            fail(new ArangoDBException("Host marked for deletion"));
-        }
-        return current;
+    public HostSelection select(final AccessType accessType) {
+        return new Selection();
     }
 
     @Override
-    public void checkNext(HostHandle hostHandle, AccessType accessType) {
-        if (current == lastSuccess && iterations >= 3) {
-            ArangoDBException e = ArangoDBException.of("Cannot contact any host!",
-                    new ArangoDBMultipleException(new ArrayList<>(lastFailExceptions)));
-            reset();
-            throw e;
-        }
+    public synchronized Host get(final HostHandle hostHandle, AccessType accessType) {
+        return shared.get(hostHandle);
     }
 
     @Override
-    public void success() {
-        lastSuccess = current;
-        reset();
+    public synchronized void checkNext(HostHandle hostHandle, AccessType accessType) {
+        shared.checkNext(hostHandle);
     }
 
     @Override
-    public void fail(Exception exception) {
-        hosts = resolver.getHosts();
-        final List<Host> hostList = hosts.getHostsList();
-        final int index = hostList.indexOf(current) + 1;
-        final boolean inBound = index < hostList.size();
-        current = hostList.get(inBound ? index : 0);
-        if (!inBound) {
-            iterations++;
-        }
-        lastFailExceptions.add(exception);
+    public synchronized void success() {
+        shared.success();
+    }
+
+    @Override
+    public synchronized void fail(Exception exception) {
+        shared.fail(exception);
     }
 
     @Override
     public synchronized void failIfNotMatch(HostDescription host, Exception exception) {
-        if (!host.equals(current.getDescription())) {
-            fail(exception);
-        }
+        shared.failIfNotMatch(host, exception);
     }
 
     @Override
-    public void reset() {
-        iterations = 0;
-        lastFailExceptions.clear();
+    public synchronized void reset() {
+        shared.reset();
     }
 
     @Override
@@ -110,4 +94,62 @@ public class FallbackHostHandler implements HostHandler {
         hosts.setJwt(jwt);
     }
 
+    /**
+     * Fails over from the current host of the handler, so that all requests move together to the next host. When
+     * several requests fail on the same host, the current host is moved forward only once.
+     */
+    private final class Selection implements HostSelection {
+        private final List<Throwable> lastFailExceptions = new ArrayList<>();
+        private Host host = current.get();
+        private int fails;
+
+        @Override
+        public Host get(final HostHandle hostHandle) {
+            checkNext(hostHandle);
+            host = current.get();
+            if (host.isMarkforDeletion()) {
+                fail(new ArangoDBException("Host marked for deletion"));
+                host = current.get();
+            }
+            return host;
+        }
+
+        @Override
+        public void checkNext(final HostHandle hostHandle) {
+            if (fails >= MAX_ITERATIONS * hosts.getHostsList().size()) {
+                ArangoDBException e = ArangoDBException.of("Cannot contact any host!",
+                        new ArangoDBMultipleException(new ArrayList<>(lastFailExceptions)));
+                reset();
+                throw e;
+            }
+        }
+
+        @Override
+        public void success() {
+            reset();
+        }
+
+        @Override
+        public void fail(final Exception exception) {
+            hosts = resolver.getHosts();
+            final List<Host> hostList = hosts.getHostsList();
+            final int index = hostList.indexOf(host) + 1;
+            current.compareAndSet(host, hostList.get(index < hostList.size() ? index : 0));
+            fails++;
+            lastFailExceptions.add(exception);
+        }
+
+        @Override
+        public void failIfNotMatch(final HostDescription hostDescription, final Exception exception) {
+            if (!hostDescription.equals(host.getDescription())) {
+                fail(exception);
+            }
+        }
+
+        void reset() {
+            fails = 0;
+            lastFailExceptions.clear();
+        }
+    }
+
 }
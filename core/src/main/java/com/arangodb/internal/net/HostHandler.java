@@ -31,16 +31,66 @@ import java.io.IOException;
 @UsedInApi
 public interface HostHandler {
 
+    /**
+     * Creates the host selection state of a new request.
+     * <p>
+     * The default implementation delegates to the deprecated methods of this interface, whose failover state is
+     * shared by all the requests.
+     */
+    default HostSelection select(AccessType accessType) {
+        return new SharedHostSelection(this, accessType);
+    }
+
+    /**
+     * @deprecated for removal, use {@link #select(AccessType)} instead
+     */
+    @Deprecated
     Host get(HostHandle hostHandle, AccessType accessType);
 
+    /**
+     * @deprecated for removal, use {@link #select(AccessType)} instead
+     */
+    @Deprecated
     void checkNext(HostHandle hostHandle, AccessType accessType);
 
+    /**
+     * Notifies that a request is being sent to the given host.
+     */
+    default void requestStarted(Host host) {
+    }
+
+    /**
+     * Notifies the completion of a request previously notified with {@link #requestStarted(Host)}.
+     *
+     * @param host          host the request has been sent to
+     * @param durationNanos time elapsed from sending the request to receiving the response
+     * @param failed        whether the request failed without receiving any response
+     */
+    default void requestCompleted(Host host, long durationNanos, boolean failed) {
+    }
+
+    /**
+     * @deprecated for removal, use {@link #select(AccessType)} instead
+     */
+    @Deprecated
     void success();
 
+    /**
+     * @deprecated for removal, use {@link #select(AccessType)} instead
+     */
+    @Deprecated
     void fail(Exception exception);
 
+    /**
+     * @deprecated for removal, use {@link #select(AccessType)} instead
+     */
+    @Deprecated
     void failIfNotMatch(HostDescription host, Exception exception);
 
+    /**
+     * @deprecated for removal, use {@link #select(AccessType)} instead
+     */
+    @Deprecated
     void reset();
 
     void close() throws IOException;
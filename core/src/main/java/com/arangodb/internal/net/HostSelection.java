@@ -0,0 +1,29 @@
+package com.arangodb.internal.net;
+
+import com.arangodb.config.HostDescription;
+
+/**
+ * Host selection state of a single request, created by {@link HostHandler#select(AccessType)} and used for all its
+ * attempts, including retries and redirects. The attempts of a request are sequential, so implementations are not
+ * required to be thread-safe; state shared across requests is kept in the {@link HostHandler}.
+ */
+public interface HostSelection {
+
+    /**
+     * @param hostHandle sticky host of the request, if any; it is updated with the selected host when not set
+     * @return the host to send the next attempt to
+     */
+    Host get(HostHandle hostHandle);
+
+    /**
+     * @throws com.arangodb.ArangoDBException if no further attempt should be made
+     */
+    void checkNext(HostHandle hostHandle);
+
+    void success();
+
+    void fail(Exception exception);
+
+    void failIfNotMatch(HostDescription host, Exception exception);
+
+}
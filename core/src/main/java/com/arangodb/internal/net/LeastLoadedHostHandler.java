@@ -0,0 +1,207 @@
+package com.arangodb.internal.net;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.ArangoDBMultipleException;
+import com.arangodb.config.HostDescription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Picks two distinct random hosts and returns the one with the lowest expected completion time, estimated as the
+ * exponentially weighted moving average of its latencies multiplied by the number of its outstanding requests plus
+ * one (power of two choices). Failures move the average of the failing host to at least {@link #FAILURE_PENALTY_NANOS},
+ * from which it decays with the subsequent successful responses.
+ */
+@SuppressWarnings("deprecation")
+public class LeastLoadedHostHandler implements HostHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LeastLoadedHostHandler.class);
+
+    /**
+     * Decay time of the latency average: samples older than this weigh less than 1/e.
+     */
+    static final long DECAY_NANOS = 10_000_000_000L;
+    static final long FAILURE_PENALTY_NANOS = 1_000_000_000L;
+
+    private final HostResolver resolver;
+    private final Map<HostDescription, Load> loads = new ConcurrentHashMap<>();
+    private final Selection shared;
+    private volatile HostSet hosts;
+
+    public LeastLoadedHostHandler(final HostResolver resolver) {
+        super();
+        this.resolver = resolver;
+        hosts = resolver.getHosts();
+        shared = new Selection();
+    }
+
+    @Override
+    public HostSelection select(final AccessType accessType) {
+        return new Selection();
+    }
+
+    private Host pick(final List<Host> hostList) {
+        final int size = hostList.size();
+        if (size == 1) {
+            return hostList.get(0);
+        }
+        final ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        final int i = rnd.nextInt(size);
+        final int j = (i + 1 + rnd.nextInt(size - 1)) % size;
+        final Host a = hostList.get(i);
+        final Host b = hostList.get(j);
+        if (a.isMarkforDeletion() != b.isMarkforDeletion()) {
+            return a.isMarkforDeletion() ? b : a;
+        }
+        return load(a).cost() <= load(b).cost() ? a : b;
+    }
+
+    private Load load(final Host host) {
+        return loads.computeIfAbsent(host.getDescription(), k -> new Load());
+    }
+
+    @Override
+    public void requestStarted(final Host host) {
+        load(host).inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void requestCompleted(final Host host, final long durationNanos, final boolean failed) {
+        Load load = load(host);
+        load.inFlight.decrementAndGet();
+        load.update(durationNanos, failed);
+    }
+
+    @Override
+    public synchronized Host get(final HostHandle hostHandle, final AccessType accessType) {
+        return shared.get(hostHandle);
+    }
+
+    @Override
+    public synchronized void checkNext(final HostHandle hostHandle, final AccessType accessType) {
+        shared.checkNext(hostHandle);
+    }
+
+    @Override
+    public synchronized void success() {
+        shared.success();
+    }
+
+    @Override
+    public synchronized void fail(final Exception exception) {
+        shared.fail(exception);
+    }
+
+    @Override
+    public synchronized void failIfNotMatch(final HostDescription host, final Exception exception) {
+        shared.failIfNotMatch(host, exception);
+    }
+
+    @Override
+    public synchronized void reset() {
+        shared.reset();
+    }
+
+    @Override
+    public void close() {
+        hosts.close();
+        resolver.close();
+    }
+
+    @Override
+    public void setJwt(final String jwt) {
+        hosts.setJwt(jwt);
+    }
+
+    private final class Selection implements HostSelection {
+        private final List<Exception> lastFailExceptions = new ArrayList<>();
+        private int fails;
+
+        @Override
+        public Host get(final HostHandle hostHandle) {
+            checkNext(hostHandle);
+            final List<Host> hostList = hosts.getHostsList();
+            if (hostHandle != null && hostHandle.getHost() != null) {
+                for (Host host : hostList) {
+                    if (hostHandle.getHost().equals(host.getDescription())) {
+                        return host;
+                    }
+                }
+            }
+            Host host = pick(hostList);
+            if (hostHandle != null) {
+                hostHandle.setHost(host.getDescription());
+            }
+            LOGGER.debug("Returning host: {}", host);
+            return host;
+        }
+
+        @Override
+        public void checkNext(final HostHandle hostHandle) {
+            hosts = resolver.getHosts();
+            final int size = hosts.getHostsList().size();
+
+            if (fails > size) {
+                ArangoDBException e = ArangoDBException.of("Cannot contact any host!",
+                        new ArangoDBMultipleException(new ArrayList<>(lastFailExceptions)));
+                reset();
+                throw e;
+            }
+        }
+
+        @Override
+        public void success() {
+            reset();
+        }
+
+        @Override
+        public void fail(final Exception exception) {
+            fails++;
+            lastFailExceptions.add(exception);
+        }
+
+        @Override
+        public void failIfNotMatch(final HostDescription host, final Exception exception) {
+            fail(exception);
+        }
+
+        void reset() {
+            fails = 0;
+            lastFailExceptions.clear();
+        }
+    }
+
+    static final class Load {
+        final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicLong ewmaBits = new AtomicLong(Double.doubleToRawLongBits(0.0));
+        private volatile long lastUpdate = System.nanoTime();
+
+        double cost() {
+            return (Double.longBitsToDouble(ewmaBits.get()) + 1) * (Math.max(0, inFlight.get()) + 1);
+        }
+
+        void update(final long durationNanos, final boolean failed) {
+            final long now = System.nanoTime();
+            final double w = Math.exp(-(double) Math.max(0, now - lastUpdate) / DECAY_NANOS);
+            lastUpdate = now;
+            long prev;
+            double next;
+            do {
+                prev = ewmaBits.get();
+                double ewma = Double.longBitsToDouble(prev);
+                next = failed
+                        ? Math.max(ewma, FAILURE_PENALTY_NANOS)
+                        : ewma * w + durationNanos * (1 - w);
+            } while (!ewmaBits.compareAndSet(prev, Double.doubleToRawLongBits(next)));
+        }
+    }
+
+}
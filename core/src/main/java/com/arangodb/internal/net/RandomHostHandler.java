@@ -22,34 +22,39 @@ package com.arangodb.internal.net;
 
 import com.arangodb.config.HostDescription;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * @author Mark Vollmary
  */
+@SuppressWarnings("deprecation")
 public class RandomHostHandler implements HostHandler {
 
     private final HostResolver resolver;
     private final HostHandler fallback;
-    private Host current;
-    private HostSet hosts;
+    private final AtomicReference<Host> current;
+    private final Selection shared;
+    private volatile HostSet hosts;
 
     public RandomHostHandler(final HostResolver resolver, final HostHandler fallback) {
         super();
         this.resolver = resolver;
         this.fallback = fallback;
         hosts = resolver.getHosts();
-        current = getRandomHost();
+        current = new AtomicReference<>(getRandomHost());
+        shared = new Selection(fallback.select(null));
     }
 
     @Override
-    public Host get(final HostHandle hostHandle, AccessType accessType) {
-        if (current == null || current.isMarkforDeletion()) {
-            hosts = resolver.getHosts();
-            current = getRandomHost();
-        }
-        return current;
+    public HostSelection select(final AccessType accessType) {
+        return new Selection(fallback.select(accessType));
+    }
+
+    @Override
+    public synchronized Host get(final HostHandle hostHandle, AccessType accessType) {
+        return shared.get(hostHandle);
     }
 
     @Override
@@ -57,27 +62,23 @@ public class RandomHostHandler implements HostHandler {
     }
 
     @Override
-    public void success() {
-        fallback.success();
+    public synchronized void success() {
+        shared.success();
     }
 
     @Override
-    public void fail(Exception exception) {
-        fallback.fail(exception);
-        current = fallback.get(null, null);
+    public synchronized void fail(Exception exception) {
+        shared.fail(exception);
     }
 
     @Override
     public synchronized void failIfNotMatch(HostDescription host, Exception exception) {
-        if (!host.equals(current.getDescription())) {
-            fail(exception);
-        }
+        shared.failIfNotMatch(host, exception);
     }
 
     private Host getRandomHost() {
-        final ArrayList<Host> hostList = new ArrayList<>(hosts.getHostsList());
-        Collections.shuffle(hostList);
-        return hostList.get(0);
+        final List<Host> hostList = hosts.getHostsList();
+        return hostList.get(ThreadLocalRandom.current().nextInt(hostList.size()));
     }
 
     @Override
@@ -85,6 +86,16 @@ public class RandomHostHandler implements HostHandler {
         fallback.reset();
     }
 
+    @Override
+    public void requestStarted(final Host host) {
+        fallback.requestStarted(host);
+    }
+
+    @Override
+    public void requestCompleted(final Host host, final long durationNanos, final boolean failed) {
+        fallback.requestCompleted(host, durationNanos, failed);
+    }
+
     @Override
     public void close() {
         hosts.close();
@@ -97,4 +108,53 @@ public class RandomHostHandler implements HostHandler {
         hosts.setJwt(jwt);
     }
 
+    /**
+     * Sends the request to the current host of the handler and fails over according to the fallback host handler,
+     * whose selected host becomes the current one.
+     */
+    private final class Selection implements HostSelection {
+        private final HostSelection fallbackSelection;
+        private Host host = current.get();
+
+        Selection(final HostSelection fallbackSelection) {
+            this.fallbackSelection = fallbackSelection;
+        }
+
+        @Override
+        public Host get(final HostHandle hostHandle) {
+            Host h = current.get();
+            if (h == null || h.isMarkforDeletion()) {
+                hosts = resolver.getHosts();
+                current.compareAndSet(h, getRandomHost());
+                h = current.get();
+            }
+            host = h;
+            return h;
+        }
+
+        @Override
+        public void checkNext(final HostHandle hostHandle) {
+        }
+
+        @Override
+        public void success() {
+            fallbackSelection.success();
+        }
+
+        @Override
+        public void fail(final Exception exception) {
+            fallbackSelection.fail(exception);
+            final Host next = fallbackSelection.get(null);
+            current.compareAndSet(host, next);
+            host = current.get();
+        }
+
+        @Override
+        public void failIfNotMatch(final HostDescription hostDescription, final Exception exception) {
+            if (!hostDescription.equals(host.getDescription())) {
+                fail(exception);
+            }
+        }
+    }
+
 }
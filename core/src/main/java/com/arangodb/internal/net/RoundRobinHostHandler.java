@@ -28,86 +28,62 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author Mark Vollmary
  */
+@SuppressWarnings("deprecation")
 public class RoundRobinHostHandler implements HostHandler {
 
     private final static Logger LOGGER = LoggerFactory.getLogger(RoundRobinHostHandler.class);
 
     private final HostResolver resolver;
-    private final List<Exception> lastFailExceptions;
-    private long current;
-    private int fails;
-    private HostSet hosts;
+    private final AtomicLong current;
+    private final Selection shared;
+    private volatile HostSet hosts;
 
     public RoundRobinHostHandler(final HostResolver resolver) {
         super();
         this.resolver = resolver;
-        lastFailExceptions = new CopyOnWriteArrayList<>();
         hosts = resolver.getHosts();
-        current = 0L;
-        reset();
+        current = new AtomicLong();
+        shared = new Selection();
     }
 
     @Override
-    public Host get(final HostHandle hostHandle, AccessType accessType) {
-        checkNext(hostHandle, accessType);
-        final int size = hosts.getHostsList().size();
-        final int index = (int) ((current++) % size);
-        Host host = hosts.getHostsList().get(index);
-        if (hostHandle != null) {
-            final HostDescription hostDescription = hostHandle.getHost();
-            if (hostDescription != null) {
-                for (int i = index; i < index + size; i++) {
-                    host = hosts.getHostsList().get(i % size);
-                    if (hostDescription.equals(host.getDescription())) {
-                        break;
-                    }
-                }
-            } else {
-                hostHandle.setHost(host.getDescription());
-            }
-        }
-        LOGGER.debug("Returning host: {}", host);
-        return host;
+    public HostSelection select(final AccessType accessType) {
+        return new Selection();
     }
 
     @Override
-    public void checkNext(HostHandle hostHandle, AccessType accessType) {
-        hosts = resolver.getHosts();
-        final int size = hosts.getHostsList().size();
+    public synchronized Host get(final HostHandle hostHandle, AccessType accessType) {
+        return shared.get(hostHandle);
+    }
 
-        if (fails > size) {
-            ArangoDBException e = ArangoDBException.of("Cannot contact any host!",
-                    new ArangoDBMultipleException(new ArrayList<>(lastFailExceptions)));
-            reset();
-            throw e;
-        }
+    @Override
+    public synchronized void checkNext(HostHandle hostHandle, AccessType accessType) {
+        shared.checkNext(hostHandle);
     }
 
     @Override
-    public void success() {
-        reset();
+    public synchronized void success() {
+        shared.success();
     }
 
     @Override
-    public void fail(Exception exception) {
-        fails++;
-        lastFailExceptions.add(exception);
+    public synchronized void fail(Exception exception) {
+        shared.fail(exception);
     }
 
     @Override
-    public void failIfNotMatch(HostDescription host, Exception exception) {
-        fail(exception);
+    public synchronized void failIfNotMatch(HostDescription host, Exception exception) {
+        shared.failIfNotMatch(host, exception);
     }
 
     @Override
-    public void reset() {
-        fails = 0;
-        lastFailExceptions.clear();
+    public synchronized void reset() {
+        shared.reset();
     }
 
     @Override
@@ -121,4 +97,67 @@ public class RoundRobinHostHandler implements HostHandler {
         hosts.setJwt(jwt);
     }
 
+    private final class Selection implements HostSelection {
+        private final List<Exception> lastFailExceptions = new ArrayList<>();
+        private int fails;
+
+        @Override
+        public Host get(final HostHandle hostHandle) {
+            checkNext(hostHandle);
+            final List<Host> hostList = hosts.getHostsList();
+            final int size = hostList.size();
+            final int index = (int) (current.getAndIncrement() % size);
+            Host host = hostList.get(index);
+            if (hostHandle != null) {
+                final HostDescription hostDescription = hostHandle.getHost();
+                if (hostDescription != null) {
+                    for (int i = index; i < index + size; i++) {
+                        host = hostList.get(i % size);
+                        if (hostDescription.equals(host.getDescription())) {
+                            break;
+                        }
+                    }
+                } else {
+                    hostHandle.setHost(host.getDescription());
+                }
+            }
+            LOGGER.debug("Returning host: {}", host);
+            return host;
+        }
+
+        @Override
+        public void checkNext(final HostHandle hostHandle) {
+            hosts = resolver.getHosts();
+            final int size = hosts.getHostsList().size();
+
+            if (fails > size) {
+                ArangoDBException e = ArangoDBException.of("Cannot contact any host!",
+                        new ArangoDBMultipleException(new ArrayList<>(lastFailExceptions)));
+                reset();
+                throw e;
+            }
+        }
+
+        @Override
+        public void success() {
+            reset();
+        }
+
+        @Override
+        public void fail(final Exception exception) {
+            fails++;
+            lastFailExceptions.add(exception);
+        }
+
+        @Override
+        public void failIfNotMatch(final HostDescription host, final Exception exception) {
+            fail(exception);
+        }
+
+        void reset() {
+            fails = 0;
+            lastFailExceptions.clear();
+        }
+    }
+
 }
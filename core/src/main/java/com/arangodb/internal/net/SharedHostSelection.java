@@ -0,0 +1,45 @@
+package com.arangodb.internal.net;
+
+import com.arangodb.config.HostDescription;
+
+/**
+ * {@link HostSelection} delegating to the deprecated methods of a {@link HostHandler}, for implementations not
+ * overriding {@link HostHandler#select(AccessType)}.
+ */
+@SuppressWarnings("deprecation")
+final class SharedHostSelection implements HostSelection {
+
+    private final HostHandler hostHandler;
+    private final AccessType accessType;
+
+    SharedHostSelection(final HostHandler hostHandler, final AccessType accessType) {
+        this.hostHandler = hostHandler;
+        this.accessType = accessType;
+    }
+
+    @Override
+    public Host get(final HostHandle hostHandle) {
+        return hostHandler.get(hostHandle, accessType);
+    }
+
+    @Override
+    public void checkNext(final HostHandle hostHandle) {
+        hostHandler.checkNext(hostHandle, accessType);
+    }
+
+    @Override
+    public void success() {
+        hostHandler.success();
+    }
+
+    @Override
+    public void fail(final Exception exception) {
+        hostHandler.fail(exception);
+    }
+
+    @Override
+    public void failIfNotMatch(final HostDescription host, final Exception exception) {
+        hostHandler.failIfNotMatch(host, exception);
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.arangodb.internal.serde;
+
+import com.arangodb.RequestContext;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * User data serde able to write and read user data directly on the Jackson generators and parsers of the internal
+ * serde, instead of going through intermediate byte arrays.
+ * <p>
+ * Generators, parsers and factories are passed as {@link Object}, since the Jackson classes used by the internal serde
+ * are relocated in the shaded driver. Implementations must check in {@link #supportsInline(Object)} that they use the
+ * same Jackson classes and data format, and that writing and reading inline produces the same results as going
+ * through byte arrays, i.e. that their configuration affecting the generated or parsed data matches the one of the
+ * factory.
+ */
+public interface InlineUserDataSerde {
+
+    /**
+     * Called before each inline (de)serialization, so implementations should cache the result as long as their
+     * configuration does not change.
+     *
+     * @param factory {@code JsonFactory} of the internal serde
+     * @return whether user data can be written to and read from the generators and parsers created by the factory
+     */
+    boolean supportsInline(Object factory);
+
+    /**
+     * Writes the user data to the generator, as a value nested in the document being written.
+     *
+     * @param value     user data
+     * @param generator {@code JsonGenerator} of the internal serde
+     */
+    void serializeInline(Object value, Object generator) throws IOException;
+
+    /**
+     * Reads the user data value starting at the current token of the parser, consuming it.
+     *
+     * @param parser {@code JsonParser} of the internal serde
+     * @param type   target data type
+     * @param ctx    serde context
+     * @return deserialized user data
+     */
+    Object deserializeInline(Object parser, Type type, RequestContext ctx) throws IOException;
+
+}
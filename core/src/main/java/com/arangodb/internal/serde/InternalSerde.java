@@ -2,14 +2,19 @@ package com.arangodb.internal.serde;
 
 import com.arangodb.arch.UsedInApi;
 import com.arangodb.serde.ArangoSerde;
+import com.arangodb.serde.StreamingArangoSerde;
 import com.arangodb.ContentType;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
+import java.util.List;
 
 @UsedInApi
-public interface InternalSerde extends ArangoSerde {
+public interface InternalSerde extends StreamingArangoSerde {
 
     /**
      * Used for logging and debugging.
@@ -40,6 +45,17 @@ public interface InternalSerde extends ArangoSerde {
      */
     <T> T deserialize(byte[] content, Type type);
 
+    /**
+     * Deserializes the content and binds it to the target data type, leaving the elements of user data lists (e.g.
+     * {@link com.arangodb.entity.CursorEntity#getResult()}) in their serialized form. The elements of such lists are
+     * deserialized, using the user serde, every time they are accessed.
+     *
+     * @param content byte array to deserialize
+     * @param type    target data type
+     * @return deserialized object
+     */
+    <T> T deserializeWithLazyUserData(byte[] content, Type type);
+
     /**
      * Deserializes the parsed json node and binds it to the target data type.
      *
@@ -103,6 +119,16 @@ public interface InternalSerde extends ArangoSerde {
      */
     byte[] serializeUserData(Object value);
 
+    /**
+     * Serializes the object using the user serde and writes it to the generator. If supported by the user serde (see
+     * {@link InlineUserDataSerde}), the object is written directly to the generator, otherwise it is serialized into a
+     * byte array first.
+     *
+     * @param value object to serialize
+     * @param gen   generator to write to
+     */
+    void serializeUserData(Object value, JsonGenerator gen) throws IOException;
+
     /**
      * Serializes each element in the collection using the user serde.
      *
@@ -111,6 +137,15 @@ public interface InternalSerde extends ArangoSerde {
      */
     byte[] serializeCollectionUserData(Iterable<?> value);
 
+    /**
+     * Serializes each element in the collection using the user serde, like {@link #serializeCollectionUserData(Iterable)},
+     * but returns the result in chunks, without copying it into a single array.
+     *
+     * @param value objects to serialize
+     * @return serialized bytes, in chunks
+     */
+    List<byte[]> serializeCollectionUserDataChunks(Iterable<?> value);
+
     /**
      * Deserializes the content and binds it to the target data type, using the user serde.
      *
@@ -120,6 +155,17 @@ public interface InternalSerde extends ArangoSerde {
      */
     <T> T deserializeUserData(byte[] content, Class<T> clazz);
 
+    /**
+     * Deserializes the value starting at the current token of the parser and binds it to the target data type, using
+     * the user serde. If supported by the user serde (see {@link InlineUserDataSerde}), the value is read directly from
+     * the parser, otherwise its bytes are extracted first.
+     *
+     * @param parser parser to read from
+     * @param clazz  class of target data type
+     * @return deserialized object
+     */
+    <T> T deserializeUserData(JsonParser parser, Class<T> clazz) throws IOException;
+
     /**
      * Deserializes the content and binds it to the target data type, using the user serde.
      *
@@ -1,7 +1,10 @@
 package com.arangodb.internal.serde;
 
 import com.arangodb.ArangoDBException;
+import com.arangodb.RequestContext;
 import com.arangodb.internal.RequestContextHolder;
+import com.arangodb.internal.util.BoundedCache;
+import com.arangodb.internal.util.ChunkedOutputStream;
 import com.arangodb.serde.ArangoSerde;
 import com.arangodb.util.RawBytes;
 import com.arangodb.util.RawJson;
@@ -17,32 +20,46 @@ import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.datatype.jsonp.JSONPModule;
 import jakarta.json.JsonException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 import static com.arangodb.internal.serde.SerdeUtils.checkSupportedJacksonVersion;
 import static com.arangodb.internal.serde.SerdeUtils.extractBytes;
 
-final class InternalSerdeImpl implements InternalSerde {
+final class InternalSerdeImpl implements InternalSerde, InlineUserDataSerde {
     private static final Logger LOG = LoggerFactory.getLogger(InternalSerdeImpl.class);
 
     static {
         checkSupportedJacksonVersion();
     }
 
+    private static final int MAX_CACHED_TYPES = 1_000;
+
     private final ArangoSerde userSerde;
+    // user serde able to write and read user data directly on the generators and parsers of this serde, checked with
+    // supportsInline() before each use, since its configuration can change
+    private final InlineUserDataSerde inlineUserSerde;
     private final ObjectMapper mapper;
+    // readers and writers with their root (de)serializer prefetched, the mapper is not reconfigured after construction
+    private final BoundedCache<Type, ObjectReader> readers;
+    private final BoundedCache<Type, ObjectReader> lazyReaders;
+    private final BoundedCache<Class<?>, ObjectWriter> writers;
 
     InternalSerdeImpl(final ObjectMapper mapper, final ArangoSerde userSerde, final Module protocolModule) {
         this.mapper = mapper;
         this.userSerde = userSerde;
+        inlineUserSerde = userSerde instanceof InlineUserDataSerde ? (InlineUserDataSerde) userSerde : null;
         mapper.deactivateDefaultTyping();
         mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         mapper.enable(JsonParser.Feature.INCLUDE_SOURCE_IN_LOCATION);
@@ -53,7 +70,8 @@ final class InternalSerdeImpl implements InternalSerde {
         mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
         mapper.setAnnotationIntrospector(new InternalAnnotationIntrospector(
                 new UserDataSerializer(this),
-                new UserDataDeserializer(this)
+                new UserDataDeserializer(this),
+                new UserDataListDeserializer(this)
         ));
 
         // JSON-P datatypes
@@ -62,22 +80,70 @@ final class InternalSerdeImpl implements InternalSerde {
         } catch (JsonException e) {
             LOG.debug("Jakarta JSON-P provider not found, handling of JSON-P datatypes is disabled", e);
         }
+
+        readers = new BoundedCache<>(MAX_CACHED_TYPES, t -> mapper.readerFor(mapper.constructType(t))
+                .without(JsonParser.Feature.AUTO_CLOSE_SOURCE));
+        lazyReaders = new BoundedCache<>(MAX_CACHED_TYPES, t ->
+                readers.get(t).withAttribute(UserDataListDeserializer.LAZY, Boolean.TRUE));
+        writers = new BoundedCache<>(MAX_CACHED_TYPES, c -> mapper.writerFor(c)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET));
     }
 
     @Override
     public byte[] serialize(final Object value) {
         try {
-            return mapper.writeValueAsBytes(value);
+            return value != null ? writers.get(value.getClass()).writeValueAsBytes(value) : mapper.writeValueAsBytes(null);
         } catch (JsonProcessingException e) {
             throw ArangoDBException.of(e);
         }
     }
 
+    @Override
+    public void serialize(final Object value, final OutputStream out) {
+        try {
+            writers.get(value != null ? value.getClass() : Object.class).writeValue(out, value);
+        } catch (IOException e) {
+            throw ArangoDBException.of(e);
+        }
+    }
+
     @Override
     public <T> T deserialize(byte[] content, Class<T> clazz) {
         return deserialize(content, (Type) clazz);
     }
 
+    @Override
+    public <T> T deserialize(final InputStream in, final Type type, final RequestContext ctx) {
+        return RequestContextHolder.INSTANCE.runWithCtx(ctx, () -> {
+            try {
+                if (RawBytes.class.equals(type) || RawJson.class.equals(type)) {
+                    ChunkedOutputStream os = new ChunkedOutputStream();
+                    byte[] buffer = new byte[8192];
+                    int n;
+                    while ((n = in.read(buffer)) != -1) {
+                        os.write(buffer, 0, n);
+                    }
+                    return deserialize(ChunkedOutputStream.concat(os.toChunks()), type);
+                }
+                return readers.get(type).readValue(in);
+            } catch (IOException e) {
+                throw ArangoDBException.of(e);
+            }
+        });
+    }
+
+    @Override
+    public <T> T deserializeWithLazyUserData(final byte[] content, final Type type) {
+        if (content == null || content.length == 0) {
+            return null;
+        }
+        try {
+            return lazyReaders.get(type).readValue(content);
+        } catch (IOException e) {
+            throw ArangoDBException.of(e);
+        }
+    }
+
     @Override
     public String toJsonString(final byte[] content) {
         if (content == null) {
@@ -153,20 +219,34 @@ final class InternalSerdeImpl implements InternalSerde {
         }
     }
 
+    @Override
+    public void serializeUserData(final Object value, final JsonGenerator gen) throws IOException {
+        if (value != null && !SerdeUtils.isManagedClass(value.getClass()) && supportsInlineUserData()) {
+            inlineUserSerde.serializeInline(value, gen);
+        } else {
+            gen.writeRawValue(new RawUserDataValue(serializeUserData(value)));
+        }
+    }
+
     @Override
     public byte[] serializeCollectionUserData(Iterable<?> value) {
-        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        return ChunkedOutputStream.concat(serializeCollectionUserDataChunks(value));
+    }
+
+    @Override
+    public List<byte[]> serializeCollectionUserDataChunks(Iterable<?> value) {
+        ChunkedOutputStream os = new ChunkedOutputStream();
         try (JsonGenerator gen = mapper.getFactory().createGenerator(os)) {
             gen.writeStartArray();
             for (Object o : value) {
-                gen.writeRawValue(new RawUserDataValue(serializeUserData(o)));
+                serializeUserData(o, gen);
             }
             gen.writeEndArray();
             gen.flush();
         } catch (IOException e) {
             throw ArangoDBException.of(e);
         }
-        return os.toByteArray();
+        return os.toChunks();
     }
 
     @Override
@@ -178,12 +258,21 @@ final class InternalSerdeImpl implements InternalSerde {
         }
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T deserializeUserData(final JsonParser parser, final Class<T> clazz) throws IOException {
+        if (!SerdeUtils.isManagedClass(clazz) && supportsInlineUserData()) {
+            return (T) inlineUserSerde.deserializeInline(parser, clazz, RequestContextHolder.INSTANCE.getCtx());
+        }
+        return deserializeUserData(extractBytes(parser), clazz);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> T deserializeUserData(byte[] content, JavaType clazz) {
         try {
             if (SerdeUtils.isManagedClass(clazz.getRawClass())) {
-                return mapper.readerFor(clazz).readValue(content);
+                return readers.get(clazz).readValue(content);
             } else {
                 return deserializeUserData(content, (Class<? extends T>) clazz.getRawClass());
             }
@@ -224,6 +313,26 @@ final class InternalSerdeImpl implements InternalSerde {
         return false;
     }
 
+    private boolean supportsInlineUserData() {
+        return inlineUserSerde != null && inlineUserSerde.supportsInline(mapper.getFactory());
+    }
+
+    @Override
+    public boolean supportsInline(final Object factory) {
+        return factory instanceof JsonFactory
+                && ((JsonFactory) factory).getFormatName().equals(mapper.getFactory().getFormatName());
+    }
+
+    @Override
+    public void serializeInline(final Object value, final Object generator) throws IOException {
+        writers.get(value != null ? value.getClass() : Object.class).writeValue((JsonGenerator) generator, value);
+    }
+
+    @Override
+    public Object deserializeInline(final Object parser, final Type type, final RequestContext ctx) throws IOException {
+        return readers.get(type).readValue((JsonParser) parser);
+    }
+
     @Override
     public ArangoSerde getUserSerde() {
         return userSerde;
@@ -232,7 +341,7 @@ final class InternalSerdeImpl implements InternalSerde {
     @Override
     public <T> T deserialize(final JsonNode node, final Type type) {
         try {
-            return mapper.readerFor(mapper.constructType(type)).readValue(node);
+            return readers.get(type).readValue(node);
         } catch (IOException e) {
             throw ArangoDBException.of(e);
         }
@@ -250,7 +359,7 @@ final class InternalSerdeImpl implements InternalSerde {
             return (T) RawJson.of(new String(content, StandardCharsets.UTF_8));
         } else {
             try {
-                return mapper.readerFor(mapper.constructType(type)).readValue(content);
+                return readers.get(type).readValue(content);
             } catch (IOException e) {
                 throw ArangoDBException.of(e);
             }
@@ -0,0 +1,59 @@
+package com.arangodb.internal.serde;
+
+import com.arangodb.RequestContext;
+import com.arangodb.internal.RequestContextHolder;
+import com.fasterxml.jackson.databind.JavaType;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Read-only list of user data elements, kept in their serialized form and deserialized every time they are accessed.
+ * It does not retain any reference to the deserialized elements, so that they can be garbage collected as soon as
+ * the consumer is done with them.
+ */
+class LazyUserDataList<T> extends AbstractList<T> implements RandomAccess {
+    private final InternalSerde serde;
+    private final RequestContext ctx;
+    private final JavaType elementType;
+    private final byte[] data;
+    // start and end offsets of the elements within data
+    private final int[] offsets;
+    private final int size;
+
+    LazyUserDataList(
+            final InternalSerde serde,
+            final RequestContext ctx,
+            final JavaType elementType,
+            final byte[] data,
+            final int[] offsets,
+            final int size
+    ) {
+        this.serde = serde;
+        this.ctx = ctx;
+        this.elementType = elementType;
+        this.data = data;
+        this.offsets = offsets;
+        this.size = size;
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int start = offsets[2 * index];
+        int end = offsets[2 * index + 1];
+        if (end < 0) {
+            return null;
+        }
+        byte[] element = Arrays.copyOfRange(data, start, end);
+        return RequestContextHolder.INSTANCE.runWithCtx(ctx, () -> serde.deserializeUserData(element, elementType));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -2,6 +2,9 @@ package com.arangodb.internal.serde;
 
 import com.arangodb.entity.ErrorEntity;
 import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.util.RawBytes;
+import com.arangodb.util.RawJson;
+import com.fasterxml.jackson.core.JsonLocation;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.BeanProperty;
@@ -10,12 +13,14 @@ import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import jakarta.json.JsonValue;
 
 import java.io.IOException;
 
 public class MultiDocumentEntityDeserializer extends JsonDeserializer<MultiDocumentEntity<?>> implements ContextualDeserializer {
     private final JavaType containedType;
     private final InternalSerde serde;
+    private final boolean streaming;
 
     MultiDocumentEntityDeserializer(InternalSerde serde) {
         this(serde, null);
@@ -24,9 +29,50 @@ public class MultiDocumentEntityDeserializer extends JsonDeserializer<MultiDocum
     MultiDocumentEntityDeserializer(InternalSerde serde, JavaType containedType) {
         this.serde = serde;
         this.containedType = containedType;
+        streaming = containedType != null && isStreamable(containedType.getRawClass());
+    }
+
+    /**
+     * Managed types whose deserializers can continue from the first field name of an object, so that documents can
+     * be read straight from the response parser. Raw types need the source bytes of the whole element instead.
+     */
+    private static boolean isStreamable(Class<?> clazz) {
+        return SerdeUtils.isManagedClass(clazz) &&
+                !RawJson.class.equals(clazz) &&
+                !RawBytes.class.equals(clazz) &&
+                !JsonValue.class.isAssignableFrom(clazz);
+    }
+
+    private static boolean isDocumentField(String fieldName) {
+        return fieldName.equals("_id") || fieldName.equals("_key") || fieldName.equals("_rev");
+    }
+
+    /**
+     * Skips the rest of the current object, checking whether any of its top level fields is a document field.
+     *
+     * @param p        parser positioned within the object, at its top level
+     * @param document whether a document field has already been found
+     * @return whether the object is a document
+     */
+    private static boolean skipObject(JsonParser p, boolean document) throws IOException {
+        int level = 1;
+        JsonToken t = p.currentToken();
+        while (true) {
+            if (t == JsonToken.FIELD_NAME) {
+                if (level == 1 && !document) {
+                    document = isDocumentField(p.currentName());
+                }
+            } else if (t.isStructStart()) {
+                level++;
+            } else if (t.isStructEnd() && --level == 0) {
+                return document;
+            }
+            t = p.nextToken();
+        }
     }
 
     @Override
+    @SuppressWarnings("deprecation")
     public MultiDocumentEntity<?> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
         MultiDocumentEntity<Object> multiDocument = new MultiDocumentEntity<>();
 
@@ -47,15 +93,30 @@ public class MultiDocumentEntityDeserializer extends JsonDeserializer<MultiDocum
             if (p.currentToken() != JsonToken.START_OBJECT) {
                 throw new JsonMappingException(p, "Expected START_OBJECT but got " + p.currentToken());
             }
-            byte[] element = SerdeUtils.extractBytes(p);
-            if (serde.isDocument(element)) {
-                Object d = serde.deserializeUserData(element, containedType);
+            JsonLocation location = p.getTokenLocation();
+            byte[] data = (byte[]) location.getSourceRef();
+            int start = (int) location.getByteOffset();
+            int end = (int) p.getCurrentLocation().getByteOffset();
+
+            // documents returned by the server start with their system attributes, so in most cases the element can
+            // be classified from its first field and deserialized in the same pass
+            boolean document = p.nextToken() == JsonToken.FIELD_NAME && isDocumentField(p.currentName());
+            if (document && streaming) {
+                Object d = ctxt.readValue(p, containedType);
                 multiDocument.getDocuments().add(d);
                 multiDocument.getDocumentsAndErrors().add(d);
             } else {
-                ErrorEntity e = serde.deserialize(element, ErrorEntity.class);
-                multiDocument.getErrors().add(e);
-                multiDocument.getDocumentsAndErrors().add(e);
+                document = skipObject(p, document);
+                byte[] element = SerdeUtils.copyValueBytes(p, data, start, end);
+                if (document) {
+                    Object d = serde.deserializeUserData(element, containedType);
+                    multiDocument.getDocuments().add(d);
+                    multiDocument.getDocumentsAndErrors().add(d);
+                } else {
+                    ErrorEntity e = serde.deserialize(element, ErrorEntity.class);
+                    multiDocument.getErrors().add(e);
+                    multiDocument.getDocumentsAndErrors().add(e);
+                }
             }
             p.nextToken();  // END_OBJECT
         }
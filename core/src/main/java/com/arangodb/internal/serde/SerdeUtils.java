@@ -120,11 +120,35 @@ public enum SerdeUtils {
                 }
             }
         }
+        return copyValueBytes(parser, data, start, end);
+    }
+
+    /**
+     * Copies the bytes of the value that the parser has just finished reading.
+     *
+     * @param parser parser positioned on the last token of the value
+     * @param data   parser source
+     * @param start  offset of the first token of the value
+     * @param end    current location offset at the first token of the value, only used for non-JSON formats, where
+     *               it already points to the end of the value
+     * @return the bytes of the value
+     */
+    static byte[] copyValueBytes(JsonParser parser, byte[] data, int start, int end) throws IOException {
+        return Arrays.copyOfRange(data, start, valueEnd(parser, end));
+    }
+
+    /**
+     * @param parser parser positioned on the last token of the value
+     * @param end    current location offset at the first token of the value
+     * @return the offset of the end of the value that the parser has just finished reading
+     */
+    @SuppressWarnings("deprecation")
+    static int valueEnd(JsonParser parser, int end) throws IOException {
         parser.finishToken();
         if (JsonFactory.FORMAT_NAME_JSON.equals(parser.getCodec().getFactory().getFormatName())) {
-            end = (int) parser.getCurrentLocation().getByteOffset();
+            return (int) parser.getCurrentLocation().getByteOffset();
         }
-        return Arrays.copyOfRange(data, start, end);
+        return end;
     }
 
     public static boolean isManagedClass(Class<?> clazz) {
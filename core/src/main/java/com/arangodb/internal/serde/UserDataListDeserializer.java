@@ -0,0 +1,88 @@
+package com.arangodb.internal.serde;
+
+import com.arangodb.internal.RequestContextHolder;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Deserializer for lists of user data, i.e. list properties annotated with {@link UserDataInside}.
+ * If the attribute {@link #LAZY} is set in the deserialization context, the elements are left serialized and a
+ * {@link LazyUserDataList} is returned, otherwise the deserialization is delegated to the default list deserializer.
+ */
+class UserDataListDeserializer extends JsonDeserializer<List<?>> implements ContextualDeserializer {
+    static final String LAZY = UserDataListDeserializer.class.getName() + ".LAZY";
+
+    private final InternalSerde serde;
+    private final JavaType elementType;
+    private final JsonDeserializer<Object> delegate;
+
+    UserDataListDeserializer(final InternalSerde serde) {
+        this(serde, null, null);
+    }
+
+    private UserDataListDeserializer(
+            final InternalSerde serde,
+            final JavaType elementType,
+            final JsonDeserializer<Object> delegate
+    ) {
+        this.serde = serde;
+        this.elementType = elementType;
+        this.delegate = delegate;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<?> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (Boolean.TRUE.equals(ctxt.getAttribute(LAZY))) {
+            return deserializeLazily(p);
+        }
+        return (List<?>) delegate.deserialize(p, ctxt);
+    }
+
+    @SuppressWarnings("deprecation")
+    private List<?> deserializeLazily(JsonParser p) throws IOException {
+        if (p.currentToken() != JsonToken.START_ARRAY) {
+            throw new JsonMappingException(p, "Expected START_ARRAY but got " + p.currentToken());
+        }
+        byte[] data = (byte[]) p.getTokenLocation().getSourceRef();
+        int[] offsets = new int[32];
+        int size = 0;
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            if (2 * size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, 2 * offsets.length);
+            }
+            if (p.currentToken() == JsonToken.VALUE_NULL) {
+                offsets[2 * size] = -1;
+                offsets[2 * size + 1] = -1;
+            } else {
+                JsonLocation location = p.getTokenLocation();
+                int start = (int) location.getByteOffset();
+                int end = (int) p.getCurrentLocation().getByteOffset();
+                p.skipChildren();
+                offsets[2 * size] = start;
+                offsets[2 * size + 1] = SerdeUtils.valueEnd(p, end);
+            }
+            size++;
+        }
+        return new LazyUserDataList<>(serde, RequestContextHolder.INSTANCE.getCtx(), elementType, data, offsets, size);
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+        JavaType type = property.getType();
+        return new UserDataListDeserializer(serde, type.getContentType(),
+                ctxt.findContextualValueDeserializer(type, property));
+    }
+
+}
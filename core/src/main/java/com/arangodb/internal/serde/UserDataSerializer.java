@@ -19,7 +19,7 @@ class UserDataSerializer extends JsonSerializer<Object> {
         if (value != null && JsonNode.class.isAssignableFrom(value.getClass())) {
             gen.writeTree((JsonNode) value);
         } else {
-            gen.writeRawValue(new RawUserDataValue(serde.serializeUserData(value)));
+            serde.serializeUserData(value, gen);
         }
     }
 }
@@ -3,19 +3,29 @@ package com.arangodb.internal.util;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayDeque;
 import java.util.Queue;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Lock-free queue matching offered elements with pending requests, which are served in FIFO order.
+ * <p>
+ * {@link #balance} is the number of offered elements minus the number of requests. Each operation first updates it
+ * and then enqueues into, or dequeues from, the queue selected by its previous value. A dequeue can therefore
+ * briefly precede the matching enqueue from another thread, in which case it spins until the element is there.
+ */
 public class AsyncQueue<T> {
     private static final Logger LOGGER = LoggerFactory.getLogger(AsyncQueue.class);
+    private static final int MAX_SPINS = 64;
+
     private final Queue<CompletableFuture<T>> requests = new ConcurrentLinkedQueue<>();
-    private final Queue<T> offers = new ArrayDeque<>();
+    private final Queue<T> offers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger balance = new AtomicInteger();
 
-    public synchronized CompletableFuture<T> poll() {
+    public CompletableFuture<T> poll() {
         LOGGER.trace("poll()");
-        T o = offers.poll();
-        if (o != null) {
+        if (balance.getAndDecrement() > 0) {
+            T o = take(offers);
             LOGGER.trace("poll(): short-circuit: {}", o);
             return CompletableFuture.completedFuture(o);
         }
@@ -27,19 +37,77 @@ public class AsyncQueue<T> {
 
     public void offer(T o) {
         LOGGER.trace("offer({})", o);
-        CompletableFuture<T> r = requests.poll();
-        if (r == null) {
-            synchronized (this) {
-                r = requests.poll();
-                if (r == null) {
-                    LOGGER.trace("offer({}): enqueue", o);
-                    offers.add(o);
-                }
-            }
-        }
-        if (r != null) {
+        if (balance.getAndIncrement() < 0) {
+            CompletableFuture<T> r = take(requests);
             LOGGER.trace("offer({}): short-circuit: {}", o, r);
             r.complete(o);
+        } else {
+            LOGGER.trace("offer({}): enqueue", o);
+            offers.add(o);
+        }
+    }
+
+    /**
+     * @return the number of offered elements not yet taken
+     */
+    public int available() {
+        return Math.max(0, balance.get());
+    }
+
+    /**
+     * @return the number of pending requests
+     */
+    public int waiting() {
+        return Math.max(0, -balance.get());
+    }
+
+    /**
+     * Removes one of the offered elements equal to the given one, if available, leaving the other elements in place.
+     *
+     * @return whether an element has been removed
+     */
+    public boolean remove(final T o) {
+        int b;
+        do {
+            b = balance.get();
+            if (b <= 0) {
+                return false;
+            }
+        } while (!balance.compareAndSet(b, b - 1));
+        // one of the offered elements is reserved, it is the given one if still there
+        if (offers.remove(o)) {
+            return true;
+        }
+        T e = take(offers);
+        if (e.equals(o)) {
+            return true;
+        }
+        offer(e);
+        return false;
+    }
+
+    /**
+     * Completes exceptionally the requests pending at the time of the invocation.
+     */
+    public void failWaiting(final Throwable t) {
+        int n = waiting();
+        int b;
+        while (n > 0 && (b = balance.get()) < 0) {
+            if (balance.compareAndSet(b, b + 1)) {
+                take(requests).completeExceptionally(t);
+                n--;
+            }
+        }
+    }
+
+    private static <E> E take(Queue<E> queue) {
+        int spins = 0;
+        E e;
+        while ((e = queue.poll()) == null) {
+            if (++spins > MAX_SPINS) {
+                Thread.yield();
+            }
         }
+        return e;
     }
 }
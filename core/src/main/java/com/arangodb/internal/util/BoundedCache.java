@@ -0,0 +1,44 @@
+package com.arangodb.internal.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Concurrent cache of values computed from their keys, e.g. Jackson readers and writers by target type.
+ * <p>
+ * Hits are lock-free map reads. On a miss, the value is computed outside any lock and the first stored value wins.
+ * When the cache is full, it is cleared, which bounds its memory footprint in case of unbounded keys, e.g.
+ * {@link java.lang.reflect.Type} implementations without {@code equals()}.
+ */
+public final class BoundedCache<K, V> {
+    private final ConcurrentHashMap<K, V> map = new ConcurrentHashMap<>();
+    private final Function<? super K, ? extends V> loader;
+    private final int maxSize;
+
+    /**
+     * @param maxSize max number of cached values
+     * @param loader  function computing the value of a key, which must not return {@code null}
+     */
+    public BoundedCache(final int maxSize, final Function<? super K, ? extends V> loader) {
+        this.maxSize = maxSize;
+        this.loader = loader;
+    }
+
+    public V get(final K key) {
+        V value = map.get(key);
+        if (value != null) {
+            return value;
+        }
+        value = loader.apply(key);
+        if (map.size() >= maxSize) {
+            map.clear();
+        }
+        V previous = map.putIfAbsent(key, value);
+        return previous != null ? previous : value;
+    }
+
+    public void clear() {
+        map.clear();
+    }
+
+}
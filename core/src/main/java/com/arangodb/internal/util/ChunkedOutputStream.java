@@ -0,0 +1,90 @@
+package com.arangodb.internal.util;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link OutputStream} collecting the written data into a list of chunks, so that large contents are neither copied
+ * while growing nor stored in a single contiguous array.
+ * Chunk sizes double from {@link #MIN_CHUNK_SIZE} up to {@link #MAX_CHUNK_SIZE}.
+ */
+public final class ChunkedOutputStream extends OutputStream {
+    static final int MIN_CHUNK_SIZE = 256;
+    static final int MAX_CHUNK_SIZE = 64 * 1024;
+
+    private final List<byte[]> chunks = new ArrayList<>();
+    private byte[] current;
+    private int pos;
+    private int size;
+
+    @Override
+    public void write(final int b) {
+        if (current == null || pos == current.length) {
+            nextChunk();
+        }
+        current[pos++] = (byte) b;
+        size++;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) {
+        int written = 0;
+        while (written < len) {
+            if (current == null || pos == current.length) {
+                nextChunk();
+            }
+            int n = Math.min(len - written, current.length - pos);
+            System.arraycopy(b, off + written, current, pos, n);
+            pos += n;
+            written += n;
+        }
+        size += len;
+    }
+
+    private void nextChunk() {
+        int len = current == null ? MIN_CHUNK_SIZE : Math.min(current.length * 2, MAX_CHUNK_SIZE);
+        current = new byte[len];
+        chunks.add(current);
+        pos = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the written data, in chunks exactly filled
+     */
+    public List<byte[]> toChunks() {
+        if (current == null) {
+            return Collections.emptyList();
+        }
+        List<byte[]> res = new ArrayList<>(chunks);
+        if (pos < current.length) {
+            byte[] last = new byte[pos];
+            System.arraycopy(current, 0, last, 0, pos);
+            res.set(res.size() - 1, last);
+        }
+        return res;
+    }
+
+    public static byte[] concat(final List<byte[]> chunks) {
+        if (chunks.size() == 1) {
+            return chunks.get(0);
+        }
+        int len = 0;
+        for (byte[] chunk : chunks) {
+            len += chunk.length;
+        }
+        byte[] res = new byte[len];
+        int pos = 0;
+        for (byte[] chunk : chunks) {
+            System.arraycopy(chunk, 0, res, pos, chunk.length);
+            pos += chunk.length;
+        }
+        return res;
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.arangodb.internal.util;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Timer thread shared by all the driver instances, to run short housekeeping tasks, e.g. the eviction of idle
+ * connections.
+ * <p>
+ * The thread is started by the first {@link #acquire()} and stopped by the last {@link #release()}, so that it does not
+ * outlive the users, e.g. when the driver is loaded by the class loader of an application in an application server.
+ */
+public final class SharedScheduler {
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private static ScheduledExecutorService executor;
+    private static int users;
+
+    private SharedScheduler() {
+    }
+
+    /**
+     * Starts the timer thread if needed. Every invocation must be followed by an invocation of {@link #release()},
+     * after which the returned executor must not be used anymore.
+     *
+     * @return the shared executor
+     */
+    public static synchronized ScheduledExecutorService acquire() {
+        if (users == 0) {
+            executor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "adb-scheduler-" + THREAD_COUNT.getAndIncrement());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        users++;
+        return executor;
+    }
+
+    /**
+     * Stops the timer thread, if there are no other users. Its pending tasks are discarded.
+     */
+    public static synchronized void release() {
+        if (--users == 0) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+}
@@ -43,6 +43,9 @@ public final class AqlQueryOptions extends TransactionalOptions<AqlQueryOptions>
     private Options options;
     private String query;
     private Integer ttl;
+    private Boolean lazyDeserialization;
+    private Integer prefetchBatches;
+    private Double prefetchThreshold;
 
     @Override
     AqlQueryOptions getThis() {
@@ -199,6 +202,67 @@ public final class AqlQueryOptions extends TransactionalOptions<AqlQueryOptions>
         return this;
     }
 
+    @JsonIgnore
+    public Boolean getLazyDeserialization() {
+        return lazyDeserialization;
+    }
+
+    /**
+     * Client side option, not sent to the server.
+     *
+     * @param lazyDeserialization If set to {@code true}, each batch of results is kept in its serialized form and its
+     *                            elements are deserialized one at a time, while iterating over the cursor. Elements
+     *                            that have already been consumed are not retained by the cursor, so that they can be
+     *                            garbage collected. This reduces the memory footprint of large batches and the time
+     *                            to get the first element of each batch. Note that every access to the elements of
+     *                            {@link com.arangodb.ArangoCursorAsync#getResult()} deserializes them again.
+     * @return this
+     */
+    public AqlQueryOptions lazyDeserialization(final Boolean lazyDeserialization) {
+        this.lazyDeserialization = lazyDeserialization;
+        return this;
+    }
+
+    @JsonIgnore
+    public Integer getPrefetchBatches() {
+        return prefetchBatches;
+    }
+
+    /**
+     * Client side option, not sent to the server.
+     *
+     * @param prefetchBatches If set to a value greater than {@code 0}, the cursor requests the next batches ahead of
+     *                        their consumption, keeping at most this number of batches fetched or in flight ahead of
+     *                        the one being consumed. Each batch is requested with the {@code nextBatchId} of the
+     *                        previous one, therefore only one request is in flight at any time. For
+     *                        {@link com.arangodb.ArangoCursor} the read-ahead starts according to
+     *                        {@link #prefetchThreshold(Double)}, for {@link com.arangodb.ArangoCursorAsync} it starts as
+     *                        soon as each batch is received. (default: {@code 0}, i.e. disabled)
+     * @return this
+     */
+    public AqlQueryOptions prefetchBatches(final Integer prefetchBatches) {
+        this.prefetchBatches = prefetchBatches;
+        return this;
+    }
+
+    @JsonIgnore
+    public Double getPrefetchThreshold() {
+        return prefetchThreshold;
+    }
+
+    /**
+     * Client side option, not sent to the server.
+     *
+     * @param prefetchThreshold fraction of each batch, between {@code 0.0} and {@code 1.0}, to be consumed from
+     *                          {@link com.arangodb.ArangoCursor} before requesting the next batch, when
+     *                          {@link #prefetchBatches(Integer)} is enabled. (default: {@code 0.5})
+     * @return this
+     */
+    public AqlQueryOptions prefetchThreshold(final Double prefetchThreshold) {
+        this.prefetchThreshold = prefetchThreshold;
+        return this;
+    }
+
     @Override
     public AqlQueryOptions clone() {
         try {
@@ -0,0 +1,78 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.model;
+
+/**
+ * Options for the bulk insert and import of documents provided by an {@link java.util.Iterator}, which are sent to the
+ * server in batches.
+ */
+public final class BulkWriteOptions {
+
+    private int batchSize = 1_000;
+    private long batchBytes = 8 * 1024 * 1024;
+    private int maxInFlight = 4;
+
+    public BulkWriteOptions() {
+        super();
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param batchSize Max number of documents per batch, default {@code 1000}.
+     * @return options
+     */
+    public BulkWriteOptions batchSize(final int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public long getBatchBytes() {
+        return batchBytes;
+    }
+
+    /**
+     * @param batchBytes Max size in bytes of the serialized documents of a batch, default {@code 8 MiB}. A batch is
+     *                   closed as soon as this size is reached, so it always contains at least one document.
+     * @return options
+     */
+    public BulkWriteOptions batchBytes(final long batchBytes) {
+        this.batchBytes = batchBytes;
+        return this;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * @param maxInFlight Max number of batches sent concurrently, default {@code 4}. Values higher than the number of
+     *                    available connection slots do not increase the throughput.
+     * @return options
+     */
+    public BulkWriteOptions maxInFlight(final int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.model;
+
+/**
+ * Options for {@link com.arangodb.ArangoCollectionAsync#coalescing(DocumentCoalescingOptions)}, defining the window
+ * in which concurrent single-document operations are collected into a batch.
+ */
+public final class DocumentCoalescingOptions {
+
+    private int maxBatchSize = 100;
+    private long maxDelayMicros = 500;
+
+    public DocumentCoalescingOptions() {
+        super();
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * @param maxBatchSize Max number of operations per batch, default {@code 100}. A batch is sent as soon as this
+     *                     size is reached.
+     * @return options
+     */
+    public DocumentCoalescingOptions maxBatchSize(final int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    public long getMaxDelayMicros() {
+        return maxDelayMicros;
+    }
+
+    /**
+     * @param maxDelayMicros Max time in microseconds an operation waits for further operations to join its batch,
+     *                       default {@code 500}.
+     * @return options
+     */
+    public DocumentCoalescingOptions maxDelayMicros(final long maxDelayMicros) {
+        this.maxDelayMicros = maxDelayMicros;
+        return this;
+    }
+
+}
@@ -20,6 +20,11 @@
 
 package com.arangodb.model;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * @author Mark Vollmary
  * @author Michele Rastelli
@@ -29,6 +34,7 @@ public final class DocumentReadOptions extends TransactionalOptions<DocumentRead
     private String ifNoneMatch;
     private String ifMatch;
     private Boolean allowDirtyRead;
+    private List<String> fields;
 
     @Override
     DocumentReadOptions getThis() {
@@ -77,4 +83,32 @@ public final class DocumentReadOptions extends TransactionalOptions<DocumentRead
         return allowDirtyRead;
     }
 
+    public List<String> getFields() {
+        return fields;
+    }
+
+    /**
+     * Reads only the given attributes of the documents, together with their system attributes {@code _key},
+     * {@code _id} and {@code _rev}, so that the rest of the documents is neither transferred nor deserialized. Nested
+     * attributes are selected by paths of attribute names separated by dots, e.g. {@code fields("a", "b.c")}.
+     * <p>
+     * The documents are read with an AQL query, in which:
+     * <ul>
+     *     <li>missing nested attributes are returned as {@code null}</li>
+     *     <li>documents not found, or not matching {@link #ifMatch(String)} or {@link #ifNoneMatch(String)}, are
+     *     reported as for reads without projection, i.e. {@code getDocument()} returns {@code null} and
+     *     {@code getDocuments()} returns an error for each of them, at its position in
+     *     {@link com.arangodb.entity.MultiDocumentEntity#getDocumentsAndErrors()}</li>
+     * </ul>
+     * Only supported by {@code getDocument()} and {@code getDocuments()} of {@link com.arangodb.ArangoCollection} and
+     * {@link com.arangodb.ArangoCollectionAsync}.
+     *
+     * @param fields paths of the attributes to read
+     * @return options
+     */
+    public DocumentReadOptions fields(final String... fields) {
+        this.fields = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(fields)));
+        return this;
+    }
+
 }
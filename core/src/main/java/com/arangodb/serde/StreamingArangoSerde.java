@@ -0,0 +1,82 @@
+package com.arangodb.serde;
+
+import com.arangodb.ContentType;
+import com.arangodb.RequestContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link ArangoSerde} able to write to and read from streams, so that user data can be encoded and decoded in place,
+ * without intermediate byte arrays.
+ * <p>
+ * For data type {@link ContentType#JSON}, the streamed content is the JSON string encoded using the UTF-8 charset.
+ * Implementations never close the streams passed to them.
+ */
+public interface StreamingArangoSerde extends ArangoSerde {
+
+    /**
+     * Serializes the object into the target data type and writes it to the output stream.
+     *
+     * @param value object to serialize
+     * @param out   output stream to write to
+     */
+    void serialize(Object value, OutputStream out);
+
+    /**
+     * Reads the content from the input stream and binds it to the target data type.
+     *
+     * @param in   input stream to read from
+     * @param type target data type
+     * @param ctx  serde context, cannot be null
+     * @return deserialized object
+     */
+    <T> T deserialize(InputStream in, Type type, RequestContext ctx);
+
+    /**
+     * Deserializes the remaining content of the buffer and binds it to the target data type. The position of the
+     * buffer is not changed.
+     *
+     * @param content buffer to deserialize
+     * @param type    target data type
+     * @param ctx     serde context, cannot be null
+     * @return deserialized object, or {@code null} if the buffer has no remaining content
+     */
+    default <T> T deserialize(ByteBuffer content, Type type, RequestContext ctx) {
+        if (!content.hasRemaining()) {
+            return null;
+        }
+        if (content.hasArray()) {
+            return deserialize(new ByteArrayInputStream(content.array(), content.arrayOffset() + content.position(),
+                    content.remaining()), type, ctx);
+        }
+        ByteBuffer buffer = content.duplicate();
+        return deserialize(new InputStream() {
+            @Override
+            public int read() {
+                return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+            }
+
+            @Override
+            public int read(final byte[] b, final int off, final int len) {
+                if (len == 0) {
+                    return 0;
+                }
+                if (!buffer.hasRemaining()) {
+                    return -1;
+                }
+                int n = Math.min(len, buffer.remaining());
+                buffer.get(b, off, n);
+                return n;
+            }
+
+            @Override
+            public int available() {
+                return buffer.remaining();
+            }
+        }, type, ctx);
+    }
+}
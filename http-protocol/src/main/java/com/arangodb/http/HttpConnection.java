@@ -32,24 +32,26 @@ import com.arangodb.internal.net.Connection;
 import com.arangodb.internal.net.ConnectionPool;
 import com.arangodb.internal.serde.ContentTypeFactory;
 import com.arangodb.internal.util.EncodeUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.netty.handler.ssl.ApplicationProtocolConfig;
 import io.netty.handler.ssl.ClientAuth;
 import io.netty.handler.ssl.IdentityCipherSuiteFilter;
 import io.netty.handler.ssl.JdkSslContext;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
-import io.vertx.core.VertxOptions;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.Http2Settings;
+import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpVersion;
+import io.vertx.core.http.RequestOptions;
 import io.vertx.core.net.JdkSSLEngineOptions;
 import io.vertx.core.spi.tls.SslContextFactory;
 import io.vertx.ext.auth.authentication.TokenCredentials;
 import io.vertx.ext.auth.authentication.UsernamePasswordCredentials;
-import io.vertx.ext.web.client.HttpRequest;
-import io.vertx.ext.web.client.HttpResponse;
 import io.vertx.ext.web.client.WebClient;
 import io.vertx.ext.web.client.WebClientOptions;
 import org.slf4j.Logger;
@@ -58,14 +60,15 @@ import org.slf4j.LoggerFactory;
 import javax.net.ssl.SSLContext;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.arangodb.internal.net.ConnectionPoolImpl.HTTP1_SLOTS_PIPELINING;
-import static com.arangodb.internal.net.ConnectionPoolImpl.HTTP2_SLOTS;
+import static com.arangodb.internal.net.ConnectionPoolImpl.HTTP2_MAX_SLOTS;
 
 
 /**
@@ -78,23 +81,27 @@ public class HttpConnection implements Connection {
     private static final String CONTENT_TYPE_APPLICATION_JSON_UTF8 = "application/json; charset=utf-8";
     private static final String CONTENT_TYPE_VPACK = "application/x-velocypack";
     private static final String USER_AGENT = getUserAgent();
-    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
     private volatile String auth;
     private final int compressionThreshold;
     private final Encoder encoder;
+    private final HttpClient httpClient;
     private final WebClient client;
     private final Integer timeout;
+    private final boolean directBuffers;
     private final MultiMap commonHeaders = MultiMap.caseInsensitiveMultiMap();
     private final Vertx vertx;
-    private final Vertx vertxToClose;
+    private final AtomicBoolean closed = new AtomicBoolean();
     private final ConnectionPool pool;
+    private final StreamSlots streamSlots;
 
     private static String getUserAgent() {
         return "JavaDriver/" + PackageVersion.VERSION + " (JVM/" + System.getProperty("java.specification.version") + ")";
     }
 
-    HttpConnection(final ArangoConfig config, final HttpProtocolConfig protocolConfig, final HostDescription host, final ConnectionPool pool) {
+    HttpConnection(final ArangoConfig config, final HttpProtocolConfig protocolConfig, final Vertx vertx,
+                   final HostDescription host, final ConnectionPool pool) {
         this.pool = pool;
+        this.vertx = vertx;
         Protocol protocol = config.getProtocol();
         ContentType contentType = ContentTypeFactory.of(protocol);
         if (contentType == ContentType.VPACK) {
@@ -114,25 +121,11 @@ public class HttpConnection implements Connection {
         }
         commonHeaders.add("x-arango-driver", USER_AGENT);
         timeout = config.getTimeout();
+        directBuffers = protocolConfig.isDirectBuffers();
         auth = new UsernamePasswordCredentials(
                 config.getUser(), Optional.ofNullable(config.getPassword()).orElse("")
         ).toHttpAuthorization();
 
-        if (protocolConfig.getVertx() != null) {
-            // reuse existing Vert.x
-            vertx = protocolConfig.getVertx();
-            // Vert.x will not be closed when connection is closed
-            vertxToClose = null;
-            LOGGER.debug("Reusing existing Vert.x instance");
-        } else {
-            // create a new Vert.x instance
-            LOGGER.debug("Creating new Vert.x instance");
-            vertx = Vertx.vertx(new VertxOptions().setPreferNativeTransport(true).setEventLoopPoolSize(1));
-            vertx.runOnContext(e -> Thread.currentThread().setName("adb-http-" + THREAD_COUNT.getAndIncrement()));
-            // Vert.x be closed when connection is closed
-            vertxToClose = vertx;
-        }
-
         int intTtl = Optional.ofNullable(config.getConnectionTtl())
                 .map(ttl -> Math.toIntExact(ttl / 1000))
                 .orElse(0);
@@ -143,6 +136,8 @@ public class HttpConnection implements Connection {
         WebClientOptions webClientOptions = new WebClientOptions()
                 .setMaxPoolSize(1)
                 .setHttp2MaxPoolSize(1)
+                // bind the connection to its own event loop, rather than to the one of the calling context
+                .setPoolEventLoopSize(1)
                 .setConnectTimeout(timeout)
                 .setIdleTimeoutUnit(TimeUnit.MILLISECONDS)
                 .setIdleTimeout(timeout)
@@ -155,7 +150,7 @@ public class HttpConnection implements Connection {
                 .setTcpKeepAlive(true)
                 .setPipelining(config.getPipelining())
                 .setPipeliningLimit(HTTP1_SLOTS_PIPELINING)
-                .setHttp2MultiplexingLimit(HTTP2_SLOTS)
+                .setHttp2MultiplexingLimit(HTTP2_MAX_SLOTS)
                 .setReuseAddress(true)
                 .setReusePort(true)
                 .setHttp2ClearTextUpgrade(false)
@@ -204,7 +199,31 @@ public class HttpConnection implements Connection {
                     });
         }
 
-        client = WebClient.create(vertx, webClientOptions);
+        if (httpVersion == HttpVersion.HTTP_2) {
+            streamSlots = new StreamSlots(config.getConnectionWindowSize());
+            httpClient = vertx.httpClientBuilder()
+                    .with(webClientOptions)
+                    .with(webClientOptions.getPoolOptions())
+                    .withConnectHandler(this::onConnect)
+                    .build();
+        } else {
+            streamSlots = null;
+            httpClient = vertx.createHttpClient(webClientOptions);
+        }
+        client = WebClient.wrap(httpClient, webClientOptions);
+    }
+
+    private void onConnect(final io.vertx.core.http.HttpConnection connection) {
+        updateSlots(streamSlots.onRemoteSettings(connection.remoteSettings().getMaxConcurrentStreams()));
+        connection.remoteSettingsHandler(settings ->
+                updateSlots(streamSlots.onRemoteSettings(settings.getMaxConcurrentStreams())));
+    }
+
+    private void updateSlots(final int slots) {
+        if (slots > 0) {
+            LOGGER.debug("Setting HTTP/2 stream slots to {}", slots);
+            pool.setSlots(this, slots);
+        }
     }
 
     private static String buildUrl(final InternalRequest request) {
@@ -231,19 +250,19 @@ public class HttpConnection implements Connection {
         return sb.toString();
     }
 
-    private static void addHeader(final InternalRequest request, final HttpRequest<?> httpRequest) {
+    private static void addHeader(final InternalRequest request, final MultiMap headers) {
         for (final Entry<String, String> header : request.getHeaderParam().entrySet()) {
-            httpRequest.putHeader(header.getKey(), header.getValue());
+            headers.set(header.getKey(), header.getValue());
         }
     }
 
     @Override
     public void close() {
-        client.close();
-        if (vertxToClose != null) {
-            LOGGER.debug("Closing Vert.x instance");
-            vertxToClose.close();
+        if (!closed.compareAndSet(false, true)) {
+            return;
         }
+        client.close();
+        encoder.close();
     }
 
     private HttpMethod requestTypeToHttpMethod(RequestType requestType) {
@@ -269,6 +288,26 @@ public class HttpConnection implements Connection {
         vertx.runOnContext(__ -> pool.release(this));
     }
 
+    /**
+     * Sends a {@code HEAD} request, so that the underlying connection is established.
+     */
+    @Override
+    public CompletableFuture<Void> warmUp() {
+        CompletableFuture<Void> rfuture = new CompletableFuture<>();
+        try {
+            client.request(HttpMethod.HEAD, "/_api/version")
+                    .timeout(timeout)
+                    .putHeaders(commonHeaders)
+                    .putHeader(HttpHeaders.AUTHORIZATION.toString(), auth)
+                    .send()
+                    .onSuccess(r -> rfuture.complete(null))
+                    .onFailure(rfuture::completeExceptionally);
+        } catch (Exception e) {
+            rfuture.completeExceptionally(e);
+        }
+        return rfuture;
+    }
+
     @Override
     @UnstableApi
     public CompletableFuture<InternalResponse> executeAsync(@UnstableApi final InternalRequest request) {
@@ -278,29 +317,35 @@ public class HttpConnection implements Connection {
     }
 
     private void doExecute(@UnstableApi final InternalRequest request, @UnstableApi final CompletableFuture<InternalResponse> rfuture) {
+        HttpMethod method = requestTypeToHttpMethod(request.getRequestType());
         String path = buildUrl(request);
-        HttpRequest<Buffer> httpRequest = client
-                .request(requestTypeToHttpMethod(request.getRequestType()), path)
-                .timeout(timeout);
-
-        httpRequest.putHeaders(commonHeaders);
-        addHeader(request, httpRequest);
-        httpRequest.putHeader(HttpHeaders.AUTHORIZATION.toString(), auth);
+        MultiMap headers = MultiMap.caseInsensitiveMultiMap().addAll(commonHeaders);
+        addHeader(request, headers);
+        headers.set(HttpHeaders.AUTHORIZATION.toString(), auth);
 
-        byte[] reqBody = request.getBody();
+        List<byte[]> reqBody = request.getBodyChunks();
         Buffer buffer;
+        long length = reqBody != null ? length(reqBody) : 0;
         if (reqBody == null) {
             buffer = Buffer.buffer();
-        } else if (reqBody.length > compressionThreshold) {
-            httpRequest.putHeader(HttpHeaders.CONTENT_ENCODING.toString(), encoder.getFormat());
+        } else if (length > compressionThreshold) {
+            headers.set(HttpHeaders.CONTENT_ENCODING.toString(), encoder.getFormat());
             buffer = encoder.encode(reqBody);
+        } else if (directBuffers) {
+            sendDirect(method, path, headers, toDirectBuffer(reqBody, Math.toIntExact(length)), rfuture);
+            return;
         } else {
-            buffer = Buffer.buffer(reqBody);
+            // wraps the chunks without copying them
+            buffer = wrap(Unpooled.wrappedBuffer(reqBody.toArray(new byte[0][])));
         }
 
         try {
-            httpRequest.sendBuffer(buffer)
-                    .map(this::buildResponse)
+            client.request(method, path)
+                    .timeout(timeout)
+                    .putHeaders(headers)
+                    .as(ResponseBodyCodec.INSTANCE)
+                    .sendBuffer(buffer)
+                    .map(r -> buildResponse(r.statusCode(), r.headers(), r.body()))
                     .onSuccess(rfuture::complete)
                     .onFailure(rfuture::completeExceptionally);
         } catch (Exception e) {
@@ -308,17 +353,79 @@ public class HttpConnection implements Connection {
         }
     }
 
-    private InternalResponse buildResponse(final HttpResponse<Buffer> httpResponse) {
+    /**
+     * Sends the request with the underlying {@link HttpClient}, rather than with the {@link WebClient}, which does
+     * not expose the completion of the write. Vert.x does not release the buffers it is given, so the pooled buffer
+     * is released once written or discarded, which can happen after the response has completed, e.g. on timeout.
+     */
+    private void sendDirect(final HttpMethod method, final String path, final MultiMap headers, final ByteBuf pooled,
+                            final CompletableFuture<InternalResponse> rfuture) {
+        RequestOptions options = new RequestOptions()
+                .setMethod(method)
+                .setURI(path)
+                .setHeaders(headers)
+                .setTimeout(timeout);
+        try {
+            httpClient.request(options)
+                    .onFailure(e -> release(pooled))
+                    .compose(req -> {
+                        req.end(wrap(pooled)).onComplete(r -> release(pooled));
+                        return req.response();
+                    })
+                    .compose(resp -> {
+                        ResponseBodyCodec.Stream stream = new ResponseBodyCodec.Stream();
+                        resp.pipeTo(stream).onFailure(stream::handle);
+                        return stream.result().map(body -> buildResponse(resp.statusCode(), resp.headers(), body));
+                    })
+                    .onSuccess(rfuture::complete)
+                    .onFailure(rfuture::completeExceptionally);
+        } catch (Exception e) {
+            release(pooled);
+            rfuture.completeExceptionally(e);
+        }
+    }
+
+    private static ByteBuf toDirectBuffer(final List<byte[]> chunks, final int length) {
+        ByteBuf buf = PooledByteBufAllocator.DEFAULT.directBuffer(length, length);
+        for (byte[] chunk : chunks) {
+            buf.writeBytes(chunk);
+        }
+        return buf;
+    }
+
+    /**
+     * Wraps the Netty buffer without copying it. {@link Buffer#buffer(ByteBuf)} is deprecated, but it has no
+     * replacement in the public API of Vert.x 4.
+     */
+    @SuppressWarnings("deprecation")
+    private static Buffer wrap(final ByteBuf buf) {
+        return Buffer.buffer(buf);
+    }
+
+    private static void release(final ByteBuf buf) {
+        if (buf != null && buf.refCnt() > 0) {
+            buf.release();
+        }
+    }
+
+    private static long length(final List<byte[]> chunks) {
+        long length = 0;
+        for (byte[] chunk : chunks) {
+            length += chunk.length;
+        }
+        return length;
+    }
+
+    private InternalResponse buildResponse(final int statusCode, final MultiMap headers, final byte[] body) {
         final InternalResponse response = new InternalResponse();
-        response.setResponseCode(httpResponse.statusCode());
-        Buffer body = httpResponse.body();
-        if (body != null) {
-            byte[] bytes = body.getBytes();
-            if (bytes.length > 0) {
-                response.setBody(bytes);
-            }
+        response.setResponseCode(statusCode);
+        if (body != null && body.length > 0) {
+            response.setBody(body);
+        }
+        if (streamSlots != null) {
+            updateSlots(streamSlots.onResponse(body != null ? body.length : 0));
         }
-        for (Entry<String, String> header : httpResponse.headers()) {
+        for (Entry<String, String> header : headers) {
             response.putMeta(header.getKey(), header.getValue());
         }
         return response;
@@ -27,15 +27,28 @@ import com.arangodb.internal.config.ArangoConfig;
 import com.arangodb.internal.net.Connection;
 import com.arangodb.internal.net.ConnectionFactory;
 import com.arangodb.internal.net.ConnectionPool;
+import io.netty.util.concurrent.EventExecutor;
 import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unless a Vert.x instance is provided with {@link HttpProtocolConfig}, the created connections share a Vert.x
+ * instance owned by the factory, i.e. by the driver instance, with one event loop per available core. The instance is
+ * created with the first connection and closed by {@link #close()} on driver shutdown, so that it survives the
+ * eviction of idle connections. It uses the native transport if enabled with
+ * {@link HttpProtocolConfig.Builder#nativeTransport(boolean)} and available.
+ */
 @UnstableApi
 public class HttpConnectionFactory implements ConnectionFactory {
     private final Logger LOGGER = LoggerFactory.getLogger(HttpConnectionFactory.class);
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
 
     final HttpProtocolConfig protocolConfig;
+    private Vertx sharedVertx;
 
     public HttpConnectionFactory(@UnstableApi final HttpProtocolConfig cfg) {
         protocolConfig = cfg != null ? cfg : HttpProtocolConfig.builder().build();
@@ -53,6 +66,52 @@ public class HttpConnectionFactory implements ConnectionFactory {
     public Connection create(@UnstableApi final ArangoConfig config,
                              final HostDescription host,
                              @UnstableApi final ConnectionPool pool) {
-        return new HttpConnection(config, protocolConfig, host, pool);
+        if (protocolConfig.getVertx() != null) {
+            LOGGER.debug("Reusing existing Vert.x instance");
+            return new HttpConnection(config, protocolConfig, protocolConfig.getVertx(), host, pool);
+        }
+        return new HttpConnection(config, protocolConfig, sharedVertx(), host, pool);
+    }
+
+    private synchronized Vertx sharedVertx() {
+        if (sharedVertx == null) {
+            int eventLoops = Runtime.getRuntime().availableProcessors();
+            LOGGER.debug("Creating new Vert.x instance with {} event loops", eventLoops);
+            sharedVertx = Vertx.vertx(new VertxOptions()
+                    .setPreferNativeTransport(protocolConfig.isNativeTransport())
+                    .setEventLoopPoolSize(eventLoops));
+            if (sharedVertx.isNativeTransportEnabled()) {
+                LOGGER.debug("Using native transport");
+            } else if (protocolConfig.isNativeTransport()) {
+                LOGGER.debug("Native transport not available, falling back to NIO",
+                        sharedVertx.unavailableNativeTransportCause());
+            }
+            nameEventLoopThreads(sharedVertx);
+        }
+        return sharedVertx;
+    }
+
+    /**
+     * Renames the event loop threads of the shared Vert.x instance. {@link Vertx#nettyEventLoopGroup()} is
+     * deprecated, but it is the only access to the event loop threads in the public API of Vert.x 4.
+     */
+    @SuppressWarnings("deprecation")
+    private static void nameEventLoopThreads(final Vertx vertx) {
+        for (EventExecutor eventLoop : vertx.nettyEventLoopGroup()) {
+            eventLoop.execute(() -> Thread.currentThread().setName("adb-http-" + THREAD_COUNT.getAndIncrement()));
+        }
+    }
+
+    /**
+     * Closes the shared Vert.x instance, if created. A Vert.x instance provided with {@link HttpProtocolConfig} is
+     * not closed.
+     */
+    @Override
+    public synchronized void close() {
+        if (sharedVertx != null) {
+            LOGGER.debug("Closing Vert.x instance");
+            sharedVertx.close();
+            sharedVertx = null;
+        }
     }
 }
@@ -7,6 +7,8 @@ import io.vertx.core.net.ProxyOptions;
 public final class HttpProtocolConfig implements ProtocolConfig {
     private final Vertx vertx;
     private final ProxyOptions proxyOptions;
+    private final boolean nativeTransport;
+    private final boolean directBuffers;
 
     public static Builder builder() {
         return new Builder();
@@ -15,6 +17,8 @@ public final class HttpProtocolConfig implements ProtocolConfig {
     public static class Builder {
         private Vertx vertx;
         private ProxyOptions proxyOptions;
+        private boolean nativeTransport = true;
+        private boolean directBuffers = false;
 
         private Builder() {
         }
@@ -39,14 +43,46 @@ public final class HttpProtocolConfig implements ProtocolConfig {
             return this;
         }
 
+        /**
+         * Whether the Vert.x instance created by the driver should use the native transport (epoll on Linux, kqueue
+         * on macOS and BSD), if available. The native transport requires the related Netty artifact in the
+         * classpath, e.g. {@code io.netty:netty-transport-native-epoll} with classifier {@code linux-x86_64} or
+         * {@code linux-aarch_64}, and is not supported by the shaded driver. If not available, the driver falls back
+         * to the NIO transport and logs the cause at debug level.
+         * This has no effect when a Vert.x instance is provided with {@link #vertx(Vertx)}.
+         *
+         * @param nativeTransport whether to use the native transport, default {@code true}
+         * @return this builder
+         */
+        public Builder nativeTransport(boolean nativeTransport) {
+            this.nativeTransport = nativeTransport;
+            return this;
+        }
+
+        /**
+         * Whether uncompressed request bodies should be copied into direct buffers taken from Netty's pooled
+         * allocator before being handed over to the event loop. The buffers are released as soon as the request
+         * completes. This moves the copy into a direct buffer, which the transport otherwise performs on the event
+         * loop thread before writing to the socket, to the calling thread.
+         *
+         * @param directBuffers whether to use pooled direct buffers for request bodies, default {@code false}
+         * @return this builder
+         */
+        public Builder directBuffers(boolean directBuffers) {
+            this.directBuffers = directBuffers;
+            return this;
+        }
+
         public HttpProtocolConfig build() {
-            return new HttpProtocolConfig(vertx, proxyOptions);
+            return new HttpProtocolConfig(vertx, proxyOptions, nativeTransport, directBuffers);
         }
     }
 
-    private HttpProtocolConfig(Vertx vertx, ProxyOptions proxyOptions) {
+    private HttpProtocolConfig(Vertx vertx, ProxyOptions proxyOptions, boolean nativeTransport, boolean directBuffers) {
         this.vertx = vertx;
         this.proxyOptions = proxyOptions;
+        this.nativeTransport = nativeTransport;
+        this.directBuffers = directBuffers;
     }
 
     public Vertx getVertx() {
@@ -56,4 +92,12 @@ public final class HttpProtocolConfig implements ProtocolConfig {
     public ProxyOptions getProxyOptions() {
         return proxyOptions;
     }
+
+    public boolean isNativeTransport() {
+        return nativeTransport;
+    }
+
+    public boolean isDirectBuffers() {
+        return directBuffers;
+    }
 }
@@ -0,0 +1,140 @@
+package com.arangodb.http;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
+import io.vertx.ext.web.codec.BodyCodec;
+import io.vertx.ext.web.codec.spi.BodyStream;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the response body into a {@code byte[]} without the intermediate aggregation buffer of
+ * {@link BodyCodec#buffer()}.
+ * <p>
+ * Vert.x hands every received chunk over as an exclusive heap copy. When the body arrives in a single chunk whose
+ * backing array holds exactly the body, that array is used as it is. Otherwise, the chunks are copied once into an
+ * array of the final size.
+ */
+final class ResponseBodyCodec implements BodyCodec<byte[]> {
+
+    static final ResponseBodyCodec INSTANCE = new ResponseBodyCodec();
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private ResponseBodyCodec() {
+    }
+
+    @Override
+    public void create(final Handler<AsyncResult<BodyStream<byte[]>>> handler) {
+        handler.handle(Future.succeededFuture(new Stream()));
+    }
+
+    static byte[] toBytes(final List<Buffer> chunks, final int length) {
+        if (length == 0) {
+            return EMPTY;
+        }
+        if (chunks.size() == 1) {
+            byte[] backing = backingArray(chunks.get(0));
+            if (backing != null) {
+                return backing;
+            }
+        }
+        byte[] bytes = new byte[length];
+        int pos = 0;
+        for (Buffer chunk : chunks) {
+            int len = chunk.length();
+            chunk.getBytes(0, len, bytes, pos);
+            pos += len;
+        }
+        return bytes;
+    }
+
+    /**
+     * @return the array backing the given buffer, if it contains exactly the buffer content, or {@code null} otherwise
+     */
+    @SuppressWarnings("deprecation")
+    private static byte[] backingArray(final Buffer chunk) {
+        // Buffer.getByteBuf() is deprecated, but it is the only access to the backing array in Vert.x 4, which
+        // avoids copying single chunk responses: unlike getBytes(), it does not copy the content, since it returns a
+        // duplicate sharing the same memory
+        ByteBuf bb = chunk.getByteBuf();
+        if (bb.hasArray() && bb.arrayOffset() == 0 && bb.readerIndex() == 0
+                && bb.readableBytes() == bb.array().length) {
+            return bb.array();
+        }
+        return null;
+    }
+
+    static final class Stream implements BodyStream<byte[]> {
+        private final Promise<byte[]> promise = Promise.promise();
+        private List<Buffer> chunks = new ArrayList<>(1);
+        private int length;
+
+        @Override
+        public Future<byte[]> result() {
+            return promise.future();
+        }
+
+        @Override
+        public void handle(final Throwable cause) {
+            chunks = null;
+            promise.tryFail(cause);
+        }
+
+        @Override
+        public WriteStream<Buffer> exceptionHandler(final Handler<Throwable> handler) {
+            return this;
+        }
+
+        @Override
+        public Future<Void> write(final Buffer data) {
+            if (chunks != null) {
+                chunks.add(data);
+                length += data.length();
+            }
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public void write(final Buffer data, final Handler<AsyncResult<Void>> handler) {
+            Future<Void> res = write(data);
+            if (handler != null) {
+                handler.handle(res);
+            }
+        }
+
+        @Override
+        public void end(final Handler<AsyncResult<Void>> handler) {
+            if (chunks != null) {
+                byte[] bytes = toBytes(chunks, length);
+                chunks = null;
+                promise.tryComplete(bytes);
+            }
+            if (handler != null) {
+                handler.handle(Future.succeededFuture());
+            }
+        }
+
+        @Override
+        public WriteStream<Buffer> setWriteQueueMaxSize(final int maxSize) {
+            return this;
+        }
+
+        @Override
+        public boolean writeQueueFull() {
+            return false;
+        }
+
+        @Override
+        public WriteStream<Buffer> drainHandler(final Handler<Void> handler) {
+            return this;
+        }
+    }
+
+}
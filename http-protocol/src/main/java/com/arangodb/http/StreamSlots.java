@@ -0,0 +1,59 @@
+package com.arangodb.http;
+
+import static com.arangodb.internal.net.ConnectionPoolImpl.HTTP2_MAX_SLOTS;
+import static com.arangodb.internal.net.ConnectionPoolImpl.HTTP2_SLOTS;
+
+/**
+ * Sizes the HTTP/2 stream slots of a connection.
+ * <p>
+ * The upper bound is the {@code SETTINGS_MAX_CONCURRENT_STREAMS} advertised by the server, capped to
+ * {@link com.arangodb.internal.net.ConnectionPoolImpl#HTTP2_MAX_SLOTS}, or
+ * {@link com.arangodb.internal.net.ConnectionPoolImpl#HTTP2_SLOTS} until the settings are received. All the streams
+ * share the connection flow-control window: when a response is so large that as many concurrent responses would not
+ * fit into it, the streams would stall waiting for window updates, so the slots are reduced to the number of such
+ * responses fitting into the window. Otherwise, they are increased by one per response, up to the upper bound.
+ */
+final class StreamSlots {
+
+    private final long connectionWindowSize;
+    private int max = HTTP2_SLOTS;
+    private int current = HTTP2_SLOTS;
+
+    StreamSlots(final int connectionWindowSize) {
+        this.connectionWindowSize = connectionWindowSize;
+    }
+
+    /**
+     * @return the new number of slots, or {@code 0} if unchanged
+     */
+    synchronized int onRemoteSettings(final long maxConcurrentStreams) {
+        max = (int) Math.max(1, Math.min(maxConcurrentStreams, HTTP2_MAX_SLOTS));
+        return update(max);
+    }
+
+    /**
+     * @return the new number of slots, or {@code 0} if unchanged
+     */
+    synchronized int onResponse(final long bodyLength) {
+        if (bodyLength * current > connectionWindowSize) {
+            return update((int) Math.max(1, connectionWindowSize / bodyLength));
+        }
+        if (current < max && bodyLength * (current + 1) <= connectionWindowSize) {
+            return update(current + 1);
+        }
+        return 0;
+    }
+
+    synchronized int get() {
+        return current;
+    }
+
+    private int update(final int slots) {
+        if (slots == current) {
+            return 0;
+        }
+        current = slots;
+        return slots;
+    }
+
+}
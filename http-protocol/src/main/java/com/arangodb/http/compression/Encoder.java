@@ -1,14 +1,30 @@
 package com.arangodb.http.compression;
 
 import com.arangodb.Compression;
+import com.arangodb.internal.util.ChunkedOutputStream;
 import io.netty.handler.codec.compression.ZlibWrapper;
 import io.vertx.core.buffer.Buffer;
 
+import java.util.List;
+
 public interface Encoder {
     Buffer encode(byte[] data);
 
+    /**
+     * Encodes the concatenation of the given chunks.
+     */
+    default Buffer encode(List<byte[]> chunks) {
+        return encode(ChunkedOutputStream.concat(chunks));
+    }
+
     String getFormat();
 
+    /**
+     * Releases the resources held by this encoder.
+     */
+    default void close() {
+    }
+
     static Encoder of(Compression compression, int level) {
         if (level < 0 || level > 9) {
             throw new IllegalArgumentException("compression level: " + level + " (expected: 0-9)");
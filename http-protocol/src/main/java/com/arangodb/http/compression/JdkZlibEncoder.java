@@ -24,6 +24,8 @@ import io.netty.util.internal.*;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.zip.CRC32;
 import java.util.zip.Deflater;
 
@@ -103,19 +105,25 @@ class JdkZlibEncoder {
     }
 
     ByteBuf encode(byte[] in) {
-        if (in.length == 0) {
+        return encode(Collections.singletonList(in), in.length);
+    }
+
+    ByteBuf encode(List<byte[]> in, int length) {
+        if (length == 0) {
             return emptyBuf();
         }
-        ByteBuf out = allocateBuffer(in.length);
-        encodeSome(in, out);
+        ByteBuf out = allocateBuffer(length);
+        if (wrapper == ZlibWrapper.GZIP) {
+            out.writeBytes(gzipHeader);
+        }
+        for (byte[] chunk : in) {
+            encodeSome(chunk, out);
+        }
         finishEncode(out);
         return out;
     }
 
     private void encodeSome(byte[] in, ByteBuf out) {
-        if (wrapper == ZlibWrapper.GZIP) {
-            out.writeBytes(gzipHeader);
-        }
         if (wrapper == ZlibWrapper.GZIP) {
             crc.update(in, 0, in.length);
         }
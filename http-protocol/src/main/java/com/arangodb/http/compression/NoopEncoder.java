@@ -1,13 +1,23 @@
 package com.arangodb.http.compression;
 
+import io.netty.buffer.Unpooled;
 import io.vertx.core.buffer.Buffer;
 
+import java.util.List;
+
 class NoopEncoder implements Encoder {
     @Override
     public Buffer encode(byte[] data) {
         return Buffer.buffer(data);
     }
 
+    @Override
+    @SuppressWarnings("deprecation")
+    public Buffer encode(List<byte[]> chunks) {
+        // Buffer.buffer(ByteBuf) is the only way to wrap the chunks without copying them in Vert.x 4
+        return Buffer.buffer(Unpooled.wrappedBuffer(chunks.toArray(new byte[0][])));
+    }
+
     @Override
     public String getFormat() {
         return null;
@@ -4,10 +4,21 @@ import io.netty.buffer.ByteBuf;
 import io.netty.handler.codec.compression.ZlibWrapper;
 import io.vertx.core.buffer.Buffer;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+
 class ZlibEncoder implements Encoder {
+    /**
+     * Max number of idle {@link JdkZlibEncoder} instances kept for reuse, each holding a native zlib stream.
+     */
+    private static final int MAX_POOLED_ENCODERS = Runtime.getRuntime().availableProcessors();
+
     private final ZlibWrapper wrapper;
     private final int level;
     private final String format;
+    private final ArrayBlockingQueue<JdkZlibEncoder> pool = new ArrayBlockingQueue<>(MAX_POOLED_ENCODERS);
+    private volatile boolean closed;
 
     ZlibEncoder(ZlibWrapper wrapper, int level, String format) {
         this.wrapper = wrapper;
@@ -17,15 +28,57 @@ class ZlibEncoder implements Encoder {
 
     @Override
     public Buffer encode(byte[] data) {
-        JdkZlibEncoder encoder = new JdkZlibEncoder(wrapper, level);
-        ByteBuf bb = encoder.encode(data);
-        Buffer out = Buffer.buffer(bb);
-        encoder.close();
-        return out;
+        return encode(Collections.singletonList(data), data.length);
+    }
+
+    @Override
+    public Buffer encode(List<byte[]> chunks) {
+        int length = 0;
+        for (byte[] chunk : chunks) {
+            length += chunk.length;
+        }
+        return encode(chunks, length);
+    }
+
+    private Buffer encode(List<byte[]> chunks, int length) {
+        JdkZlibEncoder encoder = pool.poll();
+        if (encoder == null) {
+            encoder = new JdkZlibEncoder(wrapper, level);
+        }
+        ByteBuf bb;
+        try {
+            bb = encoder.encode(chunks, length);
+        } catch (RuntimeException e) {
+            encoder.close();
+            throw e;
+        }
+        release(encoder);
+        return Buffer.buffer(bb);
+    }
+
+    private void release(JdkZlibEncoder encoder) {
+        if (closed || !pool.offer(encoder)) {
+            encoder.close();
+        } else if (closed) {
+            drain();
+        }
+    }
+
+    private void drain() {
+        JdkZlibEncoder encoder;
+        while ((encoder = pool.poll()) != null) {
+            encoder.close();
+        }
     }
 
     @Override
     public String getFormat() {
         return format;
     }
+
+    @Override
+    public void close() {
+        closed = true;
+        drain();
+    }
 }
@@ -1,12 +1,15 @@
 package com.arangodb.serde.jackson;
 
 import com.arangodb.ContentType;
-import com.arangodb.serde.ArangoSerde;
 import com.arangodb.RequestContext;
+import com.arangodb.serde.StreamingArangoSerde;
 import com.arangodb.serde.jackson.internal.JacksonSerdeImpl;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.lang.reflect.Type;
 import java.util.function.Consumer;
 
 import static com.arangodb.serde.jackson.internal.JacksonSerdeImpl.SERDE_CONTEXT_ATTRIBUTE_NAME;
@@ -14,7 +17,7 @@ import static com.arangodb.serde.jackson.internal.JacksonSerdeImpl.SERDE_CONTEXT
 /**
  * User data serde based on Jackson Databind. Not shaded in arangodb-java-driver-shaded.
  */
-public interface JacksonSerde extends ArangoSerde {
+public interface JacksonSerde extends StreamingArangoSerde {
 
     /**
      * Creates a new JacksonSerde with default settings for the specified data type.
@@ -53,4 +56,24 @@ public interface JacksonSerde extends ArangoSerde {
      */
     JacksonSerde configure(final Consumer<ObjectMapper> configureFunction);
 
+    /**
+     * Serializes the object and writes it to the generator, e.g. as a value nested in a larger document.
+     *
+     * @param value object to serialize
+     * @param gen   generator to write to
+     */
+    void serialize(Object value, JsonGenerator gen);
+
+    /**
+     * Deserializes the value starting at the current token of the parser, or at the next token if there is no current
+     * token, and binds it to the target data type. The value is consumed, so that the next token of the parser is the
+     * one following the value.
+     *
+     * @param parser parser to read from
+     * @param type   target data type
+     * @param ctx    serde context, cannot be null
+     * @return deserialized object
+     */
+    <T> T deserialize(JsonParser parser, Type type, RequestContext ctx);
+
 }
@@ -1,13 +1,30 @@
 package com.arangodb.serde.jackson.internal;
 
 import com.arangodb.RequestContext;
+import com.arangodb.internal.serde.InlineUserDataSerde;
+import com.arangodb.internal.util.BoundedCache;
 import com.arangodb.serde.jackson.JacksonSerde;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.core.StreamWriteConstraints;
+import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.cfg.ContextAttributes;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.function.Consumer;
 
@@ -15,26 +32,60 @@ import java.util.function.Consumer;
 /**
  * Not shaded in arangodb-java-driver-shaded.
  */
-public final class JacksonSerdeImpl implements JacksonSerde {
+public final class JacksonSerdeImpl implements JacksonSerde, InlineUserDataSerde {
     public static final String SERDE_CONTEXT_ATTRIBUTE_NAME = "arangoRequestContext";
 
+    private static final int MAX_CACHED_TYPES = 1_000;
+
     private final ObjectMapper mapper;
+    // cleared by configure(), since readers and writers capture the mapper configuration
+    private final BoundedCache<Type, ObjectReader> readers;
+    // readers of values nested in a document read by the caller, which are followed by further tokens
+    private final BoundedCache<Type, ObjectReader> nestedReaders;
+    private final BoundedCache<Class<?>, ObjectWriter> writers;
+    // result of supportsInline() for the last factory checked, cleared by configure()
+    private volatile InlineSupport inlineSupport;
 
     public JacksonSerdeImpl(final ObjectMapper mapper) {
         this.mapper = mapper;
         mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         mapper.setAnnotationIntrospector(new ArangoSerdeAnnotationIntrospector());
+        readers = new BoundedCache<>(MAX_CACHED_TYPES, t -> mapper.readerFor(mapper.constructType(t))
+                .without(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+                .withAttribute(SERDE_CONTEXT_ATTRIBUTE_NAME, RequestContext.EMPTY));
+        nestedReaders = new BoundedCache<>(MAX_CACHED_TYPES, t ->
+                readers.get(t).without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS));
+        writers = new BoundedCache<>(MAX_CACHED_TYPES, c -> mapper.writerFor(c)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET));
     }
 
     @Override
     public byte[] serialize(final Object value) {
         try {
-            return mapper.writeValueAsBytes(value);
+            return value != null ? writers.get(value.getClass()).writeValueAsBytes(value) : mapper.writeValueAsBytes(null);
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
     }
 
+    @Override
+    public void serialize(final Object value, final OutputStream out) {
+        try {
+            writer(value).writeValue(out, value);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void serialize(final Object value, final JsonGenerator gen) {
+        try {
+            writer(value).writeValue(gen, value);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     @Override
     public <T> T deserialize(final byte[] content, final Class<T> type) {
         return deserialize(content, type, RequestContext.EMPTY);
@@ -47,18 +98,178 @@ public final class JacksonSerdeImpl implements JacksonSerde {
             return null;
         }
         try {
-            return mapper.readerFor(mapper.constructType(type))
-                    .with(ContextAttributes.getEmpty().withPerCallAttribute(SERDE_CONTEXT_ATTRIBUTE_NAME, ctx))
-                    .readValue(content);
+            return reader(type, ctx).readValue(content);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public <T> T deserialize(final InputStream in, final Type type, final RequestContext ctx) {
+        try {
+            return reader(type, ctx).readValue(in);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public <T> T deserialize(final ByteBuffer content, final Type type, final RequestContext ctx) {
+        if (!content.hasArray()) {
+            return JacksonSerde.super.deserialize(content, type, ctx);
+        }
+        Objects.requireNonNull(ctx);
+        if (!content.hasRemaining()) {
+            return null;
+        }
+        try {
+            return reader(type, ctx).readValue(content.array(), content.arrayOffset() + content.position(),
+                    content.remaining());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public <T> T deserialize(final JsonParser parser, final Type type, final RequestContext ctx) {
+        try {
+            return withContext(nestedReaders.get(type), ctx).readValue(parser);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
+    @Override
+    public boolean supportsInline(final Object factory) {
+        InlineSupport support = inlineSupport;
+        if (support == null || support.factory != factory) {
+            // false with the shaded driver, whose internal serde uses relocated Jackson classes
+            support = new InlineSupport(factory, factory instanceof JsonFactory && isCompatible((JsonFactory) factory));
+            inlineSupport = support;
+        }
+        return support.supported;
+    }
+
+    @Override
+    public void serializeInline(final Object value, final Object generator) {
+        JsonGenerator gen = (JsonGenerator) generator;
+        // values written by custom serializers with writeObject() must be serialized by this mapper too
+        ObjectCodec codec = gen.getCodec();
+        gen.setCodec(mapper);
+        try {
+            serialize(value, gen);
+        } finally {
+            gen.setCodec(codec);
+        }
+    }
+
+    @Override
+    public Object deserializeInline(final Object parser, final Type type, final RequestContext ctx) {
+        JsonParser p = (JsonParser) parser;
+        // values read by custom deserializers with readValueAs() must be deserialized by this mapper too
+        ObjectCodec codec = p.getCodec();
+        p.setCodec(mapper);
+        try {
+            return deserialize(p, type, ctx);
+        } finally {
+            p.setCodec(codec);
+        }
+    }
+
     @Override
     public JacksonSerde configure(Consumer<ObjectMapper> configureFunction) {
         configureFunction.accept(mapper);
+        readers.clear();
+        nestedReaders.clear();
+        writers.clear();
+        inlineSupport = null;
         return this;
     }
 
+    /**
+     * Checks whether the generators and parsers created by the factory write and read user data like the ones created
+     * by the mapper, i.e. whether the factories have the same type, features, character escapes, decorators and
+     * constraints, and the mapper does not reconfigure the generators and parsers it is given.
+     */
+    @SuppressWarnings("deprecation")
+    private boolean isCompatible(final JsonFactory other) {
+        JsonFactory factory = mapper.getFactory();
+        SerializationConfig serializationConfig = mapper.getSerializationConfig();
+        DeserializationConfig deserializationConfig = mapper.getDeserializationConfig();
+        if (factory.getClass() != other.getClass()
+                || !factory.getFormatName().equals(other.getFormatName())
+                || factory.getFormatGeneratorFeatures() != other.getFormatGeneratorFeatures()
+                || factory.getFormatParserFeatures() != other.getFormatParserFeatures()
+                || factory.getCharacterEscapes() != other.getCharacterEscapes()
+                || factory.getInputDecorator() != other.getInputDecorator()
+                || factory.getOutputDecorator() != other.getOutputDecorator()
+                || serializationConfig.isEnabled(SerializationFeature.INDENT_OUTPUT)
+                || serializationConfig.isEnabled(SerializationFeature.WRITE_BIGDECIMAL_AS_PLAIN)) {
+            return false;
+        }
+        for (JsonFactory.Feature f : JsonFactory.Feature.values()) {
+            if (factory.isEnabled(f) != other.isEnabled(f)) {
+                return false;
+            }
+        }
+        for (JsonGenerator.Feature f : JsonGenerator.Feature.values()) {
+            if (serializationConfig.isEnabled(f, factory) != other.isEnabled(f)) {
+                return false;
+            }
+        }
+        for (JsonParser.Feature f : JsonParser.Feature.values()) {
+            // enabled by the internal serde, only affects the locations of the parsed tokens
+            if (f != JsonParser.Feature.INCLUDE_SOURCE_IN_LOCATION
+                    && deserializationConfig.isEnabled(f, factory) != other.isEnabled(f)) {
+                return false;
+            }
+        }
+        return haveSameConstraints(factory, other);
+    }
+
+    private static boolean haveSameConstraints(final JsonFactory a, final JsonFactory b) {
+        try {
+            StreamReadConstraints ra = a.streamReadConstraints();
+            StreamReadConstraints rb = b.streamReadConstraints();
+            StreamWriteConstraints wa = a.streamWriteConstraints();
+            StreamWriteConstraints wb = b.streamWriteConstraints();
+            return ra.getMaxNestingDepth() == rb.getMaxNestingDepth()
+                    && ra.getMaxNumberLength() == rb.getMaxNumberLength()
+                    && ra.getMaxStringLength() == rb.getMaxStringLength()
+                    && ra.getMaxNameLength() == rb.getMaxNameLength()
+                    && ra.getMaxDocumentLength() == rb.getMaxDocumentLength()
+                    && wa.getMaxNestingDepth() == wb.getMaxNestingDepth();
+        } catch (NoSuchMethodError e) {
+            // Jackson older than 2.16, whose factories have no (complete) constraints
+            return true;
+        }
+    }
+
+    private ObjectReader reader(final Type type, final RequestContext ctx) {
+        return withContext(readers.get(type), ctx);
+    }
+
+    private ObjectReader withContext(final ObjectReader cached, final RequestContext ctx) {
+        Objects.requireNonNull(ctx);
+        ObjectReader reader = cached;
+        if (ctx != RequestContext.EMPTY) {
+            reader = reader.with(ContextAttributes.getEmpty().withPerCallAttribute(SERDE_CONTEXT_ATTRIBUTE_NAME, ctx));
+        }
+        return reader;
+    }
+
+    private ObjectWriter writer(final Object value) {
+        return writers.get(value != null ? value.getClass() : Object.class);
+    }
+
+    private static final class InlineSupport {
+        private final Object factory;
+        private final boolean supported;
+
+        private InlineSupport(final Object factory, final boolean supported) {
+            this.factory = factory;
+            this.supported = supported;
+        }
+    }
+
 }
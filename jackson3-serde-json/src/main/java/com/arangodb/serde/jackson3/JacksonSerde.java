@@ -1,17 +1,21 @@
 package com.arangodb.serde.jackson3;
 
-import com.arangodb.serde.ArangoSerde;
 import com.arangodb.RequestContext;
+import com.arangodb.serde.StreamingArangoSerde;
 import com.arangodb.serde.jackson3.internal.JacksonSerdeImpl;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
 import tools.jackson.databind.DeserializationContext;
 import tools.jackson.databind.ObjectMapper;
 
+import java.lang.reflect.Type;
+
 import static com.arangodb.serde.jackson3.internal.JacksonSerdeImpl.SERDE_CONTEXT_ATTRIBUTE_NAME;
 
 /**
  * User data serde based on Jackson Databind. Not shaded in arangodb-java-driver-shaded.
  */
-public interface JacksonSerde extends ArangoSerde {
+public interface JacksonSerde extends StreamingArangoSerde {
 
     /**
      * Creates a new JacksonSerde using the provided ObjectMapper.
@@ -33,4 +37,24 @@ public interface JacksonSerde extends ArangoSerde {
         return (RequestContext) ctx.getAttribute(SERDE_CONTEXT_ATTRIBUTE_NAME);
     }
 
+    /**
+     * Serializes the object and writes it to the generator, e.g. as a value nested in a larger document.
+     *
+     * @param value object to serialize
+     * @param gen   generator to write to
+     */
+    void serialize(Object value, JsonGenerator gen);
+
+    /**
+     * Deserializes the value starting at the current token of the parser, or at the next token if there is no current
+     * token, and binds it to the target data type. The value is consumed, so that the next token of the parser is the
+     * one following the value.
+     *
+     * @param parser parser to read from
+     * @param type   target data type
+     * @param ctx    serde context, cannot be null
+     * @return deserialized object
+     */
+    <T> T deserialize(JsonParser parser, Type type, RequestContext ctx);
+
 }
@@ -1,11 +1,22 @@
 package com.arangodb.serde.jackson3.internal;
 
 import com.arangodb.RequestContext;
+import com.arangodb.internal.util.BoundedCache;
 import com.arangodb.serde.jackson3.JacksonSerde;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.StreamReadFeature;
+import tools.jackson.core.StreamWriteFeature;
 import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
 import tools.jackson.databind.cfg.ContextAttributes;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
 
@@ -15,18 +26,41 @@ import java.util.Objects;
 public final class JacksonSerdeImpl implements JacksonSerde {
     public static final String SERDE_CONTEXT_ATTRIBUTE_NAME = "arangoRequestContext";
 
+    private static final int MAX_CACHED_TYPES = 1_000;
+
     private final ObjectMapper mapper;
+    private final BoundedCache<Type, ObjectReader> readers;
+    // readers of values nested in a document read by the caller, which are followed by further tokens
+    private final BoundedCache<Type, ObjectReader> nestedReaders;
+    private final BoundedCache<Class<?>, ObjectWriter> writers;
 
     public JacksonSerdeImpl(final ObjectMapper mapper) {
         this.mapper = mapper.rebuild()
                 .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
                 .annotationIntrospector(new ArangoSerdeAnnotationIntrospector())
                 .build();
+        readers = new BoundedCache<>(MAX_CACHED_TYPES, t -> this.mapper.readerFor(this.mapper.constructType(t))
+                .without(StreamReadFeature.AUTO_CLOSE_SOURCE)
+                .withAttribute(SERDE_CONTEXT_ATTRIBUTE_NAME, RequestContext.EMPTY));
+        nestedReaders = new BoundedCache<>(MAX_CACHED_TYPES, t ->
+                readers.get(t).without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS));
+        writers = new BoundedCache<>(MAX_CACHED_TYPES, c -> this.mapper.writerFor(c)
+                .without(StreamWriteFeature.AUTO_CLOSE_TARGET));
     }
 
     @Override
     public byte[] serialize(final Object value) {
-        return mapper.writeValueAsBytes(value);
+        return value != null ? writers.get(value.getClass()).writeValueAsBytes(value) : mapper.writeValueAsBytes(null);
+    }
+
+    @Override
+    public void serialize(final Object value, final OutputStream out) {
+        writer(value).writeValue(out, value);
+    }
+
+    @Override
+    public void serialize(final Object value, final JsonGenerator gen) {
+        writer(value).writeValue(gen, value);
     }
 
     @Override
@@ -40,8 +74,46 @@ public final class JacksonSerdeImpl implements JacksonSerde {
         if (content == null || content.length == 0) {
             return null;
         }
-        return mapper.readerFor(mapper.constructType(type))
-                .with(ContextAttributes.getEmpty().withPerCallAttribute(SERDE_CONTEXT_ATTRIBUTE_NAME, ctx))
-                .readValue(content);
+        return reader(type, ctx).readValue(content);
+    }
+
+    @Override
+    public <T> T deserialize(final InputStream in, final Type type, final RequestContext ctx) {
+        return reader(type, ctx).readValue(in);
+    }
+
+    @Override
+    public <T> T deserialize(final ByteBuffer content, final Type type, final RequestContext ctx) {
+        if (!content.hasArray()) {
+            return JacksonSerde.super.deserialize(content, type, ctx);
+        }
+        Objects.requireNonNull(ctx);
+        if (!content.hasRemaining()) {
+            return null;
+        }
+        return reader(type, ctx).readValue(content.array(), content.arrayOffset() + content.position(),
+                content.remaining());
+    }
+
+    @Override
+    public <T> T deserialize(final JsonParser parser, final Type type, final RequestContext ctx) {
+        return withContext(nestedReaders.get(type), ctx).readValue(parser);
+    }
+
+    private ObjectReader reader(final Type type, final RequestContext ctx) {
+        return withContext(readers.get(type), ctx);
+    }
+
+    private ObjectReader withContext(final ObjectReader cached, final RequestContext ctx) {
+        Objects.requireNonNull(ctx);
+        ObjectReader reader = cached;
+        if (ctx != RequestContext.EMPTY) {
+            reader = reader.with(ContextAttributes.getEmpty().withPerCallAttribute(SERDE_CONTEXT_ATTRIBUTE_NAME, ctx));
+        }
+        return reader;
+    }
+
+    private ObjectWriter writer(final Object value) {
+        return writers.get(value != null ? value.getClass() : Object.class);
     }
 }
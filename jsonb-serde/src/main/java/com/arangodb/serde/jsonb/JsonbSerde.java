@@ -1,16 +1,25 @@
 package com.arangodb.serde.jsonb;
 
-import com.arangodb.serde.ArangoSerde;
+import com.arangodb.RequestContext;
+import com.arangodb.serde.StreamingArangoSerde;
 import jakarta.json.bind.Jsonb;
 import jakarta.json.bind.JsonbBuilder;
 import jakarta.json.bind.JsonbConfig;
 
-import java.nio.charset.StandardCharsets;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.Objects;
 
 /**
  * User data serde based on Jakarta JSON Binding (JSON-B).
  */
-public class JsonbSerde implements ArangoSerde {
+public class JsonbSerde implements StreamingArangoSerde {
 
     private final Jsonb jsonb;
 
@@ -24,12 +33,41 @@ public class JsonbSerde implements ArangoSerde {
 
     @Override
     public byte[] serialize(Object value) {
-        return jsonb.toJson(value).getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        jsonb.toJson(value, out);
+        return out.toByteArray();
+    }
+
+    @Override
+    public void serialize(Object value, OutputStream out) {
+        // JSON-B closes the stream
+        jsonb.toJson(value, new FilterOutputStream(out) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        });
     }
 
     @Override
     public <T> T deserialize(byte[] content, Class<T> type) {
-        return jsonb.fromJson(new String(content, StandardCharsets.UTF_8), type);
+        return jsonb.fromJson(new ByteArrayInputStream(content), type);
+    }
+
+    @Override
+    public <T> T deserialize(InputStream in, Type type, RequestContext ctx) {
+        Objects.requireNonNull(ctx);
+        // JSON-B closes the stream
+        return jsonb.fromJson(new FilterInputStream(in) {
+            @Override
+            public void close() {
+            }
+        }, type);
     }
 
 }
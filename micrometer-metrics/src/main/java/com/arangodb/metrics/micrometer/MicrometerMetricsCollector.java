@@ -0,0 +1,131 @@
+package com.arangodb.metrics.micrometer;
+
+import com.arangodb.MetricsCollector;
+import com.arangodb.config.HostDescription;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link MetricsCollector} registering the driver metrics into a Micrometer {@link MeterRegistry}:
+ * <ul>
+ *     <li>{@code arangodb.client.requests}: timer of the request attempts, tagged with {@code host}, {@code method},
+ *     {@code endpoint} and {@code status} ({@code 0} if no response was received), publishing a percentile
+ *     histogram</li>
+ *     <li>{@code arangodb.client.requests.active}: gauge of the requests in flight, tagged with {@code host}</li>
+ *     <li>{@code arangodb.client.request.size} and {@code arangodb.client.response.size}: distribution summaries of
+ *     the body sizes, tagged with {@code host} and {@code endpoint}</li>
+ *     <li>{@code arangodb.client.connection.acquire}: timer of the wait for a connection slot, tagged with
+ *     {@code host}</li>
+ *     <li>{@code arangodb.client.redirects} and {@code arangodb.client.failovers}: counters tagged with
+ *     {@code host}</li>
+ *     <li>{@code arangodb.client.queue.time}: distribution summary of the server queue time, in seconds</li>
+ * </ul>
+ * Meters are created on first use and cached, so that recording a measurement does not go through the registry.
+ */
+public class MicrometerMetricsCollector implements MetricsCollector {
+
+    private static final String PREFIX = "arangodb.client.";
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> requestTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> requestSizes = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> responseSizes = new ConcurrentHashMap<>();
+    private final Map<HostDescription, AtomicInteger> active = new ConcurrentHashMap<>();
+    private final Map<HostDescription, Timer> acquireTimers = new ConcurrentHashMap<>();
+    private final Map<HostDescription, Counter> redirects = new ConcurrentHashMap<>();
+    private final Map<HostDescription, Counter> failovers = new ConcurrentHashMap<>();
+    private final DistributionSummary queueTime;
+
+    public MicrometerMetricsCollector(final MeterRegistry registry) {
+        this.registry = registry;
+        queueTime = DistributionSummary.builder(PREFIX + "queue.time")
+                .description("Server queue time reported in the responses")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    @Override
+    public void requestStarted(final HostDescription host) {
+        active(host).incrementAndGet();
+    }
+
+    @Override
+    public void requestCompleted(final HostDescription host, final String method, final String endpoint,
+                                 final int status, final long durationNanos, final long requestBytes,
+                                 final long responseBytes) {
+        active(host).decrementAndGet();
+        String hostTag = hostTag(host);
+        requestTimers.computeIfAbsent(hostTag + ' ' + method + ' ' + endpoint + ' ' + status, k ->
+                Timer.builder(PREFIX + "requests")
+                        .description("Request attempts")
+                        .tags("host", hostTag, "method", method, "endpoint", endpoint, "status", String.valueOf(status))
+                        .publishPercentileHistogram()
+                        .register(registry)
+        ).record(durationNanos, TimeUnit.NANOSECONDS);
+        String sizeKey = hostTag + ' ' + endpoint;
+        requestSizes.computeIfAbsent(sizeKey, k -> size("request.size", "Request body size", hostTag, endpoint))
+                .record(requestBytes);
+        responseSizes.computeIfAbsent(sizeKey, k -> size("response.size", "Response body size", hostTag, endpoint))
+                .record(responseBytes);
+    }
+
+    @Override
+    public void connectionAcquired(final HostDescription host, final long waitNanos) {
+        acquireTimers.computeIfAbsent(host, h ->
+                Timer.builder(PREFIX + "connection.acquire")
+                        .description("Wait for a connection slot")
+                        .tags("host", hostTag(h))
+                        .publishPercentileHistogram()
+                        .register(registry)
+        ).record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void redirected(final HostDescription from, final HostDescription to) {
+        redirects.computeIfAbsent(from, h -> counter("redirects", "Redirected requests", h)).increment();
+    }
+
+    @Override
+    public void failedOver(final HostDescription from, final Throwable cause) {
+        failovers.computeIfAbsent(from, h -> counter("failovers", "Requests retried on the next host", h)).increment();
+    }
+
+    @Override
+    public void queueTime(final double seconds) {
+        queueTime.record(seconds);
+    }
+
+    private AtomicInteger active(final HostDescription host) {
+        return active.computeIfAbsent(host, h ->
+                registry.gauge(PREFIX + "requests.active", Tags.of("host", hostTag(h)), new AtomicInteger()));
+    }
+
+    private DistributionSummary size(final String name, final String description, final String host,
+                                     final String endpoint) {
+        return DistributionSummary.builder(PREFIX + name)
+                .description(description)
+                .baseUnit("bytes")
+                .tags("host", host, "endpoint", endpoint)
+                .register(registry);
+    }
+
+    private Counter counter(final String name, final String description, final HostDescription host) {
+        return Counter.builder(PREFIX + name)
+                .description(description)
+                .tags("host", hostTag(host))
+                .register(registry);
+    }
+
+    private static String hostTag(final HostDescription host) {
+        return host.getHost() + ":" + host.getPort();
+    }
+
+}
@@ -20,6 +20,7 @@
 
 package com.arangodb;
 
+import com.arangodb.config.HostDescription;
 import com.arangodb.entity.*;
 import com.arangodb.internal.serde.SerdeUtils;
 import com.arangodb.model.*;
@@ -38,14 +39,18 @@ import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static com.arangodb.util.TestUtils.TEST_DB;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
@@ -619,6 +624,76 @@ class ArangoCollectionAsyncTest extends BaseJunit5 {
         assertThat(readResult.getId()).isEqualTo(COLLECTION_NAME + "/" + createResult.getKey());
     }
 
+    @ParameterizedTest
+    @EnumSource(Protocol.class)
+    void coalescedInsertAndGetDocument(Protocol protocol) throws ExecutionException, InterruptedException {
+        assumeTrue(protocol != Protocol.VST || isLessThanVersion(3, 12));
+        final List<String> requests = new CopyOnWriteArrayList<>();
+        final ArangoDB arangoDB = new ArangoDB.Builder()
+                .loadProperties(config)
+                .protocol(protocol)
+                .acquireHostList(false)
+                .metricsCollector(new MetricsCollector() {
+                    @Override
+                    public void requestCompleted(HostDescription host, String method, String endpoint, int status,
+                                                 long durationNanos, long requestBytes, long responseBytes) {
+                        requests.add(method + " " + endpoint);
+                    }
+                })
+                .build();
+        try {
+            coalescedInsertAndGetDocument(arangoDB.async().db(TEST_DB).collection(COLLECTION_NAME)
+                    .coalescing(new DocumentCoalescingOptions().maxBatchSize(10).maxDelayMicros(100_000)));
+        } finally {
+            arangoDB.shutdown();
+        }
+        // 25 inserts in batches of 10, 10 and 5
+        assertThat(requests).filteredOn("POST /_api/document"::equals).hasSize(3);
+        // 26 reads in batches of 10, 10 and 6
+        assertThat(requests).filteredOn("PUT /_api/document"::equals).hasSize(3);
+    }
+
+    private void coalescedInsertAndGetDocument(ArangoCollectionAsync collection)
+            throws ExecutionException, InterruptedException {
+        final List<String> keys = new ArrayList<>();
+        final List<CompletableFuture<DocumentCreateEntity<BaseDocument>>> inserts = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            final BaseDocument doc = new BaseDocument(rnd());
+            doc.addAttribute("i", String.valueOf(i));
+            keys.add(doc.getKey());
+            inserts.add(collection.insertDocument(doc, new DocumentCreateOptions().returnNew(true)));
+        }
+        for (int i = 0; i < inserts.size(); i++) {
+            final DocumentCreateEntity<BaseDocument> created = inserts.get(i).get();
+            assertThat(created.getKey()).isEqualTo(keys.get(i));
+            assertThat(created.getNew().getAttribute("i")).isEqualTo(String.valueOf(i));
+        }
+        final List<CompletableFuture<BaseDocument>> reads = new ArrayList<>();
+        for (String key : keys) {
+            reads.add(collection.getDocument(key, BaseDocument.class));
+        }
+        final CompletableFuture<BaseDocument> notFound = collection.getDocument("no", BaseDocument.class);
+        for (int i = 0; i < reads.size(); i++) {
+            final BaseDocument read = reads.get(i).get();
+            assertThat(read.getKey()).isEqualTo(keys.get(i));
+            assertThat(read.getAttribute("i")).isEqualTo(String.valueOf(i));
+        }
+        assertThat(notFound.get()).isNull();
+    }
+
+    @ParameterizedTest
+    @MethodSource("asyncCols")
+    void coalescedInsertDocumentConflict(ArangoCollectionAsync c) throws ExecutionException, InterruptedException {
+        final ArangoCollectionAsync collection = c.coalescing(new DocumentCoalescingOptions());
+        final String key = rnd();
+        final CompletableFuture<DocumentCreateEntity<Void>> first = collection.insertDocument(new BaseDocument(key));
+        final CompletableFuture<DocumentCreateEntity<Void>> second = collection.insertDocument(new BaseDocument(key));
+        assertThat(first.get().getKey()).isEqualTo(key);
+        Throwable thrown = catchThrowable(() -> second.get()).getCause();
+        assertThat(thrown).isInstanceOf(ArangoDBException.class);
+        assertThat(((ArangoDBException) thrown).getErrorNum()).isEqualTo(1210);
+    }
+
     @ParameterizedTest
     @MethodSource("asyncCols")
     void getDocumentIfMatch(ArangoCollectionAsync collection) throws ExecutionException, InterruptedException {
@@ -699,6 +774,44 @@ class ArangoCollectionAsyncTest extends BaseJunit5 {
         assertThat(thrown).isInstanceOf(ArangoDBException.class);
     }
 
+    @ParameterizedTest
+    @MethodSource("asyncCols")
+    void getDocumentWithFieldsNotFound(ArangoCollectionAsync collection) throws ExecutionException, InterruptedException {
+        final DocumentReadOptions options = new DocumentReadOptions().fields("a");
+        final BaseDocument document = collection.getDocument("no", BaseDocument.class, options).get();
+        assertThat(document).isNull();
+    }
+
+    @ParameterizedTest
+    @MethodSource("asyncCols")
+    void getDocumentsWithFieldsMultipleBatches(ArangoCollectionAsync collection) throws ExecutionException, InterruptedException {
+        final List<BaseDocument> values = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            BaseDocument doc = new BaseDocument(rnd());
+            doc.addAttribute("a", i);
+            doc.addAttribute("b", i);
+            values.add(doc);
+        }
+        collection.insertDocuments(values).get();
+        final List<String> keys = values.stream().map(BaseDocument::getKey).collect(Collectors.toList());
+        keys.add(1234, "no");
+        final MultiDocumentEntity<BaseDocument> documents = collection.getDocuments(keys, BaseDocument.class,
+                new DocumentReadOptions().fields("a")).get();
+        assertThat(documents.getDocuments()).hasSize(2500);
+        assertThat(documents.getErrors()).hasSize(1);
+        final List<Object> documentsAndErrors = documents.getDocumentsAndErrors();
+        assertThat(documentsAndErrors).hasSize(2501);
+        for (int i = 0; i < keys.size(); i++) {
+            if (i == 1234) {
+                assertThat(((ErrorEntity) documentsAndErrors.get(i)).getErrorNum()).isEqualTo(1202);
+            } else {
+                final BaseDocument document = (BaseDocument) documentsAndErrors.get(i);
+                assertThat(document.getKey()).isEqualTo(keys.get(i));
+                assertThat(document.getProperties()).containsKey("a").doesNotContainKey("b");
+            }
+        }
+    }
+
     @SlowTest
     @ParameterizedTest
     @MethodSource("asyncCols")
@@ -2619,6 +2732,46 @@ class ArangoCollectionAsyncTest extends BaseJunit5 {
         assertThat(docs.getDetails()).isEmpty();
     }
 
+    @ParameterizedTest
+    @MethodSource("asyncCols")
+    void importDocumentsBulk(ArangoCollectionAsync collection) throws ExecutionException, InterruptedException {
+        final Iterator<BaseDocument> values = IntStream.range(0, 2_500)
+                .mapToObj(i -> new BaseDocument())
+                .iterator();
+
+        final DocumentImportEntity docs = collection.importDocuments(values,
+                new BulkWriteOptions().batchSize(1_000).maxInFlight(2), new DocumentImportOptions()).get();
+        assertThat(docs.getCreated()).isEqualTo(2_500);
+        assertThat(docs.getEmpty()).isZero();
+        assertThat(docs.getErrors()).isZero();
+        assertThat(docs.getIgnored()).isZero();
+        assertThat(docs.getUpdated()).isZero();
+        assertThat(docs.getDetails()).isEmpty();
+    }
+
+    @ParameterizedTest
+    @MethodSource("asyncCols")
+    void insertDocumentsBulk(ArangoCollectionAsync collection) throws ExecutionException, InterruptedException {
+        final String existing = UUID.randomUUID().toString();
+        collection.insertDocument(new BaseDocument(existing)).get();
+        final List<BaseDocument> values = IntStream.range(0, 250)
+                .mapToObj(i -> new BaseDocument(i == 100 ? existing : UUID.randomUUID().toString()))
+                .collect(Collectors.toList());
+
+        final MultiDocumentEntity<DocumentCreateEntity<Void>> docs = collection.insertDocuments(values.iterator(),
+                new BulkWriteOptions().batchSize(10).batchBytes(1_000).maxInFlight(4), null).get();
+        assertThat(docs.getDocuments()).hasSize(249);
+        assertThat(docs.getErrors()).hasSize(1);
+        assertThat(docs.getDocumentsAndErrors()).hasSize(250);
+        assertThat(docs.getDocumentsAndErrors().get(100)).isInstanceOf(ErrorEntity.class);
+        for (int i = 0; i < 250; i++) {
+            if (i != 100) {
+                assertThat(((DocumentCreateEntity<?>) docs.getDocumentsAndErrors().get(i)).getKey())
+                        .isEqualTo(values.get(i).getKey());
+            }
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("asyncCols")
     void importDocumentsJsonList(ArangoCollectionAsync collection) throws ExecutionException, InterruptedException {
@@ -686,6 +686,41 @@ class ArangoCollectionTest extends BaseJunit5 {
         assertThat(document).isNull();
     }
 
+    @ParameterizedTest
+    @MethodSource("cols")
+    void getDocumentWithFields(ArangoCollection collection) {
+        final BaseDocument doc = new BaseDocument(rnd());
+        doc.addAttribute("a", "a");
+        doc.addAttribute("b", Collections.singletonMap("c", "c"));
+        doc.addAttribute("d", "d");
+        collection.insertDocument(doc);
+        final DocumentReadOptions options = new DocumentReadOptions().fields("a", "b.c");
+        final BaseDocument readResult = collection.getDocument(doc.getKey(), BaseDocument.class, options);
+        assertThat(readResult.getKey()).isEqualTo(doc.getKey());
+        assertThat(readResult.getId()).isEqualTo(COLLECTION_NAME + "/" + doc.getKey());
+        assertThat(readResult.getRevision()).isNotNull();
+        assertThat(readResult.getAttribute("a")).isEqualTo("a");
+        assertThat(readResult.getAttribute("b")).isEqualTo(Collections.singletonMap("c", "c"));
+        assertThat(readResult.getProperties()).doesNotContainKey("d");
+    }
+
+    @ParameterizedTest
+    @MethodSource("cols")
+    void getDocumentWithFieldsIfMatchFail(ArangoCollection collection) {
+        final DocumentCreateEntity<BaseDocument> createResult = collection.insertDocument(new BaseDocument(), null);
+        final DocumentReadOptions options = new DocumentReadOptions().fields("a").ifMatch("no");
+        final BaseDocument document = collection.getDocument(createResult.getKey(), BaseDocument.class, options);
+        assertThat(document).isNull();
+    }
+
+    @ParameterizedTest
+    @MethodSource("cols")
+    void getDocumentWithFieldsNotFound(ArangoCollection collection) {
+        final DocumentReadOptions options = new DocumentReadOptions().fields("a");
+        final BaseDocument document = collection.getDocument("no", BaseDocument.class, options);
+        assertThat(document).isNull();
+    }
+
     @ParameterizedTest
     @MethodSource("cols")
     void getDocumentAsJson(ArangoCollection collection) {
@@ -754,6 +789,59 @@ class ArangoCollectionTest extends BaseJunit5 {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("cols")
+    void getDocumentsWithFields(ArangoCollection collection) {
+        final List<BaseDocument> values = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            BaseDocument doc = new BaseDocument(rnd());
+            doc.addAttribute("a", i);
+            doc.addAttribute("b", i);
+            values.add(doc);
+        }
+        collection.insertDocuments(values);
+        final List<String> keys = values.stream().map(BaseDocument::getKey).collect(Collectors.toList());
+        keys.add("no");
+        final MultiDocumentEntity<BaseDocument> documents = collection.getDocuments(keys, BaseDocument.class,
+                new DocumentReadOptions().fields("a"));
+        assertThat(documents.getDocuments()).hasSize(3);
+        for (final BaseDocument document : documents.getDocuments()) {
+            assertThat(keys).contains(document.getKey());
+            assertThat(document.getProperties()).containsKey("a").doesNotContainKey("b");
+        }
+        assertThat(documents.getDocumentsAndErrors()).hasSize(4);
+        assertThat(documents.getDocumentsAndErrors().get(3)).isInstanceOf(ErrorEntity.class);
+        assertThat(documents.getErrors()).hasSize(1);
+        assertThat(documents.getErrors().iterator().next().getErrorNum()).isEqualTo(1202);
+    }
+
+    @ParameterizedTest
+    @MethodSource("cols")
+    void getDocumentsWithFieldsMultipleBatches(ArangoCollection collection) {
+        final List<BaseDocument> values = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            BaseDocument doc = new BaseDocument(rnd());
+            doc.addAttribute("a", i);
+            values.add(doc);
+        }
+        collection.insertDocuments(values);
+        final List<String> keys = values.stream().map(BaseDocument::getKey).collect(Collectors.toList());
+        keys.add(1234, "no");
+        final MultiDocumentEntity<BaseDocument> documents = collection.getDocuments(keys, BaseDocument.class,
+                new DocumentReadOptions().fields("a"));
+        assertThat(documents.getDocuments()).hasSize(2500);
+        assertThat(documents.getErrors()).hasSize(1);
+        final List<Object> documentsAndErrors = documents.getDocumentsAndErrors();
+        assertThat(documentsAndErrors).hasSize(2501);
+        for (int i = 0; i < keys.size(); i++) {
+            if (i == 1234) {
+                assertThat(documentsAndErrors.get(i)).isInstanceOf(ErrorEntity.class);
+            } else {
+                assertThat(((BaseDocument) documentsAndErrors.get(i)).getKey()).isEqualTo(keys.get(i));
+            }
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("cols")
     void getDocumentsUserData(ArangoCollection collection) {
@@ -2510,6 +2598,23 @@ class ArangoCollectionTest extends BaseJunit5 {
         assertThat(docs.getErrors()).isEmpty();
     }
 
+    @ParameterizedTest
+    @MethodSource("cols")
+    void insertDocumentsLargeBatch(ArangoCollection collection) {
+        final Collection<BaseDocument> values = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            BaseDocument doc = new BaseDocument(UUID.randomUUID().toString());
+            doc.addAttribute("value", i);
+            values.add(doc);
+        }
+
+        final MultiDocumentEntity<DocumentCreateEntity<BaseDocument>> docs = collection.insertDocuments(values,
+                new DocumentCreateOptions().returnNew(true), BaseDocument.class);
+        assertThat(docs.getErrors()).isEmpty();
+        assertThat(docs.getDocuments()).hasSize(10_000);
+        assertThat(docs.getDocuments().get(9_999).getNew().getAttribute("value")).isEqualTo(9_999);
+    }
+
     @ParameterizedTest
     @MethodSource("cols")
     void insertDocumentsReturnNewUserData(ArangoCollection collection) {
@@ -2700,6 +2805,46 @@ class ArangoCollectionTest extends BaseJunit5 {
         assertThat(docs.getDetails()).isEmpty();
     }
 
+    @ParameterizedTest
+    @MethodSource("cols")
+    void importDocumentsBulk(ArangoCollection collection) {
+        final Iterator<BaseDocument> values = IntStream.range(0, 2_500)
+                .mapToObj(i -> new BaseDocument())
+                .iterator();
+
+        final DocumentImportEntity docs = collection.importDocuments(values,
+                new BulkWriteOptions().batchSize(1_000).maxInFlight(2), new DocumentImportOptions());
+        assertThat(docs.getCreated()).isEqualTo(2_500);
+        assertThat(docs.getEmpty()).isZero();
+        assertThat(docs.getErrors()).isZero();
+        assertThat(docs.getIgnored()).isZero();
+        assertThat(docs.getUpdated()).isZero();
+        assertThat(docs.getDetails()).isEmpty();
+    }
+
+    @ParameterizedTest
+    @MethodSource("cols")
+    void insertDocumentsBulk(ArangoCollection collection) {
+        final String existing = UUID.randomUUID().toString();
+        collection.insertDocument(new BaseDocument(existing));
+        final List<BaseDocument> values = IntStream.range(0, 250)
+                .mapToObj(i -> new BaseDocument(i == 100 ? existing : UUID.randomUUID().toString()))
+                .collect(Collectors.toList());
+
+        final MultiDocumentEntity<DocumentCreateEntity<Void>> docs = collection.insertDocuments(values.iterator(),
+                new BulkWriteOptions().batchSize(10).batchBytes(1_000).maxInFlight(4), null);
+        assertThat(docs.getDocuments()).hasSize(249);
+        assertThat(docs.getErrors()).hasSize(1);
+        assertThat(docs.getDocumentsAndErrors()).hasSize(250);
+        assertThat(docs.getDocumentsAndErrors().get(100)).isInstanceOf(ErrorEntity.class);
+        for (int i = 0; i < 250; i++) {
+            if (i != 100) {
+                assertThat(((DocumentCreateEntity<?>) docs.getDocumentsAndErrors().get(i)).getKey())
+                        .isEqualTo(values.get(i).getKey());
+            }
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("cols")
     void importDocumentsJsonList(ArangoCollection collection) {
@@ -26,6 +26,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.IOException;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
@@ -129,4 +130,25 @@ class ArangoCursorTest extends BaseJunit5 {
         assertThat(match).isTrue();
     }
 
+    @ParameterizedTest
+    @MethodSource("dbs")
+    void lazyDeserialization(ArangoDatabase db) {
+        final AtomicLong i = new AtomicLong(0L);
+        final ArangoCursor<JsonNode> cursor = db.query("FOR i IN 0..99 RETURN {value: i}", JsonNode.class,
+                new AqlQueryOptions().batchSize(10).lazyDeserialization(true));
+        cursor.forEach(t -> assertThat(t.get("value").asLong()).isEqualTo(i.getAndIncrement()));
+        assertThat(i.get()).isEqualTo(100L);
+    }
+
+    @ParameterizedTest
+    @MethodSource("dbs")
+    void prefetch(ArangoDatabase db) throws IOException {
+        final AtomicLong i = new AtomicLong(0L);
+        final ArangoCursor<JsonNode> cursor = db.query("FOR i IN 0..99 RETURN i", JsonNode.class,
+                new AqlQueryOptions().batchSize(10).stream(true).allowRetry(true).prefetchBatches(2).prefetchThreshold(0.3));
+        cursor.forEach(t -> assertThat(t.asLong()).isEqualTo(i.getAndIncrement()));
+        assertThat(i.get()).isEqualTo(100L);
+        cursor.close();
+    }
+
 }
@@ -21,6 +21,7 @@
 package com.arangodb;
 
 import com.arangodb.config.ConfigUtils;
+import com.arangodb.config.HostDescription;
 import com.arangodb.entity.*;
 import com.arangodb.internal.ArangoRequestParam;
 import com.arangodb.internal.serde.SerdeUtils;
@@ -44,7 +45,9 @@ import java.time.ZoneId;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -758,6 +761,77 @@ class ArangoDBTest extends BaseJunit5 {
         assertThat(version2).isNotNull();
     }
 
+    @ParameterizedTest
+    @MethodSource("arangos")
+    void connectionSlots(ArangoDB arangoDB) {
+        arangoDB.getVersion();
+        ConnectionSlotMetrics slots = arangoDB.metrics().getConnectionSlots();
+        assertThat(slots.getConnections()).isPositive();
+        assertThat(slots.getSlots()).isGreaterThanOrEqualTo(slots.getConnections());
+        assertThat(slots.getSlotsInUse()).isNotNegative().isLessThanOrEqualTo(slots.getSlots());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Protocol.class)
+    void concurrencyLimits(Protocol protocol) {
+        final ArangoDB arangoDB = new ArangoDB.Builder()
+                .loadProperties(config)
+                .protocol(protocol)
+                .acquireHostList(false)
+                .targetQueueTime(1.0)
+                .build();
+        try {
+            arangoDB.getVersion();
+            ConcurrencyLimitMetrics limits = arangoDB.metrics().getConcurrencyLimits();
+            assertThat(limits.getLimits()).isNotEmpty().allSatisfy((host, limit) -> assertThat(limit).isPositive());
+            assertThat(limits.getInFlight()).isZero();
+            assertThat(limits.getQueued()).isZero();
+        } finally {
+            arangoDB.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Protocol.class)
+    void metricsCollector(Protocol protocol) {
+        AtomicInteger started = new AtomicInteger();
+        List<String> completed = new CopyOnWriteArrayList<>();
+        AtomicInteger acquired = new AtomicInteger();
+        final ArangoDB arangoDB = new ArangoDB.Builder()
+                .loadProperties(config)
+                .protocol(protocol)
+                .acquireHostList(false)
+                .metricsCollector(new MetricsCollector() {
+                    @Override
+                    public void requestStarted(HostDescription host) {
+                        started.incrementAndGet();
+                    }
+
+                    @Override
+                    public void requestCompleted(HostDescription host, String method, String endpoint, int status,
+                                                 long durationNanos, long requestBytes, long responseBytes) {
+                        assertThat(durationNanos).isPositive();
+                        assertThat(responseBytes).isPositive();
+                        completed.add(method + " " + endpoint + " " + status);
+                    }
+
+                    @Override
+                    public void connectionAcquired(HostDescription host, long waitNanos) {
+                        assertThat(waitNanos).isNotNegative();
+                        acquired.incrementAndGet();
+                    }
+                })
+                .build();
+        try {
+            arangoDB.getVersion();
+        } finally {
+            arangoDB.shutdown();
+        }
+        assertThat(completed).contains("GET /_api/version 200");
+        assertThat(started).hasValue(completed.size());
+        assertThat(acquired).hasValue(completed.size());
+    }
+
     @ParameterizedTest
     @MethodSource("arangos")
     @Disabled("Manual execution only")
@@ -33,14 +33,18 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.InstanceOfAssertFactories.*;
 import static org.assertj.core.api.InstanceOfAssertFactories.DOUBLE;
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 
@@ -678,6 +682,127 @@ class ArangoDatabaseAsyncTest extends BaseJunit5 {
         assertThat(c2.hasMore()).isFalse();
     }
 
+    @ParameterizedTest
+    @MethodSource("asyncDbs")
+    void queryWithPrefetch(ArangoDatabaseAsync db) throws ExecutionException, InterruptedException {
+        ArangoCursorAsync<Integer> cursor = db
+                .query("for i in 1..20 return i", Integer.class, new AqlQueryOptions()
+                        .batchSize(5)
+                        .prefetchBatches(2)
+                        .stream(true)
+                        .allowRetry(true)).get();
+        List<Integer> result = new ArrayList<>(cursor.getResult());
+        while (cursor.hasMore()) {
+            cursor = cursor.nextBatch().get();
+            result.addAll(cursor.getResult());
+        }
+        cursor.close().get();
+        assertThat(result).hasSize(20).startsWith(1, 2, 3).endsWith(20);
+    }
+
+    @ParameterizedTest
+    @MethodSource("asyncDbs")
+    void queryPublisher(ArangoDatabaseAsync db) throws ExecutionException, InterruptedException {
+        ArangoPublisher<Integer> publisher = db.queryPublisher("for i in 1..20 return i", Integer.class,
+                new AqlQueryOptions().batchSize(5));
+        CompletableFuture<List<Integer>> result = new CompletableFuture<>();
+        publisher.subscribe(new ArangoPublisher.Subscriber<Integer>() {
+            private final List<Integer> items = new ArrayList<>();
+            private ArangoPublisher.Subscription subscription;
+
+            @Override
+            public void onSubscribe(ArangoPublisher.Subscription s) {
+                subscription = s;
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                items.add(item);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                result.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(items);
+            }
+        });
+        assertThat(result.get()).hasSize(20).startsWith(1, 2, 3).endsWith(20);
+    }
+
+    @ParameterizedTest
+    @MethodSource("asyncDbs")
+    void queryPublisherBackpressure(ArangoDatabaseAsync db) throws Exception {
+        ArangoPublisher<Integer> publisher = db.queryPublisher("for i in 1..20 return i", Integer.class,
+                new AqlQueryOptions().batchSize(5));
+        List<Integer> items = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        ArangoPublisher.Subscription subscription = subscribe(publisher, items, done).get();
+
+        subscription.request(3);
+        await().atMost(Duration.ofSeconds(5)).until(() -> items.size() == 3);
+        // the next request spans the second batch
+        subscription.request(4);
+        await().atMost(Duration.ofSeconds(5)).until(() -> items.size() == 7);
+        await().during(Duration.ofMillis(200)).atMost(Duration.ofSeconds(1)).until(() -> items.size() == 7);
+        assertThat(items).containsExactly(1, 2, 3, 4, 5, 6, 7);
+        assertThat(done).isNotDone();
+
+        subscription.request(Long.MAX_VALUE);
+        done.get(5, TimeUnit.SECONDS);
+        assertThat(items).hasSize(20).startsWith(1, 2, 3).endsWith(20);
+    }
+
+    @ParameterizedTest
+    @MethodSource("asyncDbs")
+    void queryPublisherCancel(ArangoDatabaseAsync db) throws ExecutionException, InterruptedException {
+        ArangoPublisher<Integer> publisher = db.queryPublisher("for i in 1..20 return i", Integer.class,
+                new AqlQueryOptions().batchSize(5));
+        List<Integer> items = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        ArangoPublisher.Subscription subscription = subscribe(publisher, items, done).get();
+
+        subscription.request(3);
+        await().atMost(Duration.ofSeconds(5)).until(() -> items.size() == 3);
+        subscription.cancel();
+        subscription.request(10);
+        await().during(Duration.ofMillis(200)).atMost(Duration.ofSeconds(1)).until(() -> items.size() == 3);
+        assertThat(items).containsExactly(1, 2, 3);
+        assertThat(done).isNotDone();
+    }
+
+    private static <T> CompletableFuture<ArangoPublisher.Subscription> subscribe(
+            ArangoPublisher<T> publisher, List<T> items, CompletableFuture<Void> done) {
+        CompletableFuture<ArangoPublisher.Subscription> subscription = new CompletableFuture<>();
+        publisher.subscribe(new ArangoPublisher.Subscriber<T>() {
+            @Override
+            public void onSubscribe(ArangoPublisher.Subscription s) {
+                subscription.complete(s);
+            }
+
+            @Override
+            public void onNext(T item) {
+                items.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                done.complete(null);
+            }
+        });
+        return subscription;
+    }
+
     @SlowTest
     @ParameterizedTest
     @MethodSource("asyncDbs")
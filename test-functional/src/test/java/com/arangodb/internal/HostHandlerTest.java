@@ -171,4 +171,95 @@ class HostHandlerTest {
         assertThat(pick4).isEqualTo(pick0);
     }
 
+    @Test
+    void leastLoadedHostHandlerSingleHost() {
+        final HostHandler handler = new LeastLoadedHostHandler(SINGLE_HOST);
+        assertThat(handler.get(null, null)).isEqualTo(HOST_0);
+        handler.requestStarted(HOST_0);
+        assertThat(handler.get(null, null)).isEqualTo(HOST_0);
+        handler.fail(new RuntimeException());
+        assertThat(handler.get(null, null)).isEqualTo(HOST_0);
+    }
+
+    @Test
+    void leastLoadedHostHandlerMultipleHosts() {
+        final HostHandler handler = new LeastLoadedHostHandler(MULTIPLE_HOSTS);
+        for (int i = 0; i < 10; i++) {
+            handler.requestStarted(HOST_0);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertThat(handler.get(null, null)).isIn(HOST_1, HOST_2);
+        }
+
+        handler.requestStarted(HOST_1);
+        handler.requestCompleted(HOST_1, 1_000_000L, true);
+        for (int i = 0; i < 100; i++) {
+            assertThat(handler.get(null, null)).isNotEqualTo(HOST_1);
+        }
+    }
+
+    @Test
+    void leastLoadedHostHandlerHostHandle() {
+        final HostHandler handler = new LeastLoadedHostHandler(MULTIPLE_HOSTS);
+        final HostHandle hostHandle = new HostHandle();
+        final Host pick0 = handler.get(hostHandle, null);
+        assertThat(hostHandle.getHost()).isEqualTo(pick0.getDescription());
+        for (int i = 0; i < 10; i++) {
+            handler.requestStarted(pick0);
+        }
+        assertThat(handler.get(hostHandle, null)).isEqualTo(pick0);
+    }
+
+    @Test
+    void leastLoadedHostHandlerFailures() {
+        final HostHandler handler = new LeastLoadedHostHandler(MULTIPLE_HOSTS);
+        for (int i = 0; i < 4; i++) {
+            handler.get(null, null);
+            handler.fail(new RuntimeException("failed " + i));
+        }
+        try {
+            handler.get(null, null);
+            fail();
+        } catch (ArangoDBException e) {
+            assertThat(e.getCause()).isInstanceOf(ArangoDBMultipleException.class);
+            assertThat(((ArangoDBMultipleException) e.getCause()).getExceptions()).hasSize(4);
+        }
+        assertThat(handler.get(null, null)).isIn(HOST_0, HOST_1, HOST_2);
+    }
+
+    @Test
+    void roundRobinHostSelectionsAreIndependent() {
+        final HostHandler handler = new RoundRobinHostHandler(MULTIPLE_HOSTS);
+        final HostSelection failing = handler.select(AccessType.WRITE);
+        final HostSelection succeeding = handler.select(AccessType.WRITE);
+        for (int i = 0; i < 4; i++) {
+            failing.get(null);
+            failing.fail(new RuntimeException("failed " + i));
+            succeeding.get(null);
+            succeeding.success();
+        }
+        assertThat(succeeding.get(null)).isIn(HOST_0, HOST_1, HOST_2);
+        try {
+            failing.get(null);
+            fail();
+        } catch (ArangoDBException e) {
+            assertThat(e.getCause()).isInstanceOf(ArangoDBMultipleException.class);
+            assertThat(((ArangoDBMultipleException) e.getCause()).getExceptions()).hasSize(4);
+        }
+    }
+
+    @Test
+    void fallbackHostSelectionsFailOverOnce() {
+        final HostHandler handler = new FallbackHostHandler(MULTIPLE_HOSTS);
+        final HostSelection s0 = handler.select(AccessType.WRITE);
+        final HostSelection s1 = handler.select(AccessType.WRITE);
+        assertThat(s0.get(null)).isEqualTo(HOST_0);
+        assertThat(s1.get(null)).isEqualTo(HOST_0);
+        s0.fail(new RuntimeException());
+        s1.fail(new RuntimeException());
+        assertThat(s0.get(null)).isEqualTo(HOST_1);
+        assertThat(s1.get(null)).isEqualTo(HOST_1);
+        assertThat(handler.select(AccessType.WRITE).get(null)).isEqualTo(HOST_1);
+    }
+
 }
@@ -36,6 +36,61 @@ class QueueTimeMetricsImplTest {
         testQueue((int) (QSIZE * 3000.4));
     }
 
+    @Test
+    void percentiles() {
+        q.clear();
+        for (int i = 1; i <= 1000; i++) {
+            q.add(i / 1000.0);
+        }
+        assertThat(q.getPercentile(0.5)).isCloseTo(0.5, within(0.5 * 0.125));
+        assertThat(q.getPercentile(0.99)).isCloseTo(0.99, within(0.99 * 0.125));
+        assertThat(q.getPercentile(1.0)).isCloseTo(1.0, within(0.125));
+    }
+
+    @Test
+    void decayedAvg() {
+        q.clear();
+        assertThat(q.getDecayedAvg()).isEqualTo(0.0);
+        assertThat(q.getThrottle(1.0)).isEqualTo(1.0);
+        for (int i = 0; i < 100; i++) {
+            q.add(i % 2 == 0 ? 1.0 : 3.0);
+        }
+        assertThat(q.getDecayedAvg()).isCloseTo(2.0, within(0.01));
+        assertThat(q.getThrottle(4.0)).isEqualTo(1.0);
+        assertThat(q.getThrottle(1.0)).isCloseTo(0.5, within(0.01));
+    }
+
+    @Test
+    void parseSeconds() {
+        for (String s : new String[]{"0", "0.000123", "1.5", "12", "3.", "0.1234567890123456789", "1e-3"}) {
+            assertThat(QueueTimeMetricsImpl.parseSeconds(s)).isEqualTo(Double.parseDouble(s));
+        }
+        for (int i = 0; i < 10_000; i++) {
+            String s = String.valueOf(rnd.nextInt(10_000_000) / 1e6);
+            assertThat(QueueTimeMetricsImpl.parseSeconds(s)).isEqualTo(Double.parseDouble(s));
+        }
+    }
+
+    @Test
+    void concurrentAdd() throws InterruptedException {
+        QueueTimeMetricsImpl metrics = new QueueTimeMetricsImpl(10);
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    metrics.add(0.001);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        assertThat(metrics.getValues()).isNotEmpty().allSatisfy(it -> assertThat(it.value).isEqualTo(0.001));
+        assertThat(metrics.getAvg()).isCloseTo(0.001, within(1.0E-12));
+        assertThat(metrics.getDecayedAvg()).isCloseTo(0.001, within(1.0E-12));
+    }
+
     private void testQueue(int size) {
         q.clear();
         for (int i = 0; i < size; i++) {
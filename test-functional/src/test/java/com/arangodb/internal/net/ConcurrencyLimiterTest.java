@@ -0,0 +1,112 @@
+package com.arangodb.internal.net;
+
+import com.arangodb.ArangoDBException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class ConcurrencyLimiterTest {
+
+    @Test
+    void queueExcessRequests() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(0.1, 2);
+        CompletableFuture<Void> a = limiter.acquire();
+        CompletableFuture<Void> b = limiter.acquire();
+        CompletableFuture<Void> c = limiter.acquire();
+        assertThat(a).isDone();
+        assertThat(b).isDone();
+        assertThat(c).isNotDone();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.getQueued()).isEqualTo(1);
+
+        limiter.release(1_000, 0.0, false);
+        assertThat(c).isDone();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.getQueued()).isZero();
+    }
+
+    @Test
+    void failQueuedRequestsAfterTimeout() throws Exception {
+        ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+        try {
+            ConcurrencyLimiter limiter = new ConcurrencyLimiter(0.1, 1);
+            CompletableFuture<Void> a = limiter.acquire(timer, 100);
+            CompletableFuture<Void> b = limiter.acquire(timer, 100);
+            CompletableFuture<Void> c = limiter.acquire(timer, 10_000);
+            assertThat(a).isDone();
+
+            Throwable thrown = catchThrowable(() -> b.get(1, TimeUnit.SECONDS));
+            assertThat(thrown).isInstanceOf(ExecutionException.class);
+            assertThat(thrown.getCause())
+                    .isInstanceOf(ArangoDBException.class)
+                    .hasCauseInstanceOf(TimeoutException.class);
+            assertThat(c).isNotDone();
+            assertThat(limiter.getQueued()).isEqualTo(1);
+
+            limiter.release(0, 0.0, false);
+            assertThat(c).isDone();
+            assertThat(limiter.getInFlight()).isEqualTo(1);
+            assertThat(limiter.getQueued()).isZero();
+        } finally {
+            timer.shutdown();
+        }
+    }
+
+    @Test
+    void decreaseOnOverload() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(0.1, 100);
+        assertThat(limiter.getLimit()).isEqualTo(100);
+
+        limiter.acquire();
+        limiter.release(0, 0.5, false);
+        assertThat(limiter.getLimit()).isEqualTo(80);
+
+        limiter.acquire();
+        limiter.release(0, 0.0, true);
+        assertThat(limiter.getLimit()).isEqualTo(64);
+    }
+
+    @Test
+    void decreaseOncePerRoundTrip() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(0.1, 100);
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire();
+            limiter.release(Long.MAX_VALUE, 0.5, false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(100);
+    }
+
+    @Test
+    void increaseWhenUsed() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(0.1, 10);
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire();
+            limiter.release(0, 1.0, false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(1);
+
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        for (int round = 0; round < 100; round++) {
+            for (int i = 0; i < limiter.getLimit(); i++) {
+                pending.add(limiter.acquire());
+            }
+            for (CompletableFuture<Void> f : pending) {
+                assertThat(f).isDone();
+                limiter.release(0, 0.0, false);
+            }
+            pending.clear();
+        }
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.arangodb.http;
+
+import com.arangodb.config.HostDescription;
+import com.arangodb.internal.config.ArangoConfig;
+import com.arangodb.internal.net.Connection;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class HttpConnectionFactoryTest {
+
+    private static long eventLoopThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(t -> t.getName().startsWith("adb-http-"))
+                .count();
+    }
+
+    @Test
+    void sharedVertx() throws Exception {
+        long before = eventLoopThreads();
+        HttpConnectionFactory factory = new HttpConnectionFactory(null);
+        ArangoConfig config = new ArangoConfig();
+        List<Connection> connections = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            connections.add(factory.create(config, new HostDescription("127.0.0.1", 1), null));
+        }
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(eventLoopThreads() - before).isEqualTo(Runtime.getRuntime().availableProcessors()));
+
+        for (Connection c : connections) {
+            c.close();
+        }
+        factory.close();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(eventLoopThreads()).isEqualTo(before));
+    }
+
+    @Test
+    void sharedVertxSurvivesIdleConnections() throws Exception {
+        long before = eventLoopThreads();
+        HttpConnectionFactory factory = new HttpConnectionFactory(null);
+        ArangoConfig config = new ArangoConfig();
+        Connection connection = factory.create(config, new HostDescription("127.0.0.1", 1), null);
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(eventLoopThreads() - before).isEqualTo(Runtime.getRuntime().availableProcessors()));
+        Set<Thread> eventLoops = Thread.getAllStackTraces().keySet().stream()
+                .filter(t -> t.getName().startsWith("adb-http-"))
+                .collect(Collectors.toSet());
+
+        // e.g. evicted when idle, and closed again on shutdown
+        connection.close();
+        connection.close();
+        factory.create(config, new HostDescription("127.0.0.1", 1), null).close();
+        assertThat(eventLoops).allMatch(Thread::isAlive);
+
+        factory.close();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(eventLoopThreads()).isEqualTo(before));
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.arangodb.http;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.codec.spi.BodyStream;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseBodyCodecTest {
+
+    private static BodyStream<byte[]> stream() {
+        AtomicReference<BodyStream<byte[]>> ref = new AtomicReference<>();
+        ResponseBodyCodec.INSTANCE.create(ar -> ref.set(ar.result()));
+        return ref.get();
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void singleChunkIsNotCopied() {
+        ByteBuf bb = Unpooled.buffer(3).writeBytes(new byte[]{1, 2, 3});
+        BodyStream<byte[]> s = stream();
+        s.write(Buffer.buffer(bb));
+        s.end();
+        assertThat(s.result().result()).isSameAs(bb.array());
+    }
+
+    @Test
+    void chunksAreCopiedOnce() {
+        BodyStream<byte[]> s = stream();
+        s.write(Buffer.buffer("ab"));
+        s.write(Buffer.buffer("cde"));
+        s.end();
+        assertThat(new String(s.result().result(), StandardCharsets.UTF_8)).isEqualTo("abcde");
+    }
+
+    @Test
+    void oversizedChunkIsTrimmed() {
+        BodyStream<byte[]> s = stream();
+        s.write(Buffer.buffer(64).appendString("xyz"));
+        s.end();
+        assertThat(s.result().result()).hasSize(3);
+    }
+
+    @Test
+    void emptyBody() {
+        BodyStream<byte[]> s = stream();
+        s.end();
+        assertThat(s.result().result()).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void pooledChunkIsNotRetained() {
+        ByteBuf direct = PooledByteBufAllocator.DEFAULT.directBuffer(4).writeBytes(new byte[]{1, 2, 3, 4});
+        BodyStream<byte[]> s = stream();
+        s.write(Buffer.buffer(direct));
+        s.end();
+        assertThat(s.result().result()).containsExactly(1, 2, 3, 4);
+        assertThat(direct.refCnt()).isEqualTo(1);
+        assertThat(direct.release()).isTrue();
+    }
+
+    @Test
+    void failure() {
+        BodyStream<byte[]> s = stream();
+        s.write(Buffer.buffer("ab"));
+        s.handle(new RuntimeException("boom"));
+        s.end();
+        assertThat(s.result().failed()).isTrue();
+        assertThat(s.result().cause()).hasMessage("boom");
+    }
+
+}
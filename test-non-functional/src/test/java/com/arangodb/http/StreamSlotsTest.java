@@ -0,0 +1,45 @@
+package com.arangodb.http;
+
+import org.junit.jupiter.api.Test;
+
+import static com.arangodb.internal.net.ConnectionPoolImpl.HTTP2_MAX_SLOTS;
+import static com.arangodb.internal.net.ConnectionPoolImpl.HTTP2_SLOTS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamSlotsTest {
+
+    private static final int WINDOW = 32 * 1024 * 1024;
+
+    @Test
+    void remoteSettings() {
+        StreamSlots slots = new StreamSlots(WINDOW);
+        assertThat(slots.get()).isEqualTo(HTTP2_SLOTS);
+        assertThat(slots.onRemoteSettings(100)).isEqualTo(100);
+        assertThat(slots.onRemoteSettings(100)).isZero();
+        assertThat(slots.onRemoteSettings(0xFFFFFFFFL)).isEqualTo(HTTP2_MAX_SLOTS);
+        assertThat(slots.onRemoteSettings(0)).isEqualTo(1);
+    }
+
+    @Test
+    void growsUpToServerLimit() {
+        StreamSlots slots = new StreamSlots(WINDOW);
+        assertThat(slots.onResponse(100)).isZero();
+        slots.onRemoteSettings(64);
+        slots.onResponse(8 * 1024 * 1024);
+        for (int i = 0; i < 100; i++) {
+            slots.onResponse(100);
+        }
+        assertThat(slots.get()).isEqualTo(64);
+    }
+
+    @Test
+    void shrinksOnLargeResponses() {
+        StreamSlots slots = new StreamSlots(WINDOW);
+        assertThat(slots.onResponse(4 * 1024 * 1024)).isEqualTo(8);
+        assertThat(slots.onResponse(4 * 1024 * 1024)).isZero();
+        assertThat(slots.onResponse(64 * 1024 * 1024)).isEqualTo(1);
+        assertThat(slots.onResponse(64 * 1024 * 1024)).isZero();
+        assertThat(slots.onResponse(1024)).isEqualTo(2);
+    }
+
+}
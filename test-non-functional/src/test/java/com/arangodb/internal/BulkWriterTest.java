@@ -0,0 +1,96 @@
+package com.arangodb.internal;
+
+import com.arangodb.ContentType;
+import com.arangodb.internal.serde.InternalSerde;
+import com.arangodb.internal.serde.InternalSerdeProvider;
+import com.arangodb.model.BulkWriteOptions;
+import com.arangodb.serde.jackson.JacksonSerde;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class BulkWriterTest {
+
+    private static final InternalSerde SERDE = new InternalSerdeProvider(ContentType.JSON)
+            .create(JacksonSerde.of(ContentType.JSON), null);
+
+    private ExecutorService io;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setup() {
+        io = Executors.newSingleThreadExecutor(r -> new Thread(r, "io"));
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        io.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void iteratorNotAccessedOnIoThread() throws Exception {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        Iterator<Integer> delegate = IntStream.range(0, 1_000).boxed().iterator();
+        Iterator<Integer> values = new Iterator<Integer>() {
+            @Override
+            public boolean hasNext() {
+                threads.add(Thread.currentThread().getName());
+                return delegate.hasNext();
+            }
+
+            @Override
+            public Integer next() {
+                threads.add(Thread.currentThread().getName());
+                return delegate.next();
+            }
+        };
+
+        List<Integer> result = new BulkWriter<List<Integer>>(SERDE, values,
+                new BulkWriteOptions().batchSize(10).maxInFlight(3), executor,
+                (idx, batch) -> CompletableFuture.supplyAsync(() -> Collections.singletonList(idx), io),
+                List::addAll,
+                new ArrayList<>()
+        ).execute().get(10, TimeUnit.SECONDS);
+
+        assertThat(result).isEqualTo(IntStream.range(0, 100).boxed().collect(Collectors.toList()));
+        assertThat(threads).isNotEmpty().doesNotContain("io");
+    }
+
+    @Test
+    void failedBatch() {
+        Iterator<Integer> values = IntStream.range(0, 100).boxed().iterator();
+        CompletableFuture<List<Integer>> f = new BulkWriter<List<Integer>>(SERDE, values,
+                new BulkWriteOptions().batchSize(10), executor,
+                (idx, batch) -> CompletableFuture.supplyAsync(() -> {
+                    if (idx == 3) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return Collections.singletonList(idx);
+                }, io),
+                List::addAll,
+                new ArrayList<>()
+        ).execute();
+
+        Throwable thrown = catchThrowable(() -> f.get(10, TimeUnit.SECONDS));
+        assertThat(thrown).hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+}
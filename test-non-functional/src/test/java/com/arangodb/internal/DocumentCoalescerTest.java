@@ -0,0 +1,75 @@
+package com.arangodb.internal;
+
+import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.model.DocumentCoalescingOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DocumentCoalescerTest {
+
+    private final List<String> senders = new CopyOnWriteArrayList<>();
+    private final List<List<Object>> batches = new CopyOnWriteArrayList<>();
+    private final Function<List<Object>, CompletableFuture<? extends MultiDocumentEntity<?>>> sender = values -> {
+        senders.add(Thread.currentThread().getName());
+        batches.add(new ArrayList<>(values));
+        MultiDocumentEntity<Object> entity = new MultiDocumentEntity<>();
+        entity.setDocumentsAndErrors(new ArrayList<>(values));
+        return CompletableFuture.completedFuture(entity);
+    };
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setup() {
+        executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "executor"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void fullBatchSentByCaller() throws Exception {
+        DocumentCoalescer coalescer = new DocumentCoalescer(
+                new DocumentCoalescingOptions().maxBatchSize(3).maxDelayMicros(TimeUnit.SECONDS.toMicros(10)),
+                false, executor);
+        List<CompletableFuture<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(coalescer.add("g", i, sender));
+        }
+        assertThat(batches).containsExactly(Arrays.<Object>asList(0, 1, 2));
+        assertThat(senders).containsExactly(Thread.currentThread().getName());
+        for (int i = 0; i < 3; i++) {
+            assertThat(futures.get(i).get()).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void timedOutBatchSentByExecutor() throws Exception {
+        DocumentCoalescer coalescer = new DocumentCoalescer(
+                new DocumentCoalescingOptions().maxBatchSize(10).maxDelayMicros(1_000), false, executor);
+        CompletableFuture<Object> a = coalescer.add("a", 1, sender);
+        CompletableFuture<Object> b = coalescer.add("b", 2, sender);
+        CompletableFuture<Object> c = coalescer.add("a", 3, sender);
+        assertThat(a.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(b.get(10, TimeUnit.SECONDS)).isEqualTo(2);
+        assertThat(c.get(10, TimeUnit.SECONDS)).isEqualTo(3);
+        assertThat(batches).containsExactlyInAnyOrder(Arrays.<Object>asList(1, 3), Arrays.<Object>asList(2));
+        assertThat(senders).containsOnly("executor");
+    }
+
+}
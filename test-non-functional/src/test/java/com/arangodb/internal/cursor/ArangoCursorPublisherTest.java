@@ -0,0 +1,215 @@
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoCursorAsync;
+import com.arangodb.ArangoPublisher;
+import com.arangodb.entity.CursorEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArangoCursorPublisherTest {
+
+    private static final int BATCH_SIZE = 5;
+    private static final int SIZE = 20;
+
+    private final AtomicInteger fetched = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    // whether the results of the batches following the first one cannot be read
+    private boolean failing;
+
+    private ArangoCursorPublisher<Integer> publisher() {
+        return new ArangoCursorPublisher<>(() -> CompletableFuture.completedFuture(new Cursor(0)));
+    }
+
+    @Test
+    void backpressure() {
+        TestSubscriber subscriber = new TestSubscriber(null);
+        publisher().subscribe(subscriber);
+        assertThat(subscriber.items).isEmpty();
+        assertThat(fetched.get()).isZero();
+
+        subscriber.subscription.request(3);
+        assertThat(subscriber.items).containsExactly(1, 2, 3);
+        assertThat(fetched.get()).isEqualTo(1);
+
+        // spans the next batch, which is fetched only now
+        subscriber.subscription.request(4);
+        assertThat(subscriber.items).containsExactly(1, 2, 3, 4, 5, 6, 7);
+        assertThat(fetched.get()).isEqualTo(2);
+
+        subscriber.subscription.request(3);
+        assertThat(subscriber.items).hasSize(10);
+        assertThat(fetched.get()).isEqualTo(2);
+        assertThat(subscriber.completed).isFalse();
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertThat(subscriber.items).isEqualTo(IntStream.rangeClosed(1, SIZE).boxed().collect(Collectors.toList()));
+        assertThat(subscriber.completed).isTrue();
+        assertThat(subscriber.error).isNull();
+        assertThat(closed.get()).isTrue();
+    }
+
+    @Test
+    void cancel() {
+        TestSubscriber subscriber = new TestSubscriber(null);
+        publisher().subscribe(subscriber);
+        subscriber.subscription.request(3);
+        subscriber.subscription.cancel();
+        assertThat(closed.get()).isTrue();
+
+        subscriber.subscription.request(10);
+        assertThat(subscriber.items).containsExactly(1, 2, 3);
+        assertThat(fetched.get()).isEqualTo(1);
+        assertThat(subscriber.completed).isFalse();
+        assertThat(subscriber.error).isNull();
+    }
+
+    @Test
+    void cancelFromOnNext() {
+        TestSubscriber subscriber = new TestSubscriber(s -> {
+            if (s.items.size() == 2) {
+                s.subscription.cancel();
+            }
+        });
+        publisher().subscribe(subscriber);
+        subscriber.subscription.request(10);
+        assertThat(subscriber.items).containsExactly(1, 2);
+        assertThat(fetched.get()).isEqualTo(1);
+        assertThat(subscriber.completed).isFalse();
+        assertThat(closed.get()).isTrue();
+    }
+
+    @Test
+    void failingBatch() {
+        failing = true;
+        TestSubscriber subscriber = new TestSubscriber(null);
+        publisher().subscribe(subscriber);
+        subscriber.subscription.request(10);
+        assertThat(subscriber.items).containsExactly(1, 2, 3, 4, 5);
+        assertThat(subscriber.error).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+        assertThat(subscriber.completed).isFalse();
+        assertThat(closed.get()).isTrue();
+    }
+
+    @Test
+    void requestNotPositive() {
+        TestSubscriber subscriber = new TestSubscriber(null);
+        publisher().subscribe(subscriber);
+        subscriber.subscription.request(0);
+        assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+        assertThat(subscriber.items).isEmpty();
+        assertThat(fetched.get()).isZero();
+    }
+
+    private static final class TestSubscriber implements ArangoPublisher.Subscriber<Integer> {
+        private final Consumer<TestSubscriber> onNext;
+        private final List<Integer> items = new ArrayList<>();
+        private ArangoPublisher.Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        TestSubscriber(final Consumer<TestSubscriber> onNext) {
+            this.onNext = onNext;
+        }
+
+        @Override
+        public void onSubscribe(final ArangoPublisher.Subscription s) {
+            subscription = s;
+        }
+
+        @Override
+        public void onNext(final Integer item) {
+            items.add(item);
+            if (onNext != null) {
+                onNext.accept(this);
+            }
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    /**
+     * Cursor over the integers from 1 to {@link #SIZE}, in batches of {@link #BATCH_SIZE}, whose batches are returned
+     * synchronously.
+     */
+    private final class Cursor implements ArangoCursorAsync<Integer> {
+        private final int offset;
+
+        Cursor(final int offset) {
+            this.offset = offset;
+            fetched.incrementAndGet();
+        }
+
+        @Override
+        public CompletableFuture<ArangoCursorAsync<Integer>> nextBatch() {
+            return CompletableFuture.completedFuture(new Cursor(offset + BATCH_SIZE));
+        }
+
+        @Override
+        public CompletableFuture<Void> close() {
+            closed.set(true);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public String getId() {
+            return "cursor";
+        }
+
+        @Override
+        public Integer getCount() {
+            return SIZE;
+        }
+
+        @Override
+        public Boolean isCached() {
+            return false;
+        }
+
+        @Override
+        public Boolean hasMore() {
+            return offset + BATCH_SIZE < SIZE;
+        }
+
+        @Override
+        public List<Integer> getResult() {
+            if (failing && offset > 0) {
+                throw new IllegalStateException("boom");
+            }
+            return IntStream.rangeClosed(offset + 1, offset + BATCH_SIZE).boxed().collect(Collectors.toList());
+        }
+
+        @Override
+        public Boolean isPotentialDirtyRead() {
+            return false;
+        }
+
+        @Override
+        public String getNextBatchId() {
+            return null;
+        }
+
+        @Override
+        public CursorEntity.Extras getExtra() {
+            return null;
+        }
+    }
+
+}
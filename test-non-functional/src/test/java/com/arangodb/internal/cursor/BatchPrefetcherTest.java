@@ -0,0 +1,83 @@
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ContentType;
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.internal.serde.InternalSerde;
+import com.arangodb.internal.serde.InternalSerdeProvider;
+import com.arangodb.serde.jackson.JacksonSerde;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class BatchPrefetcherTest {
+
+    private static final InternalSerde SERDE = new InternalSerdeProvider(ContentType.JSON)
+            .create(JacksonSerde.of(ContentType.JSON), null);
+
+    // requests of the batches, completed by the tests
+    private final List<CompletableFuture<CursorEntity<Object>>> requests = new ArrayList<>();
+
+    private static CursorEntity<Object> batch(final String id, final boolean hasMore) {
+        String json = "{\"id\":\"" + id + "\",\"hasMore\":" + hasMore + "}";
+        return SERDE.deserialize(json.getBytes(StandardCharsets.UTF_8), CursorEntity.class);
+    }
+
+    private BatchPrefetcher<Object> prefetcher() {
+        return new BatchPrefetcher<>(e -> {
+            CompletableFuture<CursorEntity<Object>> f = new CompletableFuture<>();
+            requests.add(f);
+            return f;
+        }, 1, batch("0", true));
+    }
+
+    @Test
+    void nextBeforeFollowingBatchRequested() throws Exception {
+        BatchPrefetcher<Object> prefetcher = prefetcher();
+        CompletableFuture<CursorEntity<Object>> first = prefetcher.next();
+        assertThat(requests).hasSize(1);
+
+        // dependents of a future run in reverse order of registration, so this runs before the prefetcher has
+        // requested the following batch
+        AtomicReference<CompletableFuture<CursorEntity<Object>>> second = new AtomicReference<>();
+        first.thenAccept(e -> {
+            assertThat(requests).hasSize(1);
+            second.set(prefetcher.next());
+        });
+        requests.get(0).complete(batch("1", true));
+        assertThat(second.get()).isNotNull().isNotDone();
+        assertThat(requests).hasSize(2);
+
+        requests.get(1).complete(batch("2", false));
+        assertThat(second.get().get(1, TimeUnit.SECONDS).getId()).isEqualTo("2");
+
+        Throwable thrown = catchThrowable(() -> prefetcher.next().get(1, TimeUnit.SECONDS));
+        assertThat(thrown).hasCauseInstanceOf(NoSuchElementException.class);
+        assertThat(requests).hasSize(2);
+    }
+
+    @Test
+    void prefetchAhead() throws Exception {
+        BatchPrefetcher<Object> prefetcher = prefetcher();
+        prefetcher.prefetch();
+        assertThat(requests).hasSize(1);
+        requests.get(0).complete(batch("1", true));
+        // at most one batch is fetched ahead
+        assertThat(requests).hasSize(1);
+
+        assertThat(prefetcher.next().get(1, TimeUnit.SECONDS).getId()).isEqualTo("1");
+        prefetcher.prefetch();
+        assertThat(requests).hasSize(2);
+        requests.get(1).complete(batch("2", false));
+        assertThat(prefetcher.next().get(1, TimeUnit.SECONDS).getId()).isEqualTo("2");
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.arangodb.metrics.micrometer;
+
+import com.arangodb.config.HostDescription;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerMetricsCollectorTest {
+
+    private static final HostDescription HOST = new HostDescription("127.0.0.1", 8529);
+    private static final HostDescription OTHER_HOST = new HostDescription("127.0.0.2", 8529);
+
+    private SimpleMeterRegistry registry;
+    private MicrometerMetricsCollector collector;
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+        collector = new MicrometerMetricsCollector(registry);
+    }
+
+    @Test
+    void requests() {
+        collector.requestStarted(HOST);
+        collector.requestStarted(HOST);
+        assertThat(registry.get("arangodb.client.requests.active").tag("host", "127.0.0.1:8529").gauge().value())
+                .isEqualTo(2.0);
+
+        collector.requestCompleted(HOST, "GET", "/_api/document", 200, 2_000_000, 10, 100);
+        collector.requestCompleted(HOST, "GET", "/_api/document", 200, 4_000_000, 20, 200);
+        assertThat(registry.get("arangodb.client.requests.active").tag("host", "127.0.0.1:8529").gauge().value())
+                .isZero();
+
+        Timer timer = registry.get("arangodb.client.requests")
+                .tags("host", "127.0.0.1:8529", "method", "GET", "endpoint", "/_api/document", "status", "200")
+                .timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(6.0);
+
+        DistributionSummary requestSize = registry.get("arangodb.client.request.size")
+                .tags("host", "127.0.0.1:8529", "endpoint", "/_api/document")
+                .summary();
+        assertThat(requestSize.count()).isEqualTo(2);
+        assertThat(requestSize.totalAmount()).isEqualTo(30.0);
+
+        DistributionSummary responseSize = registry.get("arangodb.client.response.size")
+                .tags("host", "127.0.0.1:8529", "endpoint", "/_api/document")
+                .summary();
+        assertThat(responseSize.totalAmount()).isEqualTo(300.0);
+    }
+
+    @Test
+    void requestsByStatus() {
+        collector.requestStarted(HOST);
+        collector.requestCompleted(HOST, "POST", "/_api/cursor", 0, 1_000_000, 10, 0);
+        collector.requestStarted(HOST);
+        collector.requestCompleted(HOST, "POST", "/_api/cursor", 201, 1_000_000, 10, 50);
+
+        assertThat(registry.get("arangodb.client.requests").tag("status", "0").timer().count()).isEqualTo(1);
+        assertThat(registry.get("arangodb.client.requests").tag("status", "201").timer().count()).isEqualTo(1);
+        assertThat(registry.get("arangodb.client.requests").timers()).hasSize(2);
+    }
+
+    @Test
+    void connectionAcquired() {
+        collector.connectionAcquired(HOST, 3_000_000);
+        Timer timer = registry.get("arangodb.client.connection.acquire").tag("host", "127.0.0.1:8529").timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(3.0);
+    }
+
+    @Test
+    void redirectsAndFailovers() {
+        collector.redirected(HOST, OTHER_HOST);
+        collector.redirected(HOST, OTHER_HOST);
+        collector.failedOver(OTHER_HOST, new RuntimeException());
+
+        assertThat(registry.get("arangodb.client.redirects").tag("host", "127.0.0.1:8529").counter().count())
+                .isEqualTo(2.0);
+        assertThat(registry.get("arangodb.client.failovers").tag("host", "127.0.0.2:8529").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void queueTime() {
+        collector.queueTime(0.5);
+        collector.queueTime(1.5);
+        DistributionSummary summary = registry.get("arangodb.client.queue.time").summary();
+        assertThat(summary.count()).isEqualTo(2);
+        assertThat(summary.totalAmount()).isEqualTo(2.0);
+        assertThat(summary.getId().getBaseUnit()).isEqualTo("seconds");
+    }
+
+}
@@ -0,0 +1,208 @@
+package com.arangodb.vst.internal;
+
+import com.arangodb.Protocol;
+import com.arangodb.config.HostDescription;
+import com.arangodb.internal.InternalRequest;
+import com.arangodb.internal.InternalResponse;
+import com.arangodb.internal.RequestType;
+import com.arangodb.internal.config.ArangoConfig;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class VstConnectionTest {
+
+    private static long eventLoopThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(t -> t.getName().startsWith("adb-vst-") && !t.getName().startsWith("adb-vst-timer-")
+                        && !t.getName().startsWith("adb-vst-connect-"))
+                .count();
+    }
+
+    @Test
+    void sharedEventLoops() throws Exception {
+        long before = eventLoopThreads();
+        try (EchoServer server = new EchoServer()) {
+            ArangoConfig config = new ArangoConfig();
+            config.setProtocol(Protocol.VST);
+            config.setChunkSize(1000);
+            config.setKeepAliveInterval(1);
+            VstEventLoopGroup group = new VstEventLoopGroup(2);
+            HostDescription host = new HostDescription("127.0.0.1", server.port());
+            List<VstConnectionAsync> connections = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                VstConnectionAsync c = new VstConnectionAsync(config, host, null, group);
+                c.open();
+                connections.add(c);
+            }
+            assertThat(eventLoopThreads() - before).isEqualTo(2);
+
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 10_000; i++) {
+                sb.append((char) ('a' + i % 26));
+            }
+            byte[] body = new VPackBuilder().add(sb.toString()).slice().toByteArray();
+            List<CompletableFuture<InternalResponse>> responses = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                for (VstConnectionAsync c : connections) {
+                    responses.add(c.executeAsync(new InternalRequest("_system", RequestType.POST, "/_api/echo")
+                            .setBody(body)));
+                }
+            }
+            for (CompletableFuture<InternalResponse> r : responses) {
+                InternalResponse response = r.get(10, TimeUnit.SECONDS);
+                assertThat(response.getResponseCode()).isEqualTo(200);
+                assertThat(response.getBody()).isEqualTo(body);
+            }
+
+            for (VstConnectionAsync c : connections) {
+                c.close();
+            }
+        }
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(eventLoopThreads()).isEqualTo(before));
+    }
+
+    @Test
+    void initRequest() throws Exception {
+        try (EchoServer server = new EchoServer()) {
+            ArangoConfig config = new ArangoConfig();
+            config.setProtocol(Protocol.VST);
+            VstConnectionAsync c = new VstConnectionAsync(config, new HostDescription("127.0.0.1", server.port()),
+                    null, new VstEventLoopGroup(1));
+            InternalResponse response = c.open(new InternalRequest("_system", RequestType.GET, "/_api/version"));
+            assertThat(response.getResponseCode()).isEqualTo(200);
+            assertThat(c.open(new InternalRequest("_system", RequestType.GET, "/_api/version"))).isNull();
+            c.close();
+            assertThat(c.isOpen()).isFalse();
+        }
+    }
+
+    /**
+         * Echoes the body of every request, in chunks of {@link #CHUNK} bytes.
+         */
+        private static class EchoServer implements Closeable {
+        static final int CHUNK = 7;
+        final ServerSocket server;
+        final List<Socket> sockets = Collections.synchronizedList(new ArrayList<>());
+
+        EchoServer() throws IOException {
+            server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            Thread t = new Thread(() -> {
+                try {
+                    while (true) {
+                        Socket s = server.accept();
+                        sockets.add(s);
+                        Thread h = new Thread(() -> handle(s));
+                        h.setDaemon(true);
+                        h.start();
+                    }
+                } catch (IOException ignored) {
+                }
+            });
+            t.setDaemon(true);
+            t.start();
+        }
+
+        int port() {
+            return server.getLocalPort();
+        }
+
+        private void handle(Socket s) {
+            try {
+                DataInputStream in = new DataInputStream(new BufferedInputStream(s.getInputStream()));
+                OutputStream out = s.getOutputStream();
+                in.readFully(new byte[11]);
+                Map<Long, ByteArrayOutputStream> msgs = new HashMap<>();
+                Map<Long, Long> lengths = new HashMap<>();
+                while (true) {
+                    byte[] h = new byte[16];
+                    in.readFully(h);
+                    ByteBuffer bb = ByteBuffer.wrap(h).order(ByteOrder.LITTLE_ENDIAN);
+                    int len = bb.getInt();
+                    int chunkX = bb.getInt();
+                    long id = bb.getLong();
+                    int headLen = 16;
+                    long msgLen = -1;
+                    if ((chunkX & 1) == 1 && (chunkX >> 1) > 1) {
+                        byte[] l = new byte[8];
+                        in.readFully(l);
+                        msgLen = ByteBuffer.wrap(l).order(ByteOrder.LITTLE_ENDIAN).getLong();
+                        headLen = 24;
+                    }
+                    byte[] content = new byte[len - headLen];
+                    in.readFully(content);
+                    if ((chunkX & 1) == 1) {
+                        msgs.put(id, new ByteArrayOutputStream());
+                        lengths.put(id, msgLen > 0 ? msgLen : content.length);
+                    }
+                    ByteArrayOutputStream m = msgs.get(id);
+                    m.write(content);
+                    if (m.size() == lengths.get(id)) {
+                        msgs.remove(id);
+                        respond(out, id, m.toByteArray());
+                    }
+                }
+            } catch (IOException ignored) {
+            }
+        }
+
+        private void respond(OutputStream out, long id, byte[] request) throws IOException {
+            VPackSlice reqHead = new VPackSlice(request);
+            int headSize = reqHead.getByteSize();
+            byte[] head = new VPackBuilder().add(ValueType.ARRAY).add(1).add(2).add(200)
+                    .add(ValueType.OBJECT).close().close().slice().toByteArray();
+            byte[] msg = new byte[head.length + request.length - headSize];
+            System.arraycopy(head, 0, msg, 0, head.length);
+            System.arraycopy(request, headSize, msg, head.length, request.length - headSize);
+            int n = (msg.length + CHUNK - 1) / CHUNK;
+            ByteArrayOutputStream buf = new ByteArrayOutputStream();
+            for (int i = 0; i < n; i++) {
+                int off = i * CHUNK;
+                int len = Math.min(CHUNK, msg.length - off);
+                boolean withLength = i == 0 && n > 1;
+                int headLen = withLength ? 24 : 16;
+                ByteBuffer bb = ByteBuffer.allocate(headLen).order(ByteOrder.LITTLE_ENDIAN);
+                bb.putInt(len + headLen);
+                bb.putInt(n == 1 ? 3 : i == 0 ? (n << 1) + 1 : i << 1);
+                bb.putLong(id);
+                if (withLength) {
+                    bb.putLong(msg.length);
+                }
+                buf.write(bb.array());
+                buf.write(msg, off, len);
+            }
+            synchronized (out) {
+                out.write(buf.toByteArray());
+                out.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            server.close();
+            synchronized (sockets) {
+                for (Socket s : sockets) {
+                    s.close();
+                }
+
+            }
+        }
+    }
+
+}
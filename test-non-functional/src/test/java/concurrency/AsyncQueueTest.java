@@ -0,0 +1,84 @@
+package concurrency;
+
+import com.arangodb.internal.util.AsyncQueue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncQueueTest {
+
+    @Test
+    void fifo() {
+        AsyncQueue<String> q = new AsyncQueue<>();
+        List<CompletableFuture<String>> requests = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            requests.add(q.poll());
+        }
+        assertThat(requests).noneMatch(CompletableFuture::isDone);
+
+        q.offer("a");
+        q.offer("b");
+        q.offer("c");
+        q.offer("d");
+        assertThat(requests).extracting(CompletableFuture::join).containsExactly("a", "b", "c");
+        assertThat(q.poll()).isCompletedWithValue("d");
+        assertThat(q.poll()).isNotDone();
+    }
+
+    @Test
+    void remove() {
+        AsyncQueue<String> q = new AsyncQueue<>();
+        q.offer("a");
+        q.offer("b");
+        q.offer("a");
+        assertThat(q.remove("a")).isTrue();
+        assertThat(q.remove("c")).isFalse();
+        assertThat(q.available()).isEqualTo(2);
+        assertThat(Arrays.asList(q.poll().join(), q.poll().join())).containsExactlyInAnyOrder("a", "b");
+
+        CompletableFuture<String> request = q.poll();
+        assertThat(q.remove("a")).isFalse();
+        assertThat(q.waiting()).isEqualTo(1);
+        q.offer("a");
+        assertThat(request).isCompletedWithValue("a");
+    }
+
+    @Test
+    @Timeout(30)
+    void contention() throws InterruptedException, ExecutionException {
+        int slots = 4;
+        AsyncQueue<Integer> q = new AsyncQueue<>();
+        for (int i = 0; i < slots; i++) {
+            q.offer(i);
+        }
+
+        ExecutorService es = Executors.newFixedThreadPool(32);
+        List<Future<Object>> futures = es.invokeAll(Collections.nCopies(32, () -> {
+            for (int i = 0; i < 10_000; i++) {
+                q.offer(q.poll().get());
+            }
+            return null;
+        }));
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        es.shutdown();
+
+        List<Integer> remaining = new ArrayList<>();
+        for (int i = 0; i < slots; i++) {
+            CompletableFuture<Integer> f = q.poll();
+            assertThat(f).isDone();
+            remaining.add(f.join());
+        }
+        assertThat(remaining).containsExactlyInAnyOrder(0, 1, 2, 3);
+        assertThat(q.poll()).isNotDone();
+    }
+
+}
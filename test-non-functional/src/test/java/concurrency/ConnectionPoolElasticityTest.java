@@ -0,0 +1,133 @@
+package concurrency;
+
+import com.arangodb.Protocol;
+import com.arangodb.config.HostDescription;
+import com.arangodb.internal.InternalRequest;
+import com.arangodb.internal.InternalResponse;
+import com.arangodb.internal.config.ArangoConfig;
+import com.arangodb.internal.net.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class ConnectionPoolElasticityTest {
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger warmedUp = new AtomicInteger();
+    private final AtomicInteger closed = new AtomicInteger();
+
+    private final ConnectionFactory cf = (config, host, pool) -> {
+        created.incrementAndGet();
+        return new Connection() {
+            @Override
+            public void setJwt(String jwt) {
+            }
+
+            @Override
+            public CompletableFuture<InternalResponse> executeAsync(InternalRequest request) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void release() {
+            }
+
+            @Override
+            public CompletableFuture<Void> warmUp() {
+                warmedUp.incrementAndGet();
+                return CompletableFuture.completedFuture(null);
+            }
+
+            @Override
+            public void close() {
+                closed.incrementAndGet();
+            }
+        };
+    };
+
+    private ConnectionPoolImpl pool(int minConnections, int maxConnections, long ttl) {
+        ArangoConfig cfg = new ArangoConfig();
+        cfg.setProtocol(Protocol.HTTP_JSON);
+        cfg.setMinConnections(minConnections);
+        cfg.setMaxConnections(maxConnections);
+        cfg.setConnectionTtl(ttl);
+        return new ConnectionPoolImpl(HostDescription.parse("127.0.0.1:8529"), cfg, cf);
+    }
+
+    @Test
+    void warmUpMinConnections() throws IOException {
+        ConnectionPoolImpl cp = pool(3, 10, 0);
+        await().atMost(Duration.ofSeconds(1)).until(() -> warmedUp.get() == 3);
+        assertThat(created.get()).isEqualTo(3);
+        cp.close();
+    }
+
+    @Test
+    void growOnDemand() throws Exception {
+        ConnectionPoolImpl cp = pool(0, 3, 0);
+        assertThat(created.get()).isZero();
+
+        List<Connection> connections = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            connections.add(cp.connection().get(1, TimeUnit.SECONDS));
+        }
+        assertThat(created.get()).isEqualTo(3);
+        assertThat(warmedUp.get()).isZero();
+
+        CompletableFuture<Connection> waiting = cp.connection();
+        Thread.sleep(100);
+        assertThat(waiting).isNotDone();
+        assertThat(created.get()).isEqualTo(3);
+
+        cp.release(connections.get(0));
+        assertThat(waiting.get(1, TimeUnit.SECONDS)).isSameAs(connections.get(0));
+        cp.close();
+    }
+
+    @Test
+    void closeReleasesSharedSchedulerOnce() throws Exception {
+        ConnectionPoolImpl closing = pool(0, 3, 0);
+        ConnectionPoolImpl cp = pool(1, 2, 200);
+        closing.close();
+        closing.close();
+
+        List<Connection> connections = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            connections.add(cp.connection().get(1, TimeUnit.SECONDS));
+        }
+        for (Connection c : connections) {
+            cp.release(c);
+        }
+        await().atMost(Duration.ofSeconds(2)).until(() -> closed.get() == 1);
+        cp.close();
+    }
+
+    @Test
+    void evictIdleConnections() throws InterruptedException, ExecutionException, TimeoutException, IOException {
+        ConnectionPoolImpl cp = pool(1, 3, 200);
+        List<Connection> connections = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            connections.add(cp.connection().get(1, TimeUnit.SECONDS));
+        }
+        for (Connection c : connections) {
+            cp.release(c);
+        }
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> closed.get() == 2);
+        assertThat(created.get()).isEqualTo(3);
+        assertThat(cp.connection().get(1, TimeUnit.SECONDS)).isIn(connections);
+        cp.close();
+    }
+
+}
@@ -14,13 +14,24 @@ public abstract class Benchmark {
     private volatile Long endTime = null;
     private volatile int targetCount = Integer.MAX_VALUE;
     private final AtomicInteger counter = new AtomicInteger();
-    private final ExecutorService es = Executors.newFixedThreadPool(SYNC_THREADS);
+    private final ExecutorService es;
+    private final int callers;
     private final int warmupDurationSeconds;
     private final int numberOfRequests;
 
     public Benchmark(int warmupDurationSeconds, int numberOfRequests) {
+        this(warmupDurationSeconds, numberOfRequests, SYNC_THREADS, Executors.newFixedThreadPool(SYNC_THREADS));
+    }
+
+    /**
+     * @param callers number of concurrent callers, each one sending requests in a loop
+     * @param es      executor running the callers
+     */
+    public Benchmark(int warmupDurationSeconds, int numberOfRequests, int callers, ExecutorService es) {
         this.warmupDurationSeconds = warmupDurationSeconds;
         this.numberOfRequests = numberOfRequests;
+        this.callers = callers;
+        this.es = es;
     }
 
     public void run() {
@@ -105,7 +116,7 @@ public abstract class Benchmark {
     }
 
     private void start() {
-        for (int i = 0; i < SYNC_THREADS; i++) {
+        for (int i = 0; i < callers; i++) {
             es.execute(() -> {
                 boolean more = true;
                 while (more) {
@@ -0,0 +1,58 @@
+package perf;
+
+import com.arangodb.ArangoDB;
+import com.arangodb.Protocol;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Sync API called from 10k virtual threads. Requires JDK 21+, run with e.g.
+ * {@code -Djdk.virtualThreadScheduler.parallelism=4} to limit the number of carrier threads.
+ */
+@Disabled
+public class VirtualThreadsBenchmarkTest {
+    private final int warmupDurationSeconds = 15;
+    private final int numberOfRequests = 1_000_000;
+    private final int callers = 10_000;
+
+    @ParameterizedTest
+    @EnumSource(Protocol.class)
+    void getVersion(Protocol protocol) throws ReflectiveOperationException {
+        assumeTrue(Runtime.version().feature() >= 21, "virtual threads require JDK 21+");
+        System.out.println("-----------------------------------------");
+        System.out.println("--- getVersion() from virtual threads: " + protocol);
+        System.out.println("-----------------------------------------");
+
+        ArangoDB adb = new ArangoDB.Builder()
+                .host("172.28.0.1", 8529)
+                .password("test")
+                .protocol(protocol)
+                .maxConnections(16)
+                .build();
+        // compiled with release 17
+        ExecutorService es = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        Benchmark benchmark = new Benchmark(warmupDurationSeconds, numberOfRequests, callers, es) {
+            @Override
+            protected void sendRequest() {
+                adb.getVersion();
+            }
+
+            @Override
+            protected void shutdown() {
+                adb.shutdown();
+            }
+        };
+        benchmark.run();
+        System.out.println("elapsed time [ms]: \t" + benchmark.waitComplete());
+        System.out.println("throughput [req/s]: \t" + benchmark.getThroughput());
+        System.out.println("platform threads: \t" + ManagementFactory.getThreadMXBean().getThreadCount());
+    }
+
+}
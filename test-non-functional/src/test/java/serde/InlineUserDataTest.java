@@ -0,0 +1,155 @@
+package serde;
+
+import com.arangodb.ContentType;
+import com.arangodb.RequestContext;
+import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.internal.RequestContextHolder;
+import com.arangodb.internal.serde.InlineUserDataSerde;
+import com.arangodb.internal.serde.InternalSerde;
+import com.arangodb.internal.serde.InternalSerdeProvider;
+import com.arangodb.serde.ArangoSerde;
+import com.arangodb.serde.jackson.JacksonMapperProvider;
+import com.arangodb.serde.jackson.JacksonSerde;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * User data written and read directly on the generators and parsers of the internal serde, when the user serde is
+ * Jackson based, must match user data going through byte arrays.
+ */
+class InlineUserDataTest {
+
+    private static final Type CREATE_ENTITY_TYPE = new ParameterizedType() {
+        @Override
+        public Type[] getActualTypeArguments() {
+            return new Type[]{JacksonPerson.class};
+        }
+
+        @Override
+        public Type getRawType() {
+            return DocumentCreateEntity.class;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return null;
+        }
+    };
+
+    private static InternalSerde inline(ContentType contentType) {
+        return inline(contentType, JacksonSerde.of(contentType));
+    }
+
+    private static InternalSerde inline(ContentType contentType, JacksonSerde userSerde) {
+        return new InternalSerdeProvider(contentType).create(userSerde, null);
+    }
+
+    private static InternalSerde viaBytes(ContentType contentType) {
+        return viaBytes(contentType, JacksonSerde.of(contentType));
+    }
+
+    private static InternalSerde viaBytes(ContentType contentType, JacksonSerde userSerde) {
+        return new InternalSerdeProvider(contentType).create(new ArangoSerde() {
+            @Override
+            public byte[] serialize(Object value) {
+                return userSerde.serialize(value);
+            }
+
+            @Override
+            public <T> T deserialize(byte[] content, Class<T> clazz) {
+                return userSerde.deserialize(content, clazz);
+            }
+        }, null);
+    }
+
+    private static Map<String, Object> person(String name, int age) {
+        Map<String, Object> person = new LinkedHashMap<>();
+        person.put("_key", "a");
+        person.put("firstName", name);
+        person.put("age", age);
+        return person;
+    }
+
+    @Test
+    void serializeCollectionUserData() {
+        for (ContentType ct : ContentType.values()) {
+            List<Object> docs = Arrays.asList(new JacksonPerson("a", "Jim", 22), null,
+                    Collections.singletonMap("foo", "bar"));
+            assertThat(inline(ct).serializeCollectionUserData(docs))
+                    .isEqualTo(viaBytes(ct).serializeCollectionUserData(docs));
+        }
+    }
+
+    @Test
+    void supportsInline() {
+        for (ContentType ct : ContentType.values()) {
+            JsonFactory internalFactory = JacksonMapperProvider.of(ct).getFactory()
+                    .enable(JsonParser.Feature.INCLUDE_SOURCE_IN_LOCATION);
+            JacksonSerde userSerde = JacksonSerde.of(ct);
+            assertThat(((InlineUserDataSerde) userSerde).supportsInline(internalFactory)).isTrue();
+            userSerde.configure(m -> m.enable(SerializationFeature.INDENT_OUTPUT));
+            assertThat(((InlineUserDataSerde) userSerde).supportsInline(internalFactory)).isFalse();
+            JacksonSerde escaping = JacksonSerde.of(ct)
+                    .configure(m -> m.getFactory().enable(JsonWriteFeature.ESCAPE_NON_ASCII.mappedFeature()));
+            assertThat(((InlineUserDataSerde) escaping).supportsInline(internalFactory)).isFalse();
+        }
+    }
+
+    @Test
+    void serializeCollectionUserDataWithCustomizedMapper() {
+        Map<String, Object> doc = new LinkedHashMap<>();
+        doc.put("name", "J\u00f6rg");
+        doc.put("amount", new BigDecimal("1E+3"));
+        List<Object> docs = Arrays.asList(doc, new JacksonPerson("a", "Jim", 22));
+        Consumer<ObjectMapper> customization = m -> {
+            m.enable(SerializationFeature.INDENT_OUTPUT);
+            m.enable(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN);
+            m.getFactory().enable(JsonWriteFeature.ESCAPE_NON_ASCII.mappedFeature());
+        };
+        byte[] expected = viaBytes(ContentType.JSON, JacksonSerde.of(ContentType.JSON).configure(customization))
+                .serializeCollectionUserData(docs);
+        byte[] actual = inline(ContentType.JSON, JacksonSerde.of(ContentType.JSON).configure(customization))
+                .serializeCollectionUserData(docs);
+        assertThat(new String(actual, StandardCharsets.UTF_8))
+                .isEqualTo(new String(expected, StandardCharsets.UTF_8))
+                .contains("J\\u00F6rg")
+                .contains("1000");
+    }
+
+    @Test
+    void deserializeUserDataFields() {
+        for (ContentType ct : ContentType.values()) {
+            Map<String, Object> doc = new LinkedHashMap<>();
+            doc.put("_key", "a");
+            doc.put("new", person("Jim", 22));
+            doc.put("old", person("Jack", 21));
+            doc.put("_rev", "r");
+            InternalSerde serde = inline(ct);
+            byte[] content = serde.serialize(doc);
+            DocumentCreateEntity<JacksonPerson> res = RequestContextHolder.INSTANCE.runWithCtx(RequestContext.EMPTY,
+                    () -> serde.deserialize(content, CREATE_ENTITY_TYPE));
+            assertThat(res.getNew()).isEqualTo(new JacksonPerson("a", "Jim", 22));
+            assertThat(res.getOld()).isEqualTo(new JacksonPerson("a", "Jack", 21));
+            assertThat(res.getRev()).isEqualTo("r");
+        }
+    }
+
+}
@@ -0,0 +1,120 @@
+package serde;
+
+import com.arangodb.ContentType;
+import com.arangodb.RequestContext;
+import com.arangodb.internal.serde.InternalSerdeProvider;
+import com.arangodb.serde.StreamingArangoSerde;
+import com.arangodb.serde.jackson.JacksonSerde;
+import com.arangodb.serde.jsonb.JsonbSerde;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingSerdeTest {
+
+    private static final Map<String, String> DOC = Collections.singletonMap("foo", "bar");
+
+    static Stream<StreamingArangoSerde> serdes() {
+        return Stream.of(
+                new InternalSerdeProvider(ContentType.JSON).create(),
+                JacksonSerde.of(ContentType.JSON),
+                com.arangodb.serde.jackson3.JacksonSerde.create(new tools.jackson.databind.json.JsonMapper()),
+                new JsonbSerde()
+        );
+    }
+
+    @Test
+    void streams() {
+        serdes().forEach(serde -> {
+            ClosingTrackingOutputStream out = new ClosingTrackingOutputStream();
+            serde.serialize(DOC, out);
+            assertThat(out.closed).isFalse();
+            assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("{\"foo\":\"bar\"}");
+
+            ClosingTrackingInputStream in = new ClosingTrackingInputStream(out.toByteArray());
+            Map<?, ?> res = serde.deserialize(in, Map.class, RequestContext.EMPTY);
+            assertThat(in.closed).isFalse();
+            assertThat(res).isEqualTo(DOC);
+        });
+    }
+
+    @Test
+    void byteBuffers() {
+        byte[] json = "[{\"foo\":\"bar\"}]".getBytes(StandardCharsets.UTF_8);
+        serdes().forEach(serde -> {
+            ByteBuffer heap = ByteBuffer.wrap(json, 1, json.length - 2).slice();
+            Map<?, ?> fromHeap = serde.deserialize(heap, Map.class, RequestContext.EMPTY);
+            assertThat(fromHeap).isEqualTo(DOC);
+            assertThat(heap.position()).isEqualTo(0);
+
+            ByteBuffer direct = ByteBuffer.allocateDirect(json.length);
+            direct.put(json).position(1).limit(json.length - 1);
+            Map<?, ?> fromDirect = serde.deserialize(direct, Map.class, RequestContext.EMPTY);
+            assertThat(fromDirect).isEqualTo(DOC);
+            assertThat(direct.position()).isEqualTo(1);
+
+            Object empty = serde.deserialize(ByteBuffer.allocate(0), Map.class, RequestContext.EMPTY);
+            assertThat(empty).isNull();
+        });
+    }
+
+    @Test
+    void jacksonGeneratorAndParser() throws IOException {
+        JacksonSerde serde = JacksonSerde.of(ContentType.JSON);
+        JsonFactory factory = new JsonFactory();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator gen = factory.createGenerator(out)) {
+            gen.writeStartArray();
+            serde.serialize(DOC, gen);
+            serde.serialize(DOC, gen);
+            gen.writeEndArray();
+        }
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("[{\"foo\":\"bar\"},{\"foo\":\"bar\"}]");
+
+        try (JsonParser parser = factory.createParser(out.toByteArray())) {
+            assertThat(parser.nextToken()).isEqualTo(JsonToken.START_ARRAY);
+            parser.nextToken();
+            Map<?, ?> first = serde.deserialize(parser, Map.class, RequestContext.EMPTY);
+            assertThat(first).isEqualTo(DOC);
+            Map<?, ?> second = serde.deserialize(parser, Map.class, RequestContext.EMPTY);
+            assertThat(second).isEqualTo(DOC);
+            assertThat(parser.nextToken()).isEqualTo(JsonToken.END_ARRAY);
+        }
+    }
+
+    private static class ClosingTrackingOutputStream extends ByteArrayOutputStream {
+        boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private static class ClosingTrackingInputStream extends ByteArrayInputStream {
+        boolean closed;
+
+        ClosingTrackingInputStream(byte[] buf) {
+            super(buf);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+}
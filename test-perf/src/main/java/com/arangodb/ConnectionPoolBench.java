@@ -0,0 +1,99 @@
+package com.arangodb;
+
+import com.arangodb.config.HostDescription;
+import com.arangodb.internal.InternalRequest;
+import com.arangodb.internal.InternalResponse;
+import com.arangodb.internal.config.ArangoConfig;
+import com.arangodb.internal.net.Connection;
+import com.arangodb.internal.net.ConnectionFactory;
+import com.arangodb.internal.net.ConnectionPool;
+import com.arangodb.internal.net.ConnectionPoolImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the contention on the connection slots, acquiring and releasing them from 1 to 256 threads, see also
+ * {@code concurrency.ConnectionPoolConcurrencyTest} in test-non-functional.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class ConnectionPoolBench {
+
+    @State(Scope.Benchmark)
+    public static class Pool {
+        public ConnectionPool pool;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            ArangoConfig cfg = new ArangoConfig();
+            cfg.setMaxConnections(8);
+            pool = new ConnectionPoolImpl(HostDescription.parse("127.0.0.1:8529"), cfg, (config, host, p) -> new NoopConnection());
+            // creates all the connections and their slots
+            for (int i = 0; i < 8; i++) {
+                pool.connection().thenAccept(pool::release);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            pool.close();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : new int[]{1, 4, 16, 64, 256}) {
+            Options opt = new OptionsBuilder()
+                    .include(ConnectionPoolBench.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            new Runner(opt).run();
+        }
+    }
+
+    @Benchmark
+    public void acquireRelease(Pool p) {
+        Connection c = p.pool.connection().join();
+        p.pool.release(c);
+    }
+
+    private static class NoopConnection implements Connection {
+        @Override
+        public void setJwt(String jwt) {
+        }
+
+        @Override
+        public CompletableFuture<InternalResponse> executeAsync(InternalRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void release() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+}
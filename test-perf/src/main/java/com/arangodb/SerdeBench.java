@@ -1,5 +1,6 @@
 package com.arangodb;
 
+import com.arangodb.entity.BaseDocument;
 import com.arangodb.entity.MultiDocumentEntity;
 import com.arangodb.internal.ArangoCollectionImpl;
 import com.arangodb.internal.ArangoDatabaseImpl;
@@ -10,8 +11,11 @@ import com.arangodb.internal.serde.InternalSerdeProvider;
 import com.arangodb.jackson.dataformat.velocypack.VPackMapper;
 import com.arangodb.util.RawBytes;
 import com.arangodb.util.RawJson;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -20,6 +24,7 @@ import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 import org.openjdk.jmh.profile.GCProfiler;
@@ -33,12 +38,15 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @Warmup(iterations = 8, time = 1)
@@ -87,6 +95,7 @@ public class SerdeBench {
         public final MyCol vpackCol = MyCol.ofVpack();
         public final InternalResponse jsonResp = new InternalResponse();
         public final InternalResponse vpackResp = new InternalResponse();
+        public final List<Map<String, Object>> docs;
 
         public Data() {
             ObjectMapper jsonMapper = new ObjectMapper();
@@ -100,16 +109,37 @@ public class SerdeBench {
                 rawVPackBytes = RawBytes.of(vpack);
                 rawJson = RawJson.of(jsonMapper.writeValueAsString(jsonMapper.readTree(json)));
 
-                JsonNode docs = readFile("/multi-docs.json", jsonMapper);
+                JsonNode docs = serverOrder(readFile("/multi-docs.json", jsonMapper), jsonMapper);
                 jsonResp.setResponseCode(200);
                 jsonResp.setBody(jsonMapper.writeValueAsBytes(docs));
                 vpackResp.setResponseCode(200);
                 vpackResp.setBody(vpackMapper.writeValueAsBytes(docs));
+                this.docs = jsonMapper.convertValue(docs, new TypeReference<List<Map<String, Object>>>() {
+                });
             } catch (Exception e) {
                 throw new RuntimeException(e);
             }
         }
 
+        /**
+         * Moves the document system attributes in front of the user attributes, as in the documents returned by the
+         * server.
+         */
+        private JsonNode serverOrder(JsonNode docs, ObjectMapper mapper) {
+            ArrayNode res = mapper.createArrayNode();
+            for (JsonNode doc : docs) {
+                ObjectNode node = mapper.createObjectNode();
+                for (String field : new String[]{"_key", "_id", "_rev"}) {
+                    if (doc.has(field)) {
+                        node.set(field, doc.get(field));
+                    }
+                }
+                node.setAll((ObjectNode) doc);
+                res.add(node);
+            }
+            return res;
+        }
+
         private JsonNode readFile(String filename, ObjectMapper mapper) throws IOException {
             InputStream inputStream = SerdeBench.class.getResourceAsStream(filename);
             String str = readFromInputStream(inputStream);
@@ -128,6 +158,18 @@ public class SerdeBench {
         }
     }
 
+    /**
+     * Small document deserialized and serialized concurrently through a shared serde, as for single document
+     * requests, where the per-call overhead of the serde dominates.
+     */
+    @State(Scope.Benchmark)
+    public static class SmallDoc {
+        public final InternalSerde serde = new InternalSerdeProvider(ContentType.JSON).create();
+        public final byte[] json = "{\"_key\":\"k\",\"_id\":\"c/k\",\"_rev\":\"_r\",\"name\":\"foo\",\"value\":1}"
+                .getBytes(StandardCharsets.UTF_8);
+        public final BaseDocument doc = serde.deserialize(json, BaseDocument.class);
+    }
+
     public static void main(String[] args) throws RunnerException, IOException {
         String datetime = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
         Path target = Files.createDirectories(Paths.get("target", "jmh-result"));
@@ -196,4 +238,84 @@ public class SerdeBench {
         );
     }
 
+    @Benchmark
+    public void deserializeDocsJsonNodeJson(Data data, Blackhole bh) {
+        bh.consume(
+                data.jsonCol.getDocumentsResponseDeserializer(JsonNode.class).deserialize(data.jsonResp)
+        );
+    }
+
+    @Benchmark
+    public void deserializeDocsJsonNodeVPack(Data data, Blackhole bh) {
+        bh.consume(
+                data.vpackCol.getDocumentsResponseDeserializer(JsonNode.class).deserialize(data.vpackResp)
+        );
+    }
+
+    @Benchmark
+    public void deserializeDocsBaseDocumentJson(Data data, Blackhole bh) {
+        bh.consume(
+                data.jsonCol.getDocumentsResponseDeserializer(BaseDocument.class).deserialize(data.jsonResp)
+        );
+    }
+
+    @Benchmark
+    public void deserializeDocsBaseDocumentVPack(Data data, Blackhole bh) {
+        bh.consume(
+                data.vpackCol.getDocumentsResponseDeserializer(BaseDocument.class).deserialize(data.vpackResp)
+        );
+    }
+
+    /**
+     * Documents deserialized by the user serde, reading directly from the parser of the internal serde.
+     */
+    @Benchmark
+    public void deserializeDocsMapJson(Data data, Blackhole bh) {
+        bh.consume(
+                data.jsonCol.getDocumentsResponseDeserializer(Map.class).deserialize(data.jsonResp)
+        );
+    }
+
+    @Benchmark
+    public void deserializeDocsMapVPack(Data data, Blackhole bh) {
+        bh.consume(
+                data.vpackCol.getDocumentsResponseDeserializer(Map.class).deserialize(data.vpackResp)
+        );
+    }
+
+    /**
+     * Documents serialized by the user serde, writing directly to the generator of the internal serde.
+     */
+    @Benchmark
+    public void serializeDocsMapJson(Data data, Blackhole bh) {
+        bh.consume(
+                data.jsonCol.getSerde().serializeCollectionUserDataChunks(data.docs)
+        );
+    }
+
+    @Benchmark
+    public void serializeDocsMapVPack(Data data, Blackhole bh) {
+        bh.consume(
+                data.vpackCol.getSerde().serializeCollectionUserDataChunks(data.docs)
+        );
+    }
+
+    @Benchmark
+    @Threads(64)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void deserializeSmallDocConcurrent(SmallDoc data, Blackhole bh) {
+        bh.consume(
+                data.serde.deserialize(data.json, BaseDocument.class)
+        );
+    }
+
+    @Benchmark
+    @Threads(64)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void serializeSmallDocConcurrent(SmallDoc data, Blackhole bh) {
+        bh.consume(
+                data.serde.serialize(data.doc)
+        );
+    }
+
 }
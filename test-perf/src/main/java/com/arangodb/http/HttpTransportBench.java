@@ -0,0 +1,128 @@
+package com.arangodb.http;
+
+import com.arangodb.Protocol;
+import com.arangodb.config.HostDescription;
+import com.arangodb.internal.InternalRequest;
+import com.arangodb.internal.InternalResponse;
+import com.arangodb.internal.RequestType;
+import com.arangodb.internal.config.ArangoConfig;
+import com.arangodb.internal.net.ConnectionPool;
+import com.arangodb.internal.net.ConnectionPoolImpl;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the NIO and the native (epoll) transports, with heap and pooled direct request buffers, sending requests
+ * to a local Vert.x server which echoes the request body.
+ * <p>
+ * The allocation rate is reported by the {@code gc} profiler, the syscalls of the whole JVM can be counted running
+ * the benchmark under {@code strace -c -f}, e.g.:
+ * <pre>
+ * strace -c -f -o strace.txt java -cp test-perf/target/benchmarks.jar com.arangodb.http.HttpTransportBench
+ * </pre>
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+@Fork(1)
+public class HttpTransportBench {
+
+    @State(Scope.Benchmark)
+    public static class Client {
+        @Param({"false", "true"})
+        public boolean nativeTransport;
+
+        @Param({"false", "true"})
+        public boolean directBuffers;
+
+        @Param({"1024", "65536"})
+        public int bodySize;
+
+        private Vertx serverVertx;
+        private HttpServer server;
+        private HttpConnectionFactory factory;
+        private ConnectionPool pool;
+        private byte[] body;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            serverVertx = Vertx.vertx(new VertxOptions().setPreferNativeTransport(nativeTransport));
+            server = serverVertx.createHttpServer()
+                    .requestHandler(req -> req.body().onSuccess(b -> req.response().end(b)))
+                    .listen(0, "127.0.0.1")
+                    .toCompletionStage().toCompletableFuture().join();
+
+            ArangoConfig cfg = new ArangoConfig();
+            cfg.setProtocol(Protocol.HTTP_JSON);
+            cfg.setMaxConnections(4);
+            HttpProtocolConfig protocolConfig = HttpProtocolConfig.builder()
+                    .nativeTransport(nativeTransport)
+                    .directBuffers(directBuffers)
+                    .build();
+            factory = new HttpConnectionFactory(protocolConfig);
+            pool = new ConnectionPoolImpl(HostDescription.parse("127.0.0.1:" + server.actualPort()), cfg, factory);
+
+            body = new byte[bodySize];
+            Arrays.fill(body, (byte) 'a');
+            body[0] = '"';
+            body[bodySize - 1] = '"';
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            pool.close();
+            factory.close();
+            server.close().toCompletionStage().toCompletableFuture().join();
+            serverVertx.close().toCompletionStage().toCompletableFuture().join();
+        }
+
+        InternalResponse execute() {
+            InternalRequest request = new InternalRequest("_system", RequestType.POST, "/_api/echo")
+                    .setBodyChunks(Collections.singletonList(body));
+            return pool.connection()
+                    .thenCompose(c -> c.executeAsync(request).whenComplete((r, e) -> c.release()))
+                    .join();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(HttpTransportBench.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(opt).run();
+    }
+
+    @Benchmark
+    public InternalResponse echo(Client client) {
+        return client.execute();
+    }
+
+}
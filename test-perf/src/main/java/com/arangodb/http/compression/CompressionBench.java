@@ -0,0 +1,84 @@
+package com.arangodb.http.compression;
+
+import com.arangodb.Compression;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the pooled {@link ZlibEncoder} with allocating a new {@link JdkZlibEncoder} for every request body.
+ */
+@Warmup(iterations = 8, time = 1)
+@Measurement(iterations = 10, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+@Fork(1)
+public class CompressionBench {
+
+    @State(Scope.Benchmark)
+    public static class Data {
+        @Param({"1024", "65536"})
+        public int size;
+
+        public byte[] body;
+        public Encoder pooled;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            StringBuilder sb = new StringBuilder("[");
+            for (int i = 0; sb.length() < size; i++) {
+                sb.append("{\"_key\":\"").append(i).append("\",\"name\":\"name-").append(i).append("\"},");
+            }
+            body = sb.substring(0, size - 1).concat("]").getBytes(StandardCharsets.UTF_8);
+            pooled = Encoder.of(Compression.GZIP, 6);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            pooled.close();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(CompressionBench.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opt).run();
+    }
+
+    @Benchmark
+    public void perRequestEncoder(Data data, Blackhole bh) {
+        JdkZlibEncoder encoder = new JdkZlibEncoder(ZlibWrapper.GZIP, 6);
+        bh.consume(encoder.encode(data.body));
+        encoder.close();
+    }
+
+    @Benchmark
+    public void pooledEncoder(Data data, Blackhole bh) {
+        bh.consume(data.pooled.encode(data.body));
+    }
+
+}
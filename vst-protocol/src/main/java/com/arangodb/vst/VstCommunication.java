@@ -34,7 +34,12 @@ import com.arangodb.vst.internal.JwtAuthenticationRequest;
 import com.arangodb.vst.internal.VstConnectionAsync;
 
 import java.io.IOException;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Mark Vollmary
@@ -43,6 +48,15 @@ import java.util.concurrent.ExecutionException;
 public final class VstCommunication extends Communication {
     private static final String ENCRYPTION_PLAIN = "plain";
     private static final String ENCRYPTION_JWT = "jwt";
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    // opens the connections, since connecting, TLS handshake and authentication block
+    private final ExecutorService connectExecutor = Executors.newCachedThreadPool(r -> {
+        Thread thread = Executors.defaultThreadFactory().newThread(r);
+        thread.setDaemon(true);
+        thread.setName("adb-vst-connect-" + THREAD_COUNT.getAndIncrement());
+        return thread;
+    });
 
     private final String user;
     private final String password;
@@ -59,13 +73,38 @@ public final class VstCommunication extends Communication {
     protected void connect(@UnstableApi Connection conn) throws IOException {
         VstConnectionAsync connection = (VstConnectionAsync) conn;
         if (!connection.isOpen()) {
-            connection.open();
             if (jwt != null || user != null) {
                 tryAuthenticate(connection);
+            } else {
+                connection.open();
             }
         }
     }
 
+    /**
+     * Opens the connection, if needed, on a connect thread rather than on the calling thread, which can be a VST event
+     * loop thread serving other connections.
+     */
+    @Override
+    protected CompletableFuture<Void> connectAsync(@UnstableApi final Connection conn) {
+        if (((VstConnectionAsync) conn).isOpen()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        try {
+            return CompletableFuture.runAsync(() -> {
+                try {
+                    connect(conn);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, connectExecutor);
+        } catch (RejectedExecutionException e) {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            future.completeExceptionally(new ArangoDBException("VstCommunication already closed!"));
+            return future;
+        }
+    }
+
     private void tryAuthenticate(final VstConnectionAsync connection) throws IOException {
         try {
             authenticate(connection);
@@ -83,16 +122,11 @@ public final class VstCommunication extends Communication {
             authRequest = new AuthenticationRequest(user, password != null ? password : "", ENCRYPTION_PLAIN);
         }
 
-        InternalResponse response;
-        try {
-            response = connection.executeAsync(authRequest).get();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw ArangoDBException.of(e);
-        } catch (ExecutionException e) {
-            throw new IOException(e.getCause());
+        // the response is read on this thread, before the connection is handed over to the event loop
+        InternalResponse response = connection.open(authRequest);
+        if (response != null) {
+            checkError(response);
         }
-        checkError(response);
     }
 
 
@@ -105,4 +139,10 @@ public final class VstCommunication extends Communication {
         this.jwt = jwt;
     }
 
+    @Override
+    public void close() throws IOException {
+        connectExecutor.shutdown();
+        super.close();
+    }
+
 }
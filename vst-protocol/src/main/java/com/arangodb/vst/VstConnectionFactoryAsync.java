@@ -27,6 +27,7 @@ import com.arangodb.internal.net.Connection;
 import com.arangodb.internal.net.ConnectionFactory;
 import com.arangodb.internal.net.ConnectionPool;
 import com.arangodb.vst.internal.VstConnectionAsync;
+import com.arangodb.vst.internal.VstEventLoopGroup;
 
 /**
  * @author Mark Vollmary
@@ -34,10 +35,12 @@ import com.arangodb.vst.internal.VstConnectionAsync;
 @UnstableApi
 public class VstConnectionFactoryAsync implements ConnectionFactory {
 
+    private final VstEventLoopGroup eventLoopGroup = new VstEventLoopGroup();
+
     @Override
     @UnstableApi
     public Connection create(@UnstableApi final ArangoConfig config, final HostDescription host, @UnstableApi final ConnectionPool pool) {
-        return new VstConnectionAsync(config, host, pool);
+        return new VstConnectionAsync(config, host, pool, eventLoopGroup);
     }
 
 }
@@ -32,33 +32,52 @@ import com.arangodb.velocypack.ValueType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.net.SocketFactory;
 import javax.net.ssl.SSLContext;
-import javax.net.ssl.SSLSocket;
-import java.io.BufferedOutputStream;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLException;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.net.InetSocketAddress;
-import java.net.Socket;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Date;
 import java.util.Map;
-import java.util.concurrent.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 /**
+ * Non-blocking VST connection, served by one of the event loops of a {@link VstEventLoopGroup}.
+ * <p>
+ * The connection is established, and the optional initial request (e.g. authentication) is sent and its response
+ * read, in blocking mode on the opening thread. Afterward, the channel is switched to non-blocking mode and
+ * registered with an event loop, which reads the incoming chunks and writes what the writing threads could not.
+ * All the chunks of a message are written with a single gathering write.
+ *
  * @author Mark Vollmary
  */
 public abstract class VstConnection<T> implements Connection {
     private static final Logger LOGGER = LoggerFactory.getLogger(VstConnection.class);
-    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
     private static final byte[] PROTOCOL_HEADER = "VST/1.0\r\n\r\n".getBytes();
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final ByteBuffer[] EMPTY = new ByteBuffer[0];
     protected final MessageStore messageStore = new MessageStore();
+    /**
+     * Guards the channel state and the outbound buffers. A {@link ReentrantLock} rather than a monitor, so that
+     * virtual threads blocked on socket I/O while holding it do not pin their carrier thread.
+     */
+    protected final ReentrantLock lock = new ReentrantLock();
     protected final Integer timeout;
     private final AtomicLong keepAliveId = new AtomicLong();
     private final Long ttl;
@@ -69,6 +88,7 @@ public abstract class VstConnection<T> implements Connection {
     private final Map<Long, Long> sendTimestamps = new ConcurrentHashMap<>();
     private final String connectionName;
     private final ConnectionPool pool;
+    private final VstEventLoopGroup group;
     private final byte[] keepAliveRequest = new VPackBuilder()
             .add(ValueType.ARRAY)
             .add(1)
@@ -83,14 +103,31 @@ public abstract class VstConnection<T> implements Connection {
             .close()
             .slice()
             .toByteArray();
-    private ExecutorService executor;
-    private ScheduledExecutorService keepAliveScheduler;
-    private int keepAliveFailCounter = 0;
-    private Socket socket;
-    private OutputStream outputStream;
-    private InputStream inputStream;
-
-    protected VstConnection(final ArangoConfig config, final HostDescription host, final ConnectionPool pool) {
+    private final AtomicInteger keepAliveFailCounter = new AtomicInteger();
+
+    // guarded by lock
+    private volatile SocketChannel channel;
+    private VstEventLoopGroup.EventLoop loop;
+    private SSLEngine sslEngine;
+    private final ArrayDeque<ByteBuffer> outbound = new ArrayDeque<>();
+    // encrypted data not yet written, in read mode
+    private ByteBuffer netOut;
+    private ScheduledFuture<?> keepAliveTask;
+    private ScheduledFuture<?> ttlTask;
+
+    // accessed by the opening thread, and then by the event loop thread only
+    private SelectionKey key;
+    private ByteBuffer netIn;
+    private ByteBuffer readBuffer;
+    private InputStream blockingInput;
+    private ChunkStore chunkStore;
+    private Chunk chunk;
+    private ByteBuffer chunkBuffer;
+    private int chunkRemaining;
+    private volatile boolean expired;
+
+    protected VstConnection(final ArangoConfig config, final HostDescription host, final ConnectionPool pool,
+                            final VstEventLoopGroup group) {
         super();
         timeout = config.getTimeout();
         ttl = config.getConnectionTtl();
@@ -99,6 +136,7 @@ public abstract class VstConnection<T> implements Connection {
         sslContext = config.getSslContext();
         this.host = host;
         this.pool = pool;
+        this.group = group;
 
         connectionName = "connection_" + System.currentTimeMillis() + "_" + Math.random();
         LOGGER.debug("[" + connectionName + "]: Connection created");
@@ -120,124 +158,261 @@ public abstract class VstConnection<T> implements Connection {
 
     public abstract T write(final Message message, final Collection<Chunk> chunks);
 
-    protected abstract void doKeepAlive();
+    /**
+     * Sends a keep-alive request without blocking, since keep-alive tasks of all the connections share a timer thread.
+     */
+    protected abstract CompletableFuture<?> doKeepAlive();
 
     private void keepAlive() {
         try {
-            doKeepAlive();
-            keepAliveFailCounter = 0;
+            doKeepAlive().whenComplete((r, e) -> {
+                if (e == null) {
+                    keepAliveFailCounter.set(0);
+                } else {
+                    onKeepAliveFailure(e);
+                }
+            });
         } catch (Exception e) {
-            LOGGER.error("Got exception while performing keepAlive request:", e);
-            keepAliveFailCounter++;
-            if (keepAliveFailCounter >= 3) {
-                LOGGER.error("KeepAlive request failed consecutively for 3 times, closing connection now...");
-                messageStore.clear(new IOException("Connection unresponsive!"));
-                close();
-            }
+            onKeepAliveFailure(e);
+        }
+    }
+
+    private void onKeepAliveFailure(final Throwable e) {
+        LOGGER.error("Got exception while performing keepAlive request:", e);
+        if (keepAliveFailCounter.incrementAndGet() >= 3) {
+            LOGGER.error("KeepAlive request failed consecutively for 3 times, closing connection now...");
+            messageStore.clear(new IOException("Connection unresponsive!"));
+            close();
         }
     }
 
     public boolean isOpen() {
-        return socket != null && socket.isConnected() && !socket.isClosed();
+        SocketChannel c = channel;
+        return c != null && c.isOpen();
     }
 
-    public synchronized void open() throws IOException {
-        if (isOpen()) {
-            return;
+    public void open() throws IOException {
+        open(null);
+    }
+
+    /**
+     * Opens the connection, if not already open.
+     *
+     * @param init supplier of the first request to send, whose response is read on the calling thread before the
+     *             connection is handed over to the event loop, or {@code null}
+     * @return the future returned by {@code init}, or {@code null} if the connection was already open or
+     * {@code init} is {@code null}
+     */
+    protected <R> CompletableFuture<R> open(final Supplier<CompletableFuture<R>> init) throws IOException {
+        lock.lock();
+        try {
+            if (isOpen()) {
+                return null;
+            }
+            try {
+                return doOpen(init);
+            } catch (IOException | RuntimeException e) {
+                messageStore.clear(e instanceof IOException ? (IOException) e : new IOException(e));
+                doClose();
+                throw e;
+            }
+        } finally {
+            lock.unlock();
         }
+    }
+
+    private <R> CompletableFuture<R> doOpen(final Supplier<CompletableFuture<R>> init) throws IOException {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(String.format("[%s]: Open connection to %s", connectionName, host));
         }
-        if (Boolean.TRUE.equals(useSsl)) {
-            socket = sslContext.getSocketFactory().createSocket();
-        } else {
-            socket = SocketFactory.getDefault().createSocket();
-        }
-        socket.connect(new InetSocketAddress(host.getHost(), host.getPort()), timeout);
-        socket.setKeepAlive(true);
-        socket.setTcpNoDelay(true);
+        loop = group.acquire();
+        channel = SocketChannel.open();
+        channel.socket().connect(new InetSocketAddress(host.getHost(), host.getPort()), timeout != null ? timeout : 0);
+        channel.socket().setKeepAlive(true);
+        channel.socket().setTcpNoDelay(true);
+        channel.socket().setSoTimeout(timeout != null ? timeout : 0);
+        blockingInput = channel.socket().getInputStream();
         if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug(String.format("[%s]: Connected to %s", connectionName, socket));
+            LOGGER.debug(String.format("[%s]: Connected to %s", connectionName, channel));
         }
 
-        outputStream = new BufferedOutputStream(socket.getOutputStream());
-        inputStream = socket.getInputStream();
-
+        chunkStore = new ChunkStore(messageStore);
+        chunk = null;
+        chunkBuffer = null;
+        outbound.clear();
+        expired = false;
+        keepAliveFailCounter.set(0);
         if (Boolean.TRUE.equals(useSsl)) {
+            sslEngine = sslContext.createSSLEngine(host.getHost(), host.getPort());
+            sslEngine.setUseClientMode(true);
+            netIn = ByteBuffer.allocate(sslEngine.getSession().getPacketBufferSize());
+            netOut = ByteBuffer.allocate(sslEngine.getSession().getPacketBufferSize());
+            netOut.flip();
+            readBuffer = ByteBuffer.allocate(Math.max(READ_BUFFER_SIZE,
+                    sslEngine.getSession().getApplicationBufferSize() + ArangoDefaults.CHUNK_MAX_HEADER_SIZE));
             if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug(String.format("[%s]: Start Handshake on %s", connectionName, socket));
+                LOGGER.debug(String.format("[%s]: Start Handshake on %s", connectionName, channel));
             }
-            ((SSLSocket) socket).startHandshake();
+            handshake();
+        } else {
+            sslEngine = null;
+            netIn = null;
+            netOut = null;
+            readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
         }
+        readBuffer.order(ByteOrder.LITTLE_ENDIAN);
         sendProtocolHeader();
 
-        executor = Executors.newSingleThreadExecutor(r -> {
-            Thread t = Executors.defaultThreadFactory().newThread(r);
-            t.setDaemon(true);
-            t.setName("adb-vst-" + THREAD_COUNT.getAndIncrement());
-            return t;
-        });
-        executor.submit((Callable<Void>) () -> {
-            LOGGER.debug("[" + connectionName + "]: Start Callable");
-
-            final long openTime = new Date().getTime();
-            final Long ttlTime = ttl != null && ttl > 0 ? openTime + ttl : null;
-            final ChunkStore chunkStore = new ChunkStore(messageStore);
-            while (true) {
-                if (ttlTime != null && new Date().getTime() > ttlTime && messageStore.isEmpty()) {
-                    close();
-                    break;
-                }
-                if (!isOpen()) {
-                    messageStore.clear(new IOException("The socket is closed."));
-                    close();
-                    break;
-                }
-                try {
-                    final Chunk chunk = readChunk();
-                    final ByteBuffer chunkBuffer = chunkStore.storeChunk(chunk);
-                    if (chunkBuffer != null) {
-                        final byte[] buf = new byte[chunk.getContentLength()];
-                        readBytesIntoBuffer(buf, 0, buf.length);
-                        chunkBuffer.put(buf);
-                        chunkStore.checkCompleteness(chunk.getMessageId());
-                    }
-                } catch (final Exception e) {
-                    messageStore.clear(e);
-                    close();
-                    break;
+        CompletableFuture<R> initFuture = null;
+        if (init != null) {
+            initFuture = init.get();
+            while (!initFuture.isDone()) {
+                read(true);
+            }
+        }
+
+        blockingInput = null;
+        channel.configureBlocking(false);
+        loop.register(channel, this);
+
+        if (ttl != null && ttl > 0) {
+            ttlTask = loop.timer().schedule(this::onTtl, ttl, TimeUnit.MILLISECONDS);
+        }
+        if (keepAliveInterval != null) {
+            keepAliveTask = loop.timer().scheduleAtFixedRate(this::keepAlive, 0, keepAliveInterval, TimeUnit.SECONDS);
+        }
+        return initFuture;
+    }
+
+    private void handshake() throws IOException {
+        sslEngine.beginHandshake();
+        while (true) {
+            SSLEngineResult.HandshakeStatus hs = sslEngine.getHandshakeStatus();
+            if (hs == SSLEngineResult.HandshakeStatus.NEED_WRAP) {
+                flush();
+            } else if (hs == SSLEngineResult.HandshakeStatus.NEED_TASK) {
+                runDelegatedTasks();
+            } else if (hs == SSLEngineResult.HandshakeStatus.NEED_UNWRAP) {
+                netIn.flip();
+                SSLEngineResult res = sslEngine.unwrap(netIn, readBuffer);
+                netIn.compact();
+                if (res.getStatus() == SSLEngineResult.Status.CLOSED) {
+                    throw new SSLException("SSL engine closed during handshake");
+                } else if (res.getStatus() == SSLEngineResult.Status.BUFFER_UNDERFLOW) {
+                    readBlocking(netIn);
                 }
+            } else {
+                return;
             }
+        }
+    }
 
-            LOGGER.debug("[" + connectionName + "]: Stop Callable");
+    private void runDelegatedTasks() {
+        Runnable task;
+        while ((task = sslEngine.getDelegatedTask()) != null) {
+            task.run();
+        }
+    }
 
-            return null;
-        });
+    private void onTtl() {
+        if (messageStore.isEmpty()) {
+            close();
+        } else {
+            expired = true;
+        }
+    }
 
-        if (keepAliveInterval != null) {
-            keepAliveScheduler = Executors.newScheduledThreadPool(1);
-            keepAliveScheduler.scheduleAtFixedRate(this::keepAlive, 0, keepAliveInterval, TimeUnit.SECONDS);
+    void onRegistered(final SelectionKey key) {
+        lock.lock();
+        try {
+            if (key.channel() != channel) {
+                key.cancel();
+                return;
+            }
+            this.key = key;
+            if (!outbound.isEmpty() || (netOut != null && netOut.hasRemaining())) {
+                key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onReadable(final SelectionKey key) {
+        // the key of a channel closed in the meantime, possibly with the connection reopened
+        if (key.channel() != channel) {
+            return;
+        }
+        try {
+            read(false);
+        } catch (Exception e) {
+            onError(key.channel(), e);
+        }
+    }
+
+    void onWritable(final SelectionKey key) {
+        lock.lock();
+        try {
+            if (key.channel() == channel && flush() && key.isValid()) {
+                key.interestOps(SelectionKey.OP_READ);
+            }
+        } catch (Exception e) {
+            onError(key.channel(), e);
+        } finally {
+            lock.unlock();
         }
+    }
 
+    /**
+     * Fails the pending messages and closes the connection, unless it has been closed and reopened in the meantime.
+     */
+    void onError(final Object failedChannel, final Exception e) {
+        lock.lock();
+        try {
+            if (failedChannel == channel) {
+                messageStore.clear(e);
+                doClose();
+            }
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
-    public synchronized void close() {
-        if (keepAliveScheduler != null) {
-            keepAliveScheduler.shutdown();
+    public void close() {
+        lock.lock();
+        try {
+            doClose();
+        } finally {
+            lock.unlock();
         }
-        messageStore.clear(new IOException("Connection closed"));
-        if (executor != null && !executor.isShutdown()) {
-            executor.shutdown();
+    }
+
+    private void doClose() {
+        if (keepAliveTask != null) {
+            keepAliveTask.cancel(false);
+            keepAliveTask = null;
         }
-        if (socket != null && !socket.isClosed()) {
-            try {
+        if (ttlTask != null) {
+            ttlTask.cancel(false);
+            ttlTask = null;
+        }
+        messageStore.clear(new IOException("Connection closed"));
+        try {
+            if (channel != null && channel.isOpen()) {
                 if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("[%s]: Close connection %s", connectionName, socket));
+                    LOGGER.debug(String.format("[%s]: Close connection %s", connectionName, channel));
                 }
-                socket.close();
-            } catch (final IOException e) {
-                throw ArangoDBException.of(e);
+                channel.close();
+            }
+        } catch (final IOException e) {
+            throw ArangoDBException.of(e);
+        } finally {
+            if (loop != null) {
+                // lets the selector deregister the closed channel
+                loop.wakeup();
+                loop = null;
+                group.release();
             }
         }
     }
@@ -247,46 +422,118 @@ public abstract class VstConnection<T> implements Connection {
         pool.release(this);
     }
 
-    private synchronized void sendProtocolHeader() throws IOException {
+    private void sendProtocolHeader() throws IOException {
         if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug(String.format("[%s]: Send velocystream protocol header to %s", connectionName, socket));
+            LOGGER.debug(String.format("[%s]: Send velocystream protocol header to %s", connectionName, channel));
+        }
+        outbound.add(ByteBuffer.wrap(PROTOCOL_HEADER));
+        flush();
+    }
+
+    protected void writeIntern(final Message message, final Collection<Chunk> chunks) {
+        lock.lock();
+        try {
+            doWrite(message, chunks);
+        } finally {
+            lock.unlock();
         }
-        outputStream.write(PROTOCOL_HEADER);
-        outputStream.flush();
     }
 
-    protected synchronized void writeIntern(final Message message, final Collection<Chunk> chunks) {
+    private void doWrite(final Message message, final Collection<Chunk> chunks) {
+        final VPackSlice head = message.getHead();
+        final int headLength = head.getByteSize();
         for (final Chunk chunk : chunks) {
-            try {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("[%s]: Send chunk %s:%s from message %s", connectionName,
-                            chunk.getChunk(),
-                            chunk.isFirstChunk() ? 1 : 0, chunk.getMessageId()));
-                    sendTimestamps.put(chunk.getMessageId(), System.currentTimeMillis());
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(String.format("[%s]: Send chunk %s:%s from message %s", connectionName,
+                        chunk.getChunk(),
+                        chunk.isFirstChunk() ? 1 : 0, chunk.getMessageId()));
+                sendTimestamps.put(chunk.getMessageId(), System.currentTimeMillis());
+            }
+            outbound.add(chunkHead(chunk));
+            final int contentOffset = chunk.getContentOffset();
+            final int contentLength = chunk.getContentLength();
+            int written = 0;
+            if (contentOffset < headLength) {
+                written = Math.min(contentLength, headLength - contentOffset);
+                outbound.add(ByteBuffer.wrap(head.getBuffer(), contentOffset, written));
+            }
+            if (written < contentLength) {
+                final VPackSlice body = message.getBody();
+                outbound.add(ByteBuffer.wrap(body.getBuffer(), contentOffset + written - headLength,
+                        contentLength - written));
+            }
+        }
+        try {
+            if (!flush()) {
+                requestWrite();
+            }
+        } catch (final IOException e) {
+            LOGGER.error("Error on Connection " + connectionName);
+            throw ArangoDBException.of(e);
+        }
+    }
+
+    /**
+     * Writes as much of the outbound data as the channel accepts without blocking, with gathering writes.
+     *
+     * @return whether all the outbound data has been written
+     */
+    private boolean flush() throws IOException {
+        if (sslEngine == null) {
+            while (true) {
+                dropWritten();
+                if (outbound.isEmpty()) {
+                    return true;
                 }
-                writeChunkHead(chunk);
-                final int contentOffset = chunk.getContentOffset();
-                final int contentLength = chunk.getContentLength();
-                final VPackSlice head = message.getHead();
-                final int headLength = head.getByteSize();
-                int written = 0;
-                if (contentOffset < headLength) {
-                    written = Math.min(contentLength, headLength - contentOffset);
-                    outputStream.write(head.getBuffer(), contentOffset, written);
+                if (channel.write(outbound.toArray(EMPTY)) == 0) {
+                    return false;
                 }
-                if (written < contentLength) {
-                    final VPackSlice body = message.getBody();
-                    outputStream.write(body.getBuffer(), contentOffset + written - headLength, contentLength - written);
+            }
+        }
+        while (true) {
+            if (netOut.hasRemaining()) {
+                channel.write(netOut);
+                if (netOut.hasRemaining()) {
+                    return false;
                 }
-                outputStream.flush();
-            } catch (final IOException e) {
-                LOGGER.error("Error on Connection " + connectionName);
-                throw ArangoDBException.of(e);
             }
+            dropWritten();
+            if (outbound.isEmpty() && sslEngine.getHandshakeStatus() != SSLEngineResult.HandshakeStatus.NEED_WRAP) {
+                return true;
+            }
+            netOut.clear();
+            SSLEngineResult res = sslEngine.wrap(outbound.toArray(EMPTY), netOut);
+            netOut.flip();
+            if (res.getStatus() == SSLEngineResult.Status.CLOSED) {
+                throw new SSLException("SSL engine closed");
+            }
+            if (res.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.NEED_TASK) {
+                runDelegatedTasks();
+            }
+            if (res.bytesConsumed() == 0 && res.bytesProduced() == 0) {
+                // waiting for the peer, flushed again once unwrapping has progressed, see read()
+                return false;
+            }
+        }
+    }
+
+    private void dropWritten() {
+        while (!outbound.isEmpty() && !outbound.peek().hasRemaining()) {
+            outbound.poll();
+        }
+    }
+
+    private void requestWrite() {
+        if (loop != null) {
+            loop.execute(() -> {
+                if (key != null && key.isValid()) {
+                    key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                }
+            });
         }
     }
 
-    private synchronized void writeChunkHead(final Chunk chunk) throws IOException {
+    private static ByteBuffer chunkHead(final Chunk chunk) {
         final long messageLength = chunk.getMessageLength();
         final int headLength = messageLength > -1L ? ArangoDefaults.CHUNK_MAX_HEADER_SIZE
                 : ArangoDefaults.CHUNK_MIN_HEADER_SIZE;
@@ -298,49 +545,142 @@ public abstract class VstConnection<T> implements Connection {
         if (messageLength > -1L) {
             buffer.putLong(messageLength);
         }
-        outputStream.write(buffer.array());
+        buffer.flip();
+        return buffer;
     }
 
-    protected Chunk readChunk() throws IOException {
-        final ByteBuffer chunkHeadBuffer = readBytes(ArangoDefaults.CHUNK_MIN_HEADER_SIZE);
-        final int length = chunkHeadBuffer.getInt();
-        final int chunkX = chunkHeadBuffer.getInt();
-        final long messageId = chunkHeadBuffer.getLong();
-        final long messageLength;
-        final int contentLength;
-        if ((1 == (chunkX & 0x1)) && ((chunkX >> 1) > 1)) {
-            messageLength = readBytes(ArangoDefaults.LONG_BYTES).getLong();
-            contentLength = length - ArangoDefaults.CHUNK_MAX_HEADER_SIZE;
-        } else {
-            messageLength = -1L;
-            contentLength = length - ArangoDefaults.CHUNK_MIN_HEADER_SIZE;
+    /**
+     * Reads the available data and processes the complete chunks.
+     *
+     * @param blocking whether to block until some data is available
+     */
+    private void read(final boolean blocking) throws IOException {
+        if (sslEngine == null) {
+            if (blocking) {
+                readBlocking(readBuffer);
+            } else if (channel.read(readBuffer) < 0) {
+                throw new EOFException("Reached the end of the stream.");
+            }
+            processChunks();
+            return;
         }
-        final Chunk chunk = new Chunk(messageId, chunkX, messageLength, 0, contentLength);
 
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug(String.format("[%s]: Received chunk %s:%s from message %s", connectionName, chunk.getChunk()
-                    , chunk.isFirstChunk() ? 1 : 0, chunk.getMessageId()));
-            LOGGER.debug("[" + connectionName + "]: Responsetime for Message " + chunk.getMessageId() + " is " + (System.currentTimeMillis() - sendTimestamps.get(chunk.getMessageId())));
+        if (blocking) {
+            readBlocking(netIn);
+        } else if (channel.read(netIn) < 0) {
+            throw new EOFException("Reached the end of the stream.");
+        }
+        netIn.flip();
+        try {
+            while (netIn.hasRemaining()) {
+                SSLEngineResult res = sslEngine.unwrap(netIn, readBuffer);
+                if (res.getStatus() == SSLEngineResult.Status.CLOSED) {
+                    throw new EOFException("SSL engine closed");
+                } else if (res.getStatus() == SSLEngineResult.Status.BUFFER_UNDERFLOW) {
+                    break;
+                } else if (res.getStatus() == SSLEngineResult.Status.BUFFER_OVERFLOW) {
+                    processChunks();
+                    continue;
+                }
+                if (res.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.NEED_TASK) {
+                    runDelegatedTasks();
+                }
+                // the handshake needs to send data, or has finished and the outbound data can be written
+                if (sslEngine.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.NEED_WRAP
+                        || res.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.FINISHED) {
+                    lock.lock();
+                    try {
+                        if (!flush()) {
+                            requestWrite();
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+            }
+        } finally {
+            netIn.compact();
         }
+        processChunks();
+    }
 
-        return chunk;
+    private void readBlocking(final ByteBuffer dst) throws IOException {
+        final int read = blockingInput.read(dst.array(), dst.arrayOffset() + dst.position(), dst.remaining());
+        if (read < 0) {
+            throw new EOFException("Reached the end of the stream.");
+        }
+        dst.position(dst.position() + read);
     }
 
-    private ByteBuffer readBytes(final int len) throws IOException {
-        final byte[] buf = new byte[len];
-        readBytesIntoBuffer(buf, 0, len);
-        return ByteBuffer.wrap(buf).order(ByteOrder.LITTLE_ENDIAN);
+    /**
+     * Consumes the data in {@link #readBuffer}, storing the chunk contents as they arrive.
+     */
+    private void processChunks() {
+        readBuffer.flip();
+        try {
+            while (true) {
+                if (chunk == null && !readChunkHead()) {
+                    return;
+                }
+                final int n = Math.min(chunkRemaining, readBuffer.remaining());
+                if (chunkBuffer != null) {
+                    final ByteBuffer src = readBuffer.duplicate();
+                    src.limit(src.position() + n);
+                    chunkBuffer.put(src);
+                }
+                readBuffer.position(readBuffer.position() + n);
+                chunkRemaining -= n;
+                if (chunkRemaining > 0) {
+                    return;
+                }
+                if (chunkBuffer != null) {
+                    chunkStore.checkCompleteness(chunk.getMessageId());
+                }
+                chunk = null;
+                chunkBuffer = null;
+                if (expired && messageStore.isEmpty()) {
+                    close();
+                    return;
+                }
+            }
+        } finally {
+            readBuffer.compact();
+        }
     }
 
-    protected void readBytesIntoBuffer(final byte[] buf, final int off, final int len) throws IOException {
-        for (int readed = 0; readed < len; ) {
-            final int read = inputStream.read(buf, off + readed, len - readed);
-            if (read == -1) {
-                throw new IOException("Reached the end of the stream.");
-            } else {
-                readed += read;
+    /**
+     * @return whether a complete chunk head was available
+     */
+    private boolean readChunkHead() {
+        if (readBuffer.remaining() < ArangoDefaults.CHUNK_MIN_HEADER_SIZE) {
+            return false;
+        }
+        final int chunkX = readBuffer.getInt(readBuffer.position() + ArangoDefaults.INTEGER_BYTES);
+        final boolean withMessageLength = (1 == (chunkX & 0x1)) && ((chunkX >> 1) > 1);
+        final int headLength = withMessageLength ? ArangoDefaults.CHUNK_MAX_HEADER_SIZE
+                : ArangoDefaults.CHUNK_MIN_HEADER_SIZE;
+        if (readBuffer.remaining() < headLength) {
+            return false;
+        }
+        final int length = readBuffer.getInt();
+        readBuffer.getInt();
+        final long messageId = readBuffer.getLong();
+        final long messageLength = withMessageLength ? readBuffer.getLong() : -1L;
+        chunk = new Chunk(messageId, chunkX, messageLength, 0, length - headLength);
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(String.format("[%s]: Received chunk %s:%s from message %s", connectionName, chunk.getChunk()
+                    , chunk.isFirstChunk() ? 1 : 0, chunk.getMessageId()));
+            Long sent = sendTimestamps.remove(chunk.getMessageId());
+            if (sent != null) {
+                LOGGER.debug("[" + connectionName + "]: Responsetime for Message " + chunk.getMessageId() + " is " + (System.currentTimeMillis() - sent));
             }
         }
+
+        // null if the chunk cannot be matched with a message, then its content is skipped
+        chunkBuffer = chunkStore.storeChunk(chunk);
+        chunkRemaining = chunk.getContentLength();
+        return true;
     }
 
     @Override
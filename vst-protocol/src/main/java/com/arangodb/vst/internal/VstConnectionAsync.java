@@ -20,6 +20,7 @@
 
 package com.arangodb.vst.internal;
 
+import com.arangodb.ArangoDBException;
 import com.arangodb.PackageVersion;
 import com.arangodb.config.HostDescription;
 import com.arangodb.internal.InternalRequest;
@@ -33,10 +34,12 @@ import com.arangodb.vst.internal.utils.CompletableFutureUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -52,14 +55,15 @@ public class VstConnectionAsync extends VstConnection<CompletableFuture<Message>
     private final InternalSerde serde;
 
 
-    public VstConnectionAsync(final ArangoConfig config, final HostDescription host, final ConnectionPool pool) {
-        super(config, host, pool);
+    public VstConnectionAsync(final ArangoConfig config, final HostDescription host, final ConnectionPool pool,
+                              final VstEventLoopGroup group) {
+        super(config, host, pool, group);
         chunkSize = config.getChunkSize();
         serde = config.getInternalSerde();
     }
 
     @Override
-    public synchronized CompletableFuture<Message> write(final Message message, final Collection<Chunk> chunks) {
+    public CompletableFuture<Message> write(final Message message, final Collection<Chunk> chunks) {
         final CompletableFuture<Message> future = new CompletableFuture<>();
         final FutureTask<Message> task = new FutureTask<>(() -> {
             try {
@@ -69,8 +73,13 @@ public class VstConnectionAsync extends VstConnection<CompletableFuture<Message>
             }
             return null;
         });
-        messageStore.storeMessage(message.getId(), task);
-        super.writeIntern(message, chunks);
+        lock.lock();
+        try {
+            messageStore.storeMessage(message.getId(), task);
+            super.writeIntern(message, chunks);
+        } finally {
+            lock.unlock();
+        }
         if (timeout == null || timeout == 0L) {
             return future;
         } else {
@@ -79,8 +88,29 @@ public class VstConnectionAsync extends VstConnection<CompletableFuture<Message>
     }
 
     @Override
-    protected void doKeepAlive() {
-        sendKeepAlive().join();
+    protected CompletableFuture<?> doKeepAlive() {
+        return sendKeepAlive();
+    }
+
+    /**
+     * Opens the connection, if not already open, sending the given request and waiting for its response before
+     * sending any keep-alive request.
+     *
+     * @return the response to the given request, or {@code null} if the connection was already open
+     */
+    public InternalResponse open(final InternalRequest request) throws IOException {
+        CompletableFuture<InternalResponse> response = open(() -> executeAsync(request));
+        if (response == null) {
+            return null;
+        }
+        try {
+            return response.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ArangoDBException.of(e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
     }
 
     @Override
@@ -0,0 +1,181 @@
+package com.arangodb.vst.internal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Event loops shared by the VST connections of a driver instance. Each event loop runs a {@link Selector} on its own
+ * thread and serves the reads and the pending writes of the connections assigned to it. Keep-alive and ttl tasks of
+ * all the connections run on a single shared timer thread.
+ * <p>
+ * Threads are started when the first connection is opened and stopped when the last open connection is closed.
+ */
+public final class VstEventLoopGroup {
+    private static final Logger LOGGER = LoggerFactory.getLogger(VstEventLoopGroup.class);
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private final int size;
+    private EventLoop[] loops;
+    private ScheduledExecutorService timer;
+    private int users;
+    private int next;
+
+    public VstEventLoopGroup() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    VstEventLoopGroup(final int size) {
+        this.size = size;
+    }
+
+    /**
+     * Starts the event loops if needed, and assigns one of them in round-robin order. Every invocation must be
+     * followed by an invocation of {@link #release()}.
+     */
+    synchronized EventLoop acquire() throws IOException {
+        if (users == 0) {
+            LOGGER.debug("Starting {} VST event loops", size);
+            ScheduledExecutorService t = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = Executors.defaultThreadFactory().newThread(r);
+                thread.setDaemon(true);
+                thread.setName("adb-vst-timer-" + THREAD_COUNT.getAndIncrement());
+                return thread;
+            });
+            EventLoop[] l = new EventLoop[size];
+            try {
+                for (int i = 0; i < size; i++) {
+                    l[i] = new EventLoop(t);
+                }
+            } catch (IOException e) {
+                for (EventLoop loop : l) {
+                    if (loop != null) {
+                        loop.stop();
+                    }
+                }
+                t.shutdownNow();
+                throw e;
+            }
+            timer = t;
+            loops = l;
+        }
+        users++;
+        next = (next + 1) % size;
+        return loops[next];
+    }
+
+    synchronized void release() {
+        if (--users == 0) {
+            LOGGER.debug("Stopping VST event loops");
+            for (EventLoop loop : loops) {
+                loop.stop();
+            }
+            timer.shutdownNow();
+            loops = null;
+            timer = null;
+        }
+    }
+
+    static final class EventLoop implements Runnable {
+        private final Selector selector;
+        private final Thread thread;
+        private final ScheduledExecutorService timer;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private volatile boolean running = true;
+
+        private EventLoop(final ScheduledExecutorService timer) throws IOException {
+            this.timer = timer;
+            selector = Selector.open();
+            thread = new Thread(this, "adb-vst-" + THREAD_COUNT.getAndIncrement());
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        ScheduledExecutorService timer() {
+            return timer;
+        }
+
+        /**
+         * Runs the given task on the event loop thread.
+         */
+        void execute(final Runnable task) {
+            tasks.add(task);
+            if (Thread.currentThread() != thread) {
+                selector.wakeup();
+            }
+        }
+
+        /**
+         * Registers the given channel, which must be in non-blocking mode, for reading.
+         */
+        void register(final SocketChannel channel, final VstConnection<?> connection) {
+            execute(() -> {
+                try {
+                    connection.onRegistered(channel.register(selector, SelectionKey.OP_READ, connection));
+                } catch (ClosedChannelException e) {
+                    connection.onError(channel, e);
+                }
+            });
+        }
+
+        /**
+         * Wakes the event loop up, e.g. so that the selector deregisters the channels closed by other threads.
+         */
+        void wakeup() {
+            selector.wakeup();
+        }
+
+        private void stop() {
+            running = false;
+            selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                try {
+                    selector.select();
+                } catch (IOException e) {
+                    LOGGER.error("Error in VST event loop:", e);
+                }
+                Runnable task;
+                while ((task = tasks.poll()) != null) {
+                    try {
+                        task.run();
+                    } catch (Exception e) {
+                        LOGGER.error("Error in VST event loop task:", e);
+                    }
+                }
+                Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+                while (it.hasNext()) {
+                    SelectionKey key = it.next();
+                    it.remove();
+                    VstConnection<?> connection = (VstConnection<?>) key.attachment();
+                    if (key.isValid() && key.isReadable()) {
+                        connection.onReadable(key);
+                    }
+                    if (key.isValid() && key.isWritable()) {
+                        connection.onWritable(key);
+                    }
+                }
+            }
+            try {
+                selector.close();
+            } catch (IOException e) {
+                LOGGER.debug("Error closing selector:", e);
+            }
+        }
+    }
+
+}